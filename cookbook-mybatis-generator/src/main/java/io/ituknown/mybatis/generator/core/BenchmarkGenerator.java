@@ -0,0 +1,61 @@
+package io.ituknown.mybatis.generator.core;
+
+import io.ituknown.mybatis.generator.domain.ProjectProperties;
+import io.ituknown.mybatis.generator.domain.TableSign;
+import io.ituknown.mybatis.generator.util.AutoUtil;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * JMH 基准测试文件生成
+ *
+ * <p>
+ * 为每张表在 src/test/java 下生成 Service 的基准测试类. 默认不生成, 通过 {@code -Dgenerator.benchmark=true} 开启.
+ * 基准测试按主键读写, 没有单列主键(无主键或联合主键)的表跳过
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 21:10
+ */
+public class BenchmarkGenerator implements Generator {
+
+    private static final String TEST_DIR = "/src/test/java";
+
+    @Override
+    public void fileGenerator(List<TableSign> tableSignList) {
+        if (enabled()) {
+            tableSignList.parallelStream().forEach(this::fileGenerator);
+        }
+    }
+
+    /**
+     * 未开启时不返回模板, 使开启后模板指纹发生变化从而生成所有表
+     */
+    @Override
+    public List<String> templates() {
+        return enabled() ? Collections.singletonList("benchmark.ftl") : Collections.emptyList();
+    }
+
+    private boolean enabled() {
+        return Boolean.getBoolean("generator.benchmark");
+    }
+
+    private void fileGenerator(TableSign tableSign) {
+        if (StringUtils.isBlank(tableSign.getPkPropertyUpperCamel()) || StringUtils.isBlank(tableSign.getPkJavaType())) {
+            System.out.println(tableSign.getTableName() + " 没有单列主键, 跳过生成Benchmark");
+            return;
+        }
+        try {
+            ProjectProperties instance = ProjectProperties.getInstance();
+            String benchmarkPath = instance.getProjectPath() + TEST_DIR
+                    + AutoUtil.packageConvertPath(instance.getProjectPackage() + ".benchmark") + tableSign.getDomainName();
+            File file = new File(benchmarkPath + "ServiceBenchmark.java");
+            AutoUtil.render("benchmark.ftl", tableSign, file);
+            System.out.println(tableSign.getDomainName() + "ServiceBenchmark.java 生成成功");
+        } catch (Exception e) {
+            throw new RuntimeException("生成Benchmark失败", e);
+        }
+    }
+}
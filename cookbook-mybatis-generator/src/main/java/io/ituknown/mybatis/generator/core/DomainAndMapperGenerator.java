@@ -5,16 +5,27 @@ import io.ituknown.mybatis.generator.domain.JdbcProperties;
 import io.ituknown.mybatis.generator.domain.ProjectProperties;
 import io.ituknown.mybatis.generator.domain.TableSign;
 import io.ituknown.mybatis.generator.plugin.MapperPluginAdapter;
+import io.ituknown.mybatis.generator.util.AutoUtil;
+import io.ituknown.mybatis.generator.util.SchemaMetadataReader;
+import org.apache.commons.lang3.StringUtils;
 import org.mybatis.generator.api.MyBatisGenerator;
 import org.mybatis.generator.config.*;
 import org.mybatis.generator.internal.DefaultShellCallback;
 
+import java.io.File;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * 生成实体类和Mapper文件
  *
+ * <p>
+ * 限制: 实体类和 Mapper 仍由 MyBatis Generator 自行读取表结构, 无法复用 {@link SchemaMetadataReader} 读取的共享元数据,
+ * 因此每张表会多一次字段/主键元数据查询. MBG 1.3.5 的 {@link Context#introspectTables} 将结果保存在私有字段中,
+ * 没有注入外部 IntrospectedTable 的扩展点. 共享元数据只用于判断自增主键和生成索引定义,
+ * 字段类型由 {@link SimpleJavaTypeResolverImpl} 统一计算, 两次读取的结果保持一致
+ *
  * @author magicianlib@gmail.com
  * @since 2021/03/30 21:04
  */
@@ -47,6 +58,14 @@ public class DomainAndMapperGenerator implements Generator {
 
         // 开始生成
         start(context);
+
+        // 索引定义, 使用共享的数据表元数据
+        tableSignList.parallelStream().forEach(this::indexesGenerator);
+    }
+
+    @Override
+    public List<String> templates() {
+        return Collections.singletonList("indexes.ftl");
     }
 
 
@@ -145,13 +164,42 @@ public class DomainAndMapperGenerator implements Generator {
             TableConfiguration tableConfiguration = new TableConfiguration(context);
             tableConfiguration.setTableName(tableSign.getTableName());
             tableConfiguration.setDomainObjectName(tableSign.getDomainName());
-            // 主键
-            tableConfiguration.setGeneratedKey(new GeneratedKey(tableSign.getPkColumn(), "Mysql", true, null));
+            // 主键, 使用共享的元数据判断是否为自增主键, 不再由 MBG 单独探测
+            if (isAutoIncrement(tableSign)) {
+                tableConfiguration.setGeneratedKey(new GeneratedKey(tableSign.getPkColumn(), "Mysql", true, null));
+            }
             context.addTableConfiguration(tableConfiguration);
         }
     }
 
 
+    private boolean isAutoIncrement(TableSign tableSign) {
+        if (StringUtils.isBlank(tableSign.getPkColumn())) {
+            return false;
+        }
+        if (tableSign.getMetadata() == null) {
+            return true;
+        }
+        return tableSign.getMetadata().getColumns().stream()
+                .anyMatch(column -> column.isAutoIncrement() && column.getColumnName().equalsIgnoreCase(tableSign.getPkColumn()));
+    }
+
+
+    /**
+     * 生成索引定义类, 运行时由 io.ituknown.mybatis.index.IndexChecker 读取
+     */
+    private void indexesGenerator(TableSign tableSign) {
+        try {
+            ProjectProperties instance = ProjectProperties.getInstance();
+            String indexesPath = instance.getJavaPath() + AutoUtil.packageConvertPath(instance.getPackageDomain()) + tableSign.getDomainName();
+            AutoUtil.render("indexes.ftl", tableSign, new File(indexesPath + "Indexes.java"));
+            System.out.println(tableSign.getDomainName() + "Indexes.java 生成成功");
+        } catch (Exception e) {
+            throw new RuntimeException("生成索引定义失败", e);
+        }
+    }
+
+
     /**
      * 开始生成文件
      */
@@ -2,11 +2,16 @@ package io.ituknown.mybatis.generator.core;
 
 import io.ituknown.mybatis.generator.domain.TableSign;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
  * 文件生成
  *
+ * <p>
+ * 所有 Generator 在同一个 ForkJoinPool 中并行执行, 实现类可以使用 {@code tableSignList.parallelStream()}
+ * 按表并行生成(并行流会在当前 ForkJoinPool 中执行). {@link TableSign} 已提前解析完成, 可以在多线程中只读访问
+ *
  * @author magicianlib@gmail.com
  * @since 2021/03/30 20:49
  */
@@ -18,4 +23,13 @@ public interface Generator {
      * @param tableSignList 数据表签名
      */
     void fileGenerator(List<TableSign> tableSignList);
+
+    /**
+     * 使用的模板名称, 用于增量生成时判断模板是否发生变化
+     *
+     * @return 模板名称, 相对于 classpath 下的 template 目录
+     */
+    default List<String> templates() {
+        return Collections.emptyList();
+    }
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ import io.ituknown.mybatis.generator.domain.TableSign;
 import io.ituknown.mybatis.generator.util.AutoUtil;
 
 import java.io.File;
-import java.io.FileWriter;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -18,31 +18,31 @@ public class ServiceGenerator implements Generator {
 
     @Override
     public void fileGenerator(List<TableSign> tableSignList) {
+        tableSignList.parallelStream().forEach(this::fileGenerator);
+    }
+
+    @Override
+    public List<String> templates() {
+        return Arrays.asList("service.ftl", "service-impl.ftl");
+    }
+
+    private void fileGenerator(TableSign tableSign) {
         try {
-            for (TableSign tableSign : tableSignList) {
-                // 生成 Service.java
-                ProjectProperties instance = ProjectProperties.getInstance();
-                String servicePath = instance.getJavaPath() + AutoUtil.packageConvertPath(instance.getPackageService()) + tableSign.getDomainName();
-                File serviceFile = new File(servicePath + "Service.java");
-                if (!serviceFile.getParentFile().exists()) {
-                    serviceFile.getParentFile().mkdirs();
-                }
-                AutoUtil.ftlConfiguration().getTemplate("service.ftl").process(tableSign, new FileWriter(serviceFile));
-                System.out.println(tableSign.getDomainName() + "Service.java 生成成功");
-
-                // 生成 ServiceImpl.java
-                String serviceImplPath = instance.getJavaPath() + AutoUtil.packageConvertPath(instance.getPackageServiceImpl()) + tableSign.getDomainName();
-                File serviceImplFile = new File(serviceImplPath + "ServiceImpl.java");
-                if (!serviceImplFile.getParentFile().exists()) {
-                    serviceImplFile.getParentFile().mkdirs();
-                }
-
-                AutoUtil.ftlConfiguration().getTemplate("service-impl.ftl").process(tableSign, new FileWriter(serviceImplFile));
-                System.out.println(tableSign.getDomainName() + "ServiceImpl.java 生成成功");
-            }
+            // 生成 Service.java
+            ProjectProperties instance = ProjectProperties.getInstance();
+            String servicePath = instance.getJavaPath() + AutoUtil.packageConvertPath(instance.getPackageService()) + tableSign.getDomainName();
+            File serviceFile = new File(servicePath + "Service.java");
+            AutoUtil.render("service.ftl", tableSign, serviceFile);
+            System.out.println(tableSign.getDomainName() + "Service.java 生成成功");
+
+            // 生成 ServiceImpl.java
+            String serviceImplPath = instance.getJavaPath() + AutoUtil.packageConvertPath(instance.getPackageServiceImpl()) + tableSign.getDomainName();
+            File serviceImplFile = new File(serviceImplPath + "ServiceImpl.java");
+            AutoUtil.render("service-impl.ftl", tableSign, serviceImplFile);
+            System.out.println(tableSign.getDomainName() + "ServiceImpl.java 生成成功");
         } catch (Exception var14) {
             throw new RuntimeException("生成Service失败", var14);
         }
     }
 
-}
\ No newline at end of file
+}
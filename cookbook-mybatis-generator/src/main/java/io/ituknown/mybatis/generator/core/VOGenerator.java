@@ -5,7 +5,7 @@ import io.ituknown.mybatis.generator.domain.TableSign;
 import io.ituknown.mybatis.generator.util.AutoUtil;
 
 import java.io.File;
-import java.io.FileWriter;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -18,20 +18,23 @@ public class VOGenerator implements Generator {
 
     @Override
     public void fileGenerator(List<TableSign> tableSignList) {
-        try {
-            for (TableSign tableSign : tableSignList) {
-                ProjectProperties instance = ProjectProperties.getInstance();
-                String servicePath = instance.getJavaPath() + AutoUtil.packageConvertPath(instance.getPackageVO()) + tableSign.getDomainName();
-                File file = new File(servicePath + "VO.java");
-                if (!file.getParentFile().exists()) {
-                    file.getParentFile().mkdirs();
-                }
+        tableSignList.parallelStream().forEach(this::fileGenerator);
+    }
+
+    @Override
+    public List<String> templates() {
+        return Arrays.asList("vo.ftl");
+    }
 
-                AutoUtil.ftlConfiguration().getTemplate("vo.ftl").process(tableSign, new FileWriter(file));
-                System.out.println(tableSign.getDomainName() + "VO.java 生成成功");
-            }
+    private void fileGenerator(TableSign tableSign) {
+        try {
+            ProjectProperties instance = ProjectProperties.getInstance();
+            String servicePath = instance.getJavaPath() + AutoUtil.packageConvertPath(instance.getPackageVO()) + tableSign.getDomainName();
+            File file = new File(servicePath + "VO.java");
+            AutoUtil.render("vo.ftl", tableSign, file);
+            System.out.println(tableSign.getDomainName() + "VO.java 生成成功");
         } catch (Exception var12) {
             throw new RuntimeException("生成VO失败", var12);
         }
     }
-}
\ No newline at end of file
+}
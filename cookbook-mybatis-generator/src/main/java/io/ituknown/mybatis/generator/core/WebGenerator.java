@@ -5,7 +5,7 @@ import io.ituknown.mybatis.generator.domain.TableSign;
 import io.ituknown.mybatis.generator.util.AutoUtil;
 
 import java.io.File;
-import java.io.FileWriter;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -18,21 +18,23 @@ public class WebGenerator implements Generator {
 
     @Override
     public void fileGenerator(List<TableSign> tableSignList) {
-        try {
-            for (TableSign tableSign : tableSignList) {
-                ProjectProperties instance = ProjectProperties.getInstance();
-                String servicePath = instance.getJavaPath() + AutoUtil.packageConvertPath(instance.getPackageWeb()) + tableSign.getDomainName();
-                File file = new File(servicePath + "Controller.java");
-                if (!file.getParentFile().exists()) {
-                    file.getParentFile().mkdirs();
-                }
+        tableSignList.parallelStream().forEach(this::fileGenerator);
+    }
 
-                AutoUtil.ftlConfiguration().getTemplate("web.ftl").process(tableSign, new FileWriter(file));
-                System.out.println(tableSign.getDomainName() + "Controller.java 生成成功");
+    @Override
+    public List<String> templates() {
+        return Arrays.asList("web.ftl");
+    }
 
-            }
+    private void fileGenerator(TableSign tableSign) {
+        try {
+            ProjectProperties instance = ProjectProperties.getInstance();
+            String servicePath = instance.getJavaPath() + AutoUtil.packageConvertPath(instance.getPackageWeb()) + tableSign.getDomainName();
+            File file = new File(servicePath + "Controller.java");
+            AutoUtil.render("web.ftl", tableSign, file);
+            System.out.println(tableSign.getDomainName() + "Controller.java 生成成功");
         } catch (Exception e) {
             throw new RuntimeException("生成Controller失败", e);
         }
     }
-}
\ No newline at end of file
+}
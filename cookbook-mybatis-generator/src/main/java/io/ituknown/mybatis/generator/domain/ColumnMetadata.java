@@ -0,0 +1,53 @@
+package io.ituknown.mybatis.generator.domain;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+
+/**
+ * 数据表字段元数据
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 20:10
+ */
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor
+public class ColumnMetadata {
+
+    @ApiModelProperty("字段名")
+    private String columnName;
+
+    @ApiModelProperty("JDBC 类型, 见 java.sql.Types")
+    private int jdbcType;
+
+    @ApiModelProperty("数据库类型名称")
+    private String typeName;
+
+    @ApiModelProperty("字段长度")
+    private int columnSize;
+
+    @ApiModelProperty("小数位数")
+    private int decimalDigits;
+
+    @ApiModelProperty("是否允许为空")
+    private boolean nullable;
+
+    @ApiModelProperty("是否自增")
+    private boolean autoIncrement;
+
+    @ApiModelProperty("字段说明信息")
+    private String remarks;
+
+    /*===========================扩展信息, 读取元数据时计算===========================*/
+
+    @ApiModelProperty("实体属性名(小驼峰)")
+    private String propertyName;
+
+    @ApiModelProperty("实体属性名(大驼峰)")
+    private String propertyUpperCamel;
+
+    @ApiModelProperty("映射Java类型, java.lang 以外的类型为全限定名")
+    private String javaType;
+}
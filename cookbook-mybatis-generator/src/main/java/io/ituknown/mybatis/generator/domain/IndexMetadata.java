@@ -0,0 +1,57 @@
+package io.ituknown.mybatis.generator.domain;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 数据表索引元数据
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 21:40
+ */
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor
+public class IndexMetadata {
+
+    /**
+     * MySQL 主键索引名称
+     */
+    public static final String PRIMARY = "PRIMARY";
+
+    @ApiModelProperty("索引名称")
+    private String indexName;
+
+    @ApiModelProperty("是否唯一索引")
+    private boolean unique;
+
+    @ApiModelProperty("索引字段, 按索引顺序排列")
+    private List<ColumnMetadata> columns = new ArrayList<>();
+
+    /**
+     * 是否主键索引
+     */
+    public boolean isPrimary() {
+        return PRIMARY.equalsIgnoreCase(indexName);
+    }
+
+    /**
+     * 方法名后缀, 如索引 (user_id, status) 得到 UserIdAndStatus
+     */
+    public String getMethodSuffix() {
+        return columns.stream().map(ColumnMetadata::getPropertyUpperCamel).collect(Collectors.joining("And"));
+    }
+
+    /**
+     * 索引字段名, 逗号分隔
+     */
+    public String getColumnNames() {
+        return columns.stream().map(ColumnMetadata::getColumnName).collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,70 @@
+package io.ituknown.mybatis.generator.domain;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 数据表元数据
+ *
+ * <p>
+ * 通过 JDBC {@link java.sql.DatabaseMetaData} 一次性读取, 供各个 Generator 共享
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 20:10
+ * @see io.ituknown.mybatis.generator.util.SchemaMetadataReader
+ */
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor
+public class TableMetadata {
+
+    @ApiModelProperty("数据库表名")
+    private String tableName;
+
+    @ApiModelProperty("数据库表说明信息")
+    private String remarks;
+
+    @ApiModelProperty("字段, 按字段顺序排列")
+    private List<ColumnMetadata> columns = new ArrayList<>();
+
+    @ApiModelProperty("主键字段, 按主键顺序排列")
+    private List<String> primaryKeys = new ArrayList<>();
+
+    @ApiModelProperty("索引, 包含主键索引")
+    private List<IndexMetadata> indexes = new ArrayList<>();
+
+    /**
+     * 生成查询方法的索引: 排除主键索引, 字段相同的索引只保留一个(优先唯一索引)
+     *
+     * @return 索引
+     */
+    public List<IndexMetadata> getFinderIndexes() {
+        Map<String, IndexMetadata> finders = new LinkedHashMap<>();
+        for (IndexMetadata index : indexes) {
+            if (index.isPrimary()) {
+                continue;
+            }
+            finders.merge(index.getColumnNames(), index, (previous, current) -> previous.isUnique() ? previous : current);
+        }
+        return new ArrayList<>(finders.values());
+    }
+
+    /**
+     * 可以按单个字段做 keyset 分页的唯一索引(非主键)
+     *
+     * @return 索引
+     */
+    public List<IndexMetadata> getKeysetIndexes() {
+        return getFinderIndexes().stream()
+                .filter(index -> index.isUnique() && index.getColumns().size() == 1)
+                .collect(Collectors.toList());
+    }
+}
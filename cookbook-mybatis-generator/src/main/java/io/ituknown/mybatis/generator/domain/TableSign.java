@@ -56,6 +56,40 @@ public class TableSign {
     @ApiModelProperty("基础包")
     private String basePackage;
 
+    @ApiModelProperty("主键属性大驼峰")
+    private String pkPropertyUpperCamel;
+
+    @ApiModelProperty("数据表元数据")
+    private TableMetadata metadata;
+
+    /**
+     * 提前计算所有扩展信息, 并使用数据表元数据补全未设置的主键和说明信息.
+     * 之后在多个 Generator 中并行读取时不再有延迟赋值
+     */
+    public void resolve() {
+        if (metadata != null) {
+            if (StringUtils.isBlank(pkColumn) && metadata.getPrimaryKeys().size() == 1) {
+                pkColumn = metadata.getPrimaryKeys().get(0);
+            }
+            if (StringUtils.isBlank(pkJavaType) && StringUtils.isNotBlank(pkColumn)) {
+                metadata.getColumns().stream()
+                        .filter(column -> column.getColumnName().equalsIgnoreCase(pkColumn))
+                        .findFirst()
+                        .ifPresent(column -> pkJavaType = column.getJavaType());
+            }
+            if (StringUtils.isBlank(description)) {
+                description = metadata.getRemarks();
+            }
+        }
+        getDomainName();
+        getAuthor();
+        getDate();
+        getDomainNameUpperCamel();
+        getDomainNameLowerCamel();
+        getBasePackage();
+        getPkPropertyUpperCamel();
+    }
+
     public String getDomainName() {
         if (StringUtils.isEmpty(domainName)) {
             String stripPrefix = ProjectProperties.getInstance().getStripPrefix();
@@ -85,18 +119,25 @@ public class TableSign {
 
     public String getDomainNameUpperCamel() {
         if (StringUtils.isBlank(domainNameUpperCamel)) {
-            domainNameUpperCamel = domainName;
+            domainNameUpperCamel = getDomainName();
         }
         return domainNameUpperCamel;
     }
 
     public String getDomainNameLowerCamel() {
         if (StringUtils.isBlank(domainNameLowerCamel)) {
-            domainNameLowerCamel = CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_CAMEL, domainNameUpperCamel);
+            domainNameLowerCamel = CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_CAMEL, getDomainNameUpperCamel());
         }
         return domainNameLowerCamel;
     }
 
+    public String getPkPropertyUpperCamel() {
+        if (StringUtils.isBlank(pkPropertyUpperCamel) && StringUtils.isNotBlank(pkColumn)) {
+            pkPropertyUpperCamel = AutoUtil.tableNameConvertUpperCamel(pkColumn);
+        }
+        return pkPropertyUpperCamel;
+    }
+
     public String getBasePackage() {
         if (StringUtils.isBlank(basePackage)) {
             basePackage = ProjectProperties.getInstance().getProjectPackage();
@@ -1,8 +1,16 @@
 package io.ituknown.mybatis.generator.util;
 
 import com.google.common.base.CaseFormat;
+import freemarker.cache.MruCacheStorage;
+import freemarker.template.TemplateException;
 import freemarker.template.TemplateExceptionHandler;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
 /**
  * 工具类
  *
@@ -31,12 +39,42 @@ public class AutoUtil {
 
     /**
      * freemarker 配置
+     *
+     * <p>
+     * 全局共享同一个配置, 模板只解析一次并缓存。模板位于 classpath 中, 生成期间不会变化, 因此不再检查模板更新
      */
     public static freemarker.template.Configuration ftlConfiguration() {
-        freemarker.template.Configuration cfg = new freemarker.template.Configuration(freemarker.template.Configuration.VERSION_2_3_28);
-        cfg.setClassLoaderForTemplateLoading(AutoUtil.class.getClassLoader(), "template/");
-        cfg.setDefaultEncoding("UTF-8");
-        cfg.setTemplateExceptionHandler(TemplateExceptionHandler.IGNORE_HANDLER);
-        return cfg;
+        return FtlConfigurationHolder.CONFIGURATION;
+    }
+
+    /**
+     * 渲染模板并写入文件, 父目录不存在时自动创建
+     *
+     * @param templateName 模板名称
+     * @param model        数据模型
+     * @param file         目标文件
+     */
+    public static void render(String templateName, Object model, File file) throws IOException, TemplateException {
+        if (!file.getParentFile().exists()) {
+            file.getParentFile().mkdirs();
+        }
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            ftlConfiguration().getTemplate(templateName).process(model, writer);
+        }
+    }
+
+    private static class FtlConfigurationHolder {
+
+        private static final freemarker.template.Configuration CONFIGURATION = newFtlConfiguration();
+
+        private static freemarker.template.Configuration newFtlConfiguration() {
+            freemarker.template.Configuration cfg = new freemarker.template.Configuration(freemarker.template.Configuration.VERSION_2_3_28);
+            cfg.setClassLoaderForTemplateLoading(AutoUtil.class.getClassLoader(), "template/");
+            cfg.setDefaultEncoding("UTF-8");
+            cfg.setTemplateExceptionHandler(TemplateExceptionHandler.IGNORE_HANDLER);
+            cfg.setCacheStorage(new MruCacheStorage(32, 64));
+            cfg.setTemplateUpdateDelayMilliseconds(Long.MAX_VALUE);
+            return cfg;
+        }
     }
 }
\ No newline at end of file
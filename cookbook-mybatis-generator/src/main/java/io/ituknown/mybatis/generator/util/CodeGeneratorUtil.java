@@ -8,8 +8,14 @@ import io.ituknown.mybatis.generator.domain.TableSign;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 数据表 Mapper、Model、VO、Mapper.xml 文件生成工具类
@@ -118,12 +124,57 @@ public class CodeGeneratorUtil {
             tableSignList.add(tableSign);
         }
 
+        // 元数据只读取一次, 所有 Generator 共享
+        long start = System.nanoTime();
+        SchemaMetadataReader.read(tableSignList);
+        tableSignList.forEach(TableSign::resolve);
+        System.out.printf("读取 %d 张表元数据耗时 %d ms%n", tableSignList.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
         doGenerator(tableSignList);
     }
 
 
+    /**
+     * 在独立的 ForkJoinPool 中并行执行所有 Generator, Generator 内部的并行流同样在该线程池中执行
+     */
     private static void doGenerator(List<TableSign> tableSignList) {
-        ServiceLoader<Generator> serviceLoader = ServiceLoader.load(Generator.class, CodeGeneratorUtil.class.getClassLoader());
-        serviceLoader.forEach(o -> o.fileGenerator(tableSignList));
+        List<Generator> generators = new ArrayList<>();
+        ServiceLoader.load(Generator.class, CodeGeneratorUtil.class.getClassLoader()).forEach(generators::add);
+
+        // 增量生成: 只处理结构或模板发生变化的表, -Dgenerator.full=true 时全部重新生成
+        GeneratorManifest manifest = new GeneratorManifest(ProjectProperties.getInstance().getProjectPath());
+        boolean full = Boolean.getBoolean("generator.full");
+        Map<Generator, List<TableSign>> plan = new LinkedHashMap<>();
+        for (Generator generator : generators) {
+            List<TableSign> changed = manifest.changed(generator, tableSignList);
+            plan.put(generator, full ? tableSignList : changed);
+        }
+
+        Map<String, Long> elapsed = new ConcurrentHashMap<>();
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        try {
+            pool.submit(() -> generators.parallelStream().filter(o -> !plan.get(o).isEmpty()).forEach(o -> {
+                long begin = System.nanoTime();
+                o.fileGenerator(plan.get(o));
+                elapsed.put(o.getClass().getSimpleName(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
+            })).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("生成文件被中断", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("生成文件失败", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+        manifest.save(tableSignList);
+
+        System.out.println();
+        System.out.println("============================ 生成耗时 ============================");
+        generators.forEach(o -> {
+            String name = o.getClass().getSimpleName();
+            System.out.printf("%-28s %4d 张表 %8d ms%n", name, plan.get(o).size(), elapsed.getOrDefault(name, 0L));
+        });
+        System.out.printf("%-28s %4d 张表 %8d ms%n", "Total", tableSignList.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
     }
 }
\ No newline at end of file
@@ -0,0 +1,160 @@
+package io.ituknown.mybatis.generator.util;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Resources;
+import io.ituknown.mybatis.generator.core.Generator;
+import io.ituknown.mybatis.generator.domain.ColumnMetadata;
+import io.ituknown.mybatis.generator.domain.IndexMetadata;
+import io.ituknown.mybatis.generator.domain.TableMetadata;
+import io.ituknown.mybatis.generator.domain.TableSign;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.*;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+/**
+ * 增量生成清单
+ *
+ * <p>
+ * 清单保存在项目根目录的 {@value #MANIFEST_FILE} 中, 记录每张表结构的指纹以及每个 Generator 所用模板的指纹.
+ * 再次生成时只处理结构发生变化的表; Generator 的模板发生变化时, 该 Generator 重新生成所有表.
+ * 手动删除生成的文件后需要删除清单(或使用 {@code -Dgenerator.full=true})才能重新生成
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 20:40
+ */
+public class GeneratorManifest {
+
+    public static final String MANIFEST_FILE = ".generator-manifest.properties";
+
+    private static final String TABLE_PREFIX = "table.";
+
+    private static final String TEMPLATE_PREFIX = "template.";
+
+    private final File file;
+
+    private final Properties previous = new Properties();
+
+    private final Properties current = new Properties();
+
+    public GeneratorManifest(String projectPath) {
+        this.file = new File(projectPath, MANIFEST_FILE);
+        if (file.exists()) {
+            try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+                previous.load(reader);
+            } catch (IOException e) {
+                throw new UncheckedIOException("读取生成清单失败: " + file, e);
+            }
+            current.putAll(previous);
+        }
+    }
+
+    /**
+     * 计算 Generator 需要处理的表
+     *
+     * @param generator     Generator
+     * @param tableSignList 所有数据表
+     * @return 模板变化时返回所有表, 否则返回结构发生变化的表
+     */
+    public List<TableSign> changed(Generator generator, List<TableSign> tableSignList) {
+        String templateKey = TEMPLATE_PREFIX + generator.getClass().getName();
+        String templateFingerprint = templateFingerprint(generator);
+        current.setProperty(templateKey, templateFingerprint);
+        if (!templateFingerprint.equals(previous.getProperty(templateKey))) {
+            return tableSignList;
+        }
+        return tableSignList.stream()
+                .filter(tableSign -> !fingerprint(tableSign).equals(previous.getProperty(TABLE_PREFIX + tableSign.getTableName())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 所有 Generator 执行成功后保存清单
+     *
+     * @param tableSignList 所有数据表
+     */
+    public synchronized void save(List<TableSign> tableSignList) {
+        for (TableSign tableSign : tableSignList) {
+            current.setProperty(TABLE_PREFIX + tableSign.getTableName(), fingerprint(tableSign));
+        }
+        File temp = new File(file.getPath() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp.toPath(), StandardCharsets.UTF_8)) {
+            current.store(writer, "mybatis generator manifest");
+        } catch (IOException e) {
+            throw new UncheckedIOException("保存生成清单失败: " + file, e);
+        }
+        try {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("保存生成清单失败: " + file, e);
+        }
+    }
+
+    /**
+     * 数据表指纹: 影响生成结果的表签名信息以及字段、类型、主键、索引和说明信息. 不包含作者与日期
+     */
+    static String fingerprint(TableSign tableSign) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        putString(hasher, tableSign.getTableName());
+        putString(hasher, tableSign.getDomainName());
+        putString(hasher, tableSign.getDescription());
+        putString(hasher, tableSign.getPkColumn());
+        putString(hasher, tableSign.getPkJavaType());
+        putString(hasher, tableSign.getBasePackage());
+        TableMetadata metadata = tableSign.getMetadata();
+        if (Objects.nonNull(metadata)) {
+            putString(hasher, metadata.getRemarks());
+            for (ColumnMetadata column : metadata.getColumns()) {
+                putString(hasher, column.getColumnName());
+                hasher.putInt(column.getJdbcType());
+                putString(hasher, column.getTypeName());
+                hasher.putInt(column.getColumnSize());
+                hasher.putInt(column.getDecimalDigits());
+                hasher.putBoolean(column.isNullable());
+                hasher.putBoolean(column.isAutoIncrement());
+                putString(hasher, column.getRemarks());
+            }
+            metadata.getPrimaryKeys().forEach(pk -> putString(hasher, pk));
+            for (IndexMetadata index : metadata.getIndexes()) {
+                putString(hasher, index.getIndexName());
+                hasher.putBoolean(index.isUnique());
+                putString(hasher, index.getColumnNames());
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * 模板指纹: Generator 类名以及其所用模板的内容
+     */
+    private static String templateFingerprint(Generator generator) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        putString(hasher, generator.getClass().getName());
+        for (String template : generator.templates()) {
+            URL resource = GeneratorManifest.class.getClassLoader().getResource("template/" + template);
+            if (Objects.isNull(resource)) {
+                throw new IllegalStateException("模板不存在: " + template);
+            }
+            try {
+                hasher.putBytes(Resources.toByteArray(resource));
+            } catch (IOException e) {
+                throw new UncheckedIOException("读取模板失败: " + template, e);
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    private static void putString(Hasher hasher, String value) {
+        // 写入长度作为分隔, 避免相邻字段拼接后产生相同的指纹
+        String text = StringUtils.defaultString(value);
+        hasher.putInt(text.length()).putString(text, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,143 @@
+package io.ituknown.mybatis.generator.util;
+
+import com.google.common.base.CaseFormat;
+import io.ituknown.mybatis.generator.config.SimpleJavaTypeResolverImpl;
+import io.ituknown.mybatis.generator.domain.ColumnMetadata;
+import io.ituknown.mybatis.generator.domain.IndexMetadata;
+import io.ituknown.mybatis.generator.domain.JdbcProperties;
+import io.ituknown.mybatis.generator.domain.TableMetadata;
+import io.ituknown.mybatis.generator.domain.TableSign;
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.JavaTypeResolver;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+
+import java.sql.*;
+import java.util.*;
+
+/**
+ * 数据表元数据读取
+ *
+ * <p>
+ * 使用同一个 JDBC 连接读取所有数据表的字段、主键、索引以及说明信息. 实体类和 Mapper 由 MyBatis Generator 生成,
+ * MBG 仍会单独读取一次表结构, 见 {@link io.ituknown.mybatis.generator.core.DomainAndMapperGenerator}
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 20:10
+ */
+public class SchemaMetadataReader {
+
+    /**
+     * 类型映射表在构造时初始化, 之后只读
+     */
+    private static final JavaTypeResolver JAVA_TYPE_RESOLVER = new SimpleJavaTypeResolverImpl();
+
+    static {
+        JAVA_TYPE_RESOLVER.addConfigurationProperties(new Properties());
+    }
+
+    private SchemaMetadataReader() {
+    }
+
+    /**
+     * 读取数据表元数据并设置到 {@link TableSign#setMetadata(TableMetadata)}
+     *
+     * @param tableSignList 数据表签名
+     */
+    public static void read(List<TableSign> tableSignList) {
+        JdbcProperties jdbc = JdbcProperties.getInstance();
+        try (Connection connection = DriverManager.getConnection(jdbc.getJdbcUrl(), jdbc.getJdbcUser(), jdbc.getJdbcPwd())) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String catalog = connection.getCatalog();
+            for (TableSign tableSign : tableSignList) {
+                tableSign.setMetadata(read(metaData, catalog, tableSign.getTableName()));
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("读取数据表元数据失败", e);
+        }
+    }
+
+    private static TableMetadata read(DatabaseMetaData metaData, String catalog, String tableName) throws SQLException {
+        TableMetadata table = new TableMetadata();
+        table.setTableName(tableName);
+
+        try (ResultSet rs = metaData.getTables(catalog, null, tableName, new String[]{"TABLE"})) {
+            if (!rs.next()) {
+                throw new IllegalArgumentException("数据表不存在: " + tableName);
+            }
+            table.setRemarks(rs.getString("REMARKS"));
+        }
+
+        try (ResultSet rs = metaData.getColumns(catalog, null, tableName, null)) {
+            while (rs.next()) {
+                ColumnMetadata column = new ColumnMetadata();
+                column.setColumnName(rs.getString("COLUMN_NAME"));
+                column.setJdbcType(rs.getInt("DATA_TYPE"));
+                column.setTypeName(rs.getString("TYPE_NAME"));
+                column.setColumnSize(rs.getInt("COLUMN_SIZE"));
+                column.setDecimalDigits(rs.getInt("DECIMAL_DIGITS"));
+                column.setNullable(rs.getInt("NULLABLE") == DatabaseMetaData.columnNullable);
+                column.setAutoIncrement("YES".equalsIgnoreCase(rs.getString("IS_AUTOINCREMENT")));
+                column.setRemarks(rs.getString("REMARKS"));
+                column.setPropertyUpperCamel(AutoUtil.tableNameConvertUpperCamel(column.getColumnName()));
+                column.setPropertyName(CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_CAMEL, column.getPropertyUpperCamel()));
+                column.setJavaType(javaType(column));
+                table.getColumns().add(column);
+            }
+        }
+
+        Map<Short, String> primaryKeys = new TreeMap<>();
+        try (ResultSet rs = metaData.getPrimaryKeys(catalog, null, tableName)) {
+            while (rs.next()) {
+                primaryKeys.put(rs.getShort("KEY_SEQ"), rs.getString("COLUMN_NAME"));
+            }
+        }
+        table.getPrimaryKeys().addAll(primaryKeys.values());
+
+        Map<String, ColumnMetadata> columns = new HashMap<>();
+        table.getColumns().forEach(column -> columns.put(column.getColumnName().toLowerCase(), column));
+        Map<String, IndexMetadata> indexes = new LinkedHashMap<>();
+        Map<String, Map<Short, ColumnMetadata>> indexColumns = new HashMap<>();
+        try (ResultSet rs = metaData.getIndexInfo(catalog, null, tableName, false, false)) {
+            while (rs.next()) {
+                String indexName = rs.getString("INDEX_NAME");
+                String columnName = rs.getString("COLUMN_NAME");
+                if (rs.getShort("TYPE") == DatabaseMetaData.tableIndexStatistic || indexName == null || columnName == null) {
+                    continue;
+                }
+                IndexMetadata index = indexes.computeIfAbsent(indexName, name -> new IndexMetadata());
+                index.setIndexName(indexName);
+                index.setUnique(!rs.getBoolean("NON_UNIQUE"));
+                indexColumns.computeIfAbsent(indexName, name -> new TreeMap<>())
+                        .put(rs.getShort("ORDINAL_POSITION"), columns.get(columnName.toLowerCase()));
+            }
+        }
+        indexes.forEach((name, index) -> {
+            // 函数索引等无法对应到字段时不生成查询方法
+            if (!indexColumns.get(name).containsValue(null)) {
+                index.getColumns().addAll(indexColumns.get(name).values());
+                table.getIndexes().add(index);
+            }
+        });
+        return table;
+    }
+
+    /**
+     * JDBC 类型映射 Java 类型, 直接使用 MyBatis Generator 生成实体类时的 {@link SimpleJavaTypeResolverImpl},
+     * 保证 DECIMAL/NUMERIC 按精度映射、BIT 等类型与实体类字段类型一致
+     *
+     * @return java.lang 下的类型及数组返回简单类名, 其余返回全限定类名
+     */
+    private static String javaType(ColumnMetadata column) {
+        IntrospectedColumn introspectedColumn = new IntrospectedColumn();
+        introspectedColumn.setActualColumnName(column.getColumnName());
+        introspectedColumn.setJdbcType(column.getJdbcType());
+        introspectedColumn.setLength(column.getColumnSize());
+        introspectedColumn.setScale(column.getDecimalDigits());
+        FullyQualifiedJavaType type = JAVA_TYPE_RESOLVER.calculateJavaType(introspectedColumn);
+        if (type == null) {
+            // MBG 不支持的类型
+            return Object.class.getSimpleName();
+        }
+        return type.isExplicitlyImported() ? type.getFullyQualifiedName() : type.getShortName();
+    }
+}
@@ -0,0 +1,107 @@
+package ${basePackage}.benchmark;
+
+import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import ${basePackage}.domain.${domainNameUpperCamel};
+import ${basePackage}.service.${domainNameUpperCamel}Service;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ${description} - Service 基准测试
+ *
+ * <p>
+ * 使用内嵌数据库(如 H2 MySQL 模式)启动 Spring 上下文, 覆盖 ${domainNameUpperCamel}Service 的增删改查与分页.
+ * 需要在项目中增加 jmh-core、jmh-generator-annprocess 以及内嵌数据库依赖, 并在 application-benchmark.properties
+ * 中配置数据源和建表脚本. 启动类通过 -Dbenchmark.application 指定, 默认 ${basePackage}.Application
+ *
+ * @author ${author}
+ * @since ${date}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(4)
+@Fork(1)
+public class ${domainNameUpperCamel}ServiceBenchmark {
+
+    /**
+     * 预置数据量
+     */
+    private static final int SEED_SIZE = 10_000;
+
+    private ConfigurableApplicationContext context;
+
+    private ${domainNameUpperCamel}Service ${domainNameLowerCamel}Service;
+
+    private final List<${pkJavaType}> ids = new ArrayList<>(SEED_SIZE);
+
+    @Setup(Level.Trial)
+    public void setup() throws ClassNotFoundException {
+        Class<?> application = Class.forName(System.getProperty("benchmark.application", "${basePackage}.Application"));
+        context = new SpringApplicationBuilder(application).profiles("benchmark").run();
+        ${domainNameLowerCamel}Service = context.getBean(${domainNameUpperCamel}Service.class);
+        for (int i = 0; i < SEED_SIZE; i++) {
+            ${domainNameUpperCamel} entity = newEntity();
+            ${domainNameLowerCamel}Service.insert(entity);
+            ids.add(entity.get${pkPropertyUpperCamel}());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    /**
+     * 构造测试数据, 非空字段需要按照表结构设置
+     */
+    private ${domainNameUpperCamel} newEntity() {
+        return new ${domainNameUpperCamel}();
+    }
+
+    private ${pkJavaType} randomId() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    @Benchmark
+    public ${domainNameUpperCamel} getById() {
+        return ${domainNameLowerCamel}Service.getById(randomId());
+    }
+
+    @Benchmark
+    public IPage<${domainNameUpperCamel}> page() {
+        long pages = SEED_SIZE / 10;
+        return ${domainNameLowerCamel}Service.page(new Page<>(ThreadLocalRandom.current().nextLong(1, pages + 1), 10));
+    }
+
+    @Benchmark
+    public boolean updateById() {
+        ${domainNameUpperCamel} entity = ${domainNameLowerCamel}Service.getById(randomId());
+        return entity != null && ${domainNameLowerCamel}Service.updateById(entity);
+    }
+
+    @Benchmark
+    public boolean insertAndDelete() {
+        ${domainNameUpperCamel} entity = newEntity();
+        ${domainNameLowerCamel}Service.insert(entity);
+        return ${domainNameLowerCamel}Service.deleteById(entity.get${pkPropertyUpperCamel}());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(${domainNameUpperCamel}ServiceBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,32 @@
+package ${basePackage}.domain;
+
+import io.ituknown.mybatis.index.EntityIndexes;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ${description} - 索引定义
+ *
+ * <p>
+ * 由代码生成器根据数据表 ${tableName} 的索引生成, 供 IndexChecker 检查查询是否使用索引. 索引变化后重新生成即可, 请勿手动修改
+ *
+ * @author ${author}
+ * @since ${date}
+ */
+public class ${domainNameUpperCamel}Indexes implements EntityIndexes {
+
+    private static final List<List<String>> INDEXES = Arrays.asList(
+<#if metadata??>
+<#list metadata.indexes as index>
+            // ${index.indexName}${index.unique?then(" (unique)", "")}
+            Arrays.asList(<#list index.columns as column>"${column.columnName}"<#sep>, </#sep></#list>)<#sep>,</#sep>
+</#list>
+</#if>
+    );
+
+    @Override
+    public List<List<String>> indexes() {
+        return INDEXES;
+    }
+}
@@ -4,7 +4,7 @@ import ${basePackage}.mapper.${domainNameUpperCamel}Mapper;
 import ${basePackage}.domain.${domainNameUpperCamel};
 import ${basePackage}.service.${domainNameUpperCamel}Service;
 import ${basePackage}.vo.${domainNameUpperCamel}VO;
-import service.io.ituknown.mybatis.BaseServiceImpl;
+import io.ituknown.mybatis.service.BaseServiceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
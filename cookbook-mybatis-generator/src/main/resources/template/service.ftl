@@ -1,17 +1,90 @@
 package ${basePackage}.service;
 
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import ${basePackage}.domain.${domainNameUpperCamel};
 import ${basePackage}.vo.${domainNameUpperCamel}VO;
-import service.io.ituknown.mybatis.BaseService;
-import java.lang.${pkJavaType};
+import io.ituknown.mybatis.service.BaseService;
+
+import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * ${description} - Service接口类
  *
+ * <p>
+ * 以下查询方法根据数据表索引生成, 优先使用这些方法以保证查询走索引
+ *
  * @author ${author}
  * @since ${date}
  */
 public interface ${domainNameUpperCamel}Service
         extends BaseService<${domainNameUpperCamel}, ${domainNameUpperCamel}VO, ${pkJavaType}> {
+<#if metadata??>
+<#list metadata.finderIndexes as index>
+
+    /**
+     * 按${index.unique?then("唯一", "")}索引 ${index.indexName}(${index.columnNames}) 查询
+     */
+<#if index.unique>
+    default ${domainNameUpperCamel} getBy${index.methodSuffix}(<#list index.columns as column>${column.javaType} ${column.propertyName}<#sep>, </#sep></#list>) {
+        List<${domainNameUpperCamel}> list = query()<#list index.columns as column>.eq(${domainNameUpperCamel}::get${column.propertyUpperCamel}, ${column.propertyName})</#list>.list();
+        return list.isEmpty() ? null : list.get(0);
+    }
+<#else>
+    default List<${domainNameUpperCamel}> listBy${index.methodSuffix}(<#list index.columns as column>${column.javaType} ${column.propertyName}<#sep>, </#sep></#list>) {
+        return query()<#list index.columns as column>.eq(${domainNameUpperCamel}::get${column.propertyUpperCamel}, ${column.propertyName})</#list>.list();
+    }
+</#if>
+</#list>
+<#list metadata.keysetIndexes as index>
+<#assign column = index.columns[0]>
+
+    /**
+     * 按唯一索引 ${index.indexName}(${column.columnName}) 做 keyset 分页, 返回大于 last${column.propertyUpperCamel} 的 limit 条记录
+     *
+     * @param last${column.propertyUpperCamel} 上一页最后一条记录的 ${column.propertyName}, 查询第一页时传 null
+     * @param limit 每页记录数
+     */
+    default List<${domainNameUpperCamel}> listAfter${column.propertyUpperCamel}(${column.javaType} last${column.propertyUpperCamel}, int limit) {
+        return query().gt(last${column.propertyUpperCamel} != null, ${domainNameUpperCamel}::get${column.propertyUpperCamel}, last${column.propertyUpperCamel})
+                .orderByAsc(${domainNameUpperCamel}::get${column.propertyUpperCamel})
+                .page(new Page<>(1, limit, false)).getRecords();
+    }
+</#list>
+</#if>
+<#if pkPropertyUpperCamel??>
+
+    /**
+     * 按主键做 keyset 分页, 返回大于 last${pkPropertyUpperCamel} 的 limit 条记录. 翻页深度不影响性能, 适用于批量处理
+     *
+     * @param last${pkPropertyUpperCamel} 上一页最后一条记录的主键, 查询第一页时传 null
+     * @param limit 每页记录数
+     */
+    default List<${domainNameUpperCamel}> listAfter${pkPropertyUpperCamel}(${pkJavaType} last${pkPropertyUpperCamel}, int limit) {
+        return query().gt(last${pkPropertyUpperCamel} != null, ${domainNameUpperCamel}::get${pkPropertyUpperCamel}, last${pkPropertyUpperCamel})
+                .orderByAsc(${domainNameUpperCamel}::get${pkPropertyUpperCamel})
+                .page(new Page<>(1, limit, false)).getRecords();
+    }
 
-}
\ No newline at end of file
+    /**
+     * 流式导出全表: 按主键分批读取并逐条交给 consumer, 内存中最多保留一批记录
+     *
+     * @param consumer  记录处理
+     * @param batchSize 每批读取的记录数
+     * @return 导出的记录数
+     */
+    default long export(Consumer<? super ${domainNameUpperCamel}> consumer, int batchSize) {
+        long total = 0;
+        ${pkJavaType} last${pkPropertyUpperCamel} = null;
+        while (true) {
+            List<${domainNameUpperCamel}> batch = listAfter${pkPropertyUpperCamel}(last${pkPropertyUpperCamel}, batchSize);
+            batch.forEach(consumer);
+            total += batch.size();
+            if (batch.size() < batchSize) {
+                return total;
+            }
+            last${pkPropertyUpperCamel} = batch.get(batch.size() - 1).get${pkPropertyUpperCamel}();
+        }
+    }
+</#if>
+}
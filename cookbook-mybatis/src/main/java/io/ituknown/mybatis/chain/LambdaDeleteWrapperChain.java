@@ -58,4 +58,16 @@ public class LambdaDeleteWrapperChain<T, V extends T, Pk extends Serializable>
         return baseService.delete(getWrapper());
     }
 
+    /**
+     * 分批删除, 每批最多删除 limit 条记录
+     *
+     * @param limit 单次删除的最大行数
+     * @return 删除成功个数
+     * @see BaseService#deleteWhere(com.baomidou.mybatisplus.core.conditions.Wrapper, int)
+     */
+    @SuppressWarnings("unchecked")
+    public long execute(int limit) {
+        return baseService.deleteWhere(getWrapper(), limit);
+    }
+
 }
\ No newline at end of file
@@ -6,10 +6,14 @@ import com.baomidou.mybatisplus.core.conditions.query.Query;
 import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
 import com.baomidou.mybatisplus.core.toolkit.ExceptionUtils;
+import com.baomidou.mybatisplus.core.toolkit.ReflectionKit;
 import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
 import com.baomidou.mybatisplus.extension.conditions.AbstractChainWrapper;
+import io.ituknown.mybatis.index.IndexChecker;
 import io.ituknown.mybatis.service.BaseService;
+import io.ituknown.mybatis.service.BaseServiceImpl;
 import org.apache.ibatis.logging.Log;
+import org.springframework.util.ClassUtils;
 
 import java.io.Serializable;
 import java.util.List;
@@ -30,12 +34,27 @@ public class LambdaQueryWrapperChain<T, V extends T, Pk extends Serializable>
 
     private final BaseService<T, V, Pk> baseService;
 
+    private final Class<?> entityClass;
+
     public LambdaQueryWrapperChain(BaseService<T, V, Pk> baseService) {
         super();
         this.baseService = baseService;
+        Class<?> serviceClass = ClassUtils.getUserClass(baseService);
+        this.entityClass = BaseServiceImpl.class.isAssignableFrom(serviceClass)
+                ? ReflectionKit.getSuperClassGenericType(serviceClass, 0) : null;
         super.wrapperChildren = new LambdaQueryWrapper<>();
     }
 
+    /**
+     * 执行查询前检查条件和排序字段是否有索引支持
+     *
+     * @see IndexChecker
+     */
+    private LambdaQueryWrapper<T> checkedWrapper() {
+        IndexChecker.check(entityClass, wrapperChildren);
+        return wrapperChildren;
+    }
+
     @SafeVarargs
     @Override
     public final LambdaQueryWrapperChain<T, V, Pk> select(SFunction<T, ?>... columns) {
@@ -61,43 +80,63 @@ public class LambdaQueryWrapperChain<T, V extends T, Pk extends Serializable>
     }
 
     public List<T> list() {
-        return baseService.list(getWrapper());
+        return baseService.list(checkedWrapper());
     }
 
     public <R> List<R> listObjs(Function<? super Object, R> mapper) {
-        return baseService.listObjs(getWrapper(), mapper);
+        return baseService.listObjs(checkedWrapper(), mapper);
     }
 
     public T getOne(Log log) {
-        return (T) baseService.getOne(getWrapper(), log);
+        return (T) baseService.getOne(checkedWrapper(), log);
     }
 
     public Integer count() {
-        return baseService.count(getWrapper());
+        return baseService.count(checkedWrapper());
+    }
+
+    public long estimateCount() {
+        return baseService.estimateCount(getWrapper());
     }
 
     public IPage<T> page(IPage<T> page) {
-        return baseService.page(page, getWrapper());
+        return baseService.page(page, checkedWrapper());
     }
 
     public <R> R getObj(Function<? super Object, R> mapper, Log log) {
-        return baseService.getObj((Wrapper<T>) getWrapper(), mapper, log);
+        return baseService.getObj((Wrapper<T>) checkedWrapper(), mapper, log);
     }
 
     public <R> IPage<R> pageEntities(IPage<R> page, Function<? super T, R> mapper) {
-        return baseService.pageEntities(page, getWrapper(), mapper);
+        return baseService.pageEntities(page, checkedWrapper(), mapper);
     }
 
     public <R> R entity(Function<? super T, R> mapper, Log log) {
-        return baseService.entity((Wrapper<T>) getWrapper(), mapper, log);
+        return baseService.entity((Wrapper<T>) checkedWrapper(), mapper, log);
     }
 
     public <R> List<R> entityList(Function<? super T, R> mapper) {
-        return baseService.entityList(getWrapper(), mapper);
+        return baseService.entityList(checkedWrapper(), mapper);
+    }
+
+    public List<V> listVO() {
+        return baseService.listVO(checkedWrapper());
+    }
+
+    public IPage<V> pageVO(IPage<V> page) {
+        return baseService.pageVO(page, checkedWrapper());
+    }
+
+    public <R> List<R> listAs(Class<R> targetClass) {
+        return baseService.listAs(checkedWrapper(), targetClass);
+    }
+
+    public <R> IPage<R> pageAs(IPage<R> page, Class<R> targetClass) {
+        return baseService.pageAs(page, checkedWrapper(), targetClass);
     }
 
     public <K> Map<K, T> list2Map(SFunction<T, K> column) {
-        return baseService.list2Map(getWrapper(), column);
+        return baseService.list2Map(checkedWrapper(), column);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package io.ituknown.mybatis.index;
+
+import java.util.List;
+
+/**
+ * 实体对应数据表的索引定义
+ *
+ * <p>
+ * 由代码生成器根据数据表索引生成, 类名约定为实体类全限定名加 {@code Indexes} 后缀(如 {@code com.xxx.domain.UserIndexes}),
+ * 需要提供无参构造方法
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 22:10
+ * @see IndexChecker
+ */
+public interface EntityIndexes {
+
+    /**
+     * 索引定义
+     *
+     * @return 每个索引的字段名, 按索引顺序排列(包含主键索引)
+     */
+    List<List<String>> indexes();
+}
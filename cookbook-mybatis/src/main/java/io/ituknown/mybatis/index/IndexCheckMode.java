@@ -0,0 +1,25 @@
+package io.ituknown.mybatis.index;
+
+/**
+ * 索引检查模式
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 22:10
+ */
+public enum IndexCheckMode {
+
+    /**
+     * 不检查
+     */
+    OFF,
+
+    /**
+     * 输出警告日志
+     */
+    WARN,
+
+    /**
+     * 拒绝执行, 抛出异常
+     */
+    REJECT
+}
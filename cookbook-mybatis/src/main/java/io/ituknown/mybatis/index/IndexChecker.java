@@ -0,0 +1,236 @@
+package io.ituknown.mybatis.index;
+
+import com.baomidou.mybatisplus.core.conditions.AbstractWrapper;
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
+import com.baomidou.mybatisplus.core.conditions.segments.MergeSegments;
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.baomidou.mybatisplus.core.toolkit.ExceptionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 查询索引检查
+ *
+ * <p>
+ * 根据生成的 {@link EntityIndexes} 检查查询条件与排序字段是否能够使用索引:
+ * WHERE 中至少有一个字段是某个索引的第一个字段(最左前缀); 没有 WHERE 条件时, 第一个排序字段需要是某个索引的第一个字段.
+ * 没有 WHERE 和排序的查询以及没有生成索引定义的实体不做检查.
+ *
+ * <p>
+ * 该检查只做字段级别的判断, 不分析 OR、函数以及类型转换等导致索引失效的情况, 用于尽早发现明显的全表扫描.
+ * 默认模式通过系统属性 {@code mybatis.index-check}(OFF/WARN/REJECT)设置, 未设置或取值无效时为 WARN
+ *
+ * <p>
+ * 检查结果按实体和查询结构(参数替换为 {@code ?}、IN 列表合并后的 WHERE 与 ORDER BY 片段)缓存,
+ * 同一结构的查询只在第一次执行时匹配字段
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 22:10
+ */
+@Slf4j
+public final class IndexChecker {
+
+    private static final Pattern PARAMETER = Pattern.compile("#\\{[^}]*}");
+
+    private static final String MODE_PROPERTY = "mybatis.index-check";
+
+    /**
+     * 每个实体最多缓存的查询结构数量, 超过后不再缓存, 每次重新匹配且不再警告
+     */
+    private static final int MAX_SHAPES = 1024;
+
+    /**
+     * 检查通过
+     */
+    private static final String INDEXED = "";
+
+    private static final Map<Class<?>, Optional<List<List<String>>>> INDEXES = new ConcurrentHashMap<>();
+
+    private static final Map<Class<?>, List<ColumnPattern>> COLUMNS = new ConcurrentHashMap<>();
+
+    /**
+     * 实体 -> 查询结构 -> 检查结果: 通过时为 {@link #INDEXED}, 否则为告警信息
+     */
+    private static final Map<Class<?>, Map<String, String>> VERDICTS = new ConcurrentHashMap<>();
+
+    private static volatile IndexCheckMode mode = parseMode(System.getProperty(MODE_PROPERTY));
+
+    private IndexChecker() {
+    }
+
+    public static IndexCheckMode getMode() {
+        return mode;
+    }
+
+    public static void setMode(IndexCheckMode mode) {
+        IndexChecker.mode = Objects.requireNonNull(mode);
+    }
+
+    /**
+     * 解析检查模式, 取值无效时使用 WARN, 不能因为配置错误导致类初始化失败
+     */
+    static IndexCheckMode parseMode(String value) {
+        if (StringUtils.isBlank(value)) {
+            return IndexCheckMode.WARN;
+        }
+        try {
+            return IndexCheckMode.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid -D{}={}, expected one of {}, use {}", MODE_PROPERTY, value,
+                    Arrays.toString(IndexCheckMode.values()), IndexCheckMode.WARN);
+            return IndexCheckMode.WARN;
+        }
+    }
+
+    /**
+     * 检查查询是否能够使用索引
+     *
+     * @param entityClass 实体类型
+     * @param wrapper     查询条件
+     */
+    public static void check(Class<?> entityClass, Wrapper<?> wrapper) {
+        if (mode == IndexCheckMode.OFF || Objects.isNull(entityClass) || !(wrapper instanceof AbstractWrapper)) {
+            return;
+        }
+        List<List<String>> indexes = INDEXES.computeIfAbsent(entityClass, IndexChecker::loadIndexes).orElse(null);
+        TableInfo tableInfo = TableInfoHelper.getTableInfo(entityClass);
+        if (Objects.isNull(indexes) || Objects.isNull(tableInfo)) {
+            return;
+        }
+
+        MergeSegments expression = ((AbstractWrapper<?, ?, ?>) wrapper).getExpression();
+        String shape = normalize(expression.getNormal().getSqlSegment()) + '\n' + normalize(expression.getOrderBy().getSqlSegment());
+        Map<String, String> verdicts = VERDICTS.computeIfAbsent(entityClass, key -> new ConcurrentHashMap<>());
+        String verdict = verdicts.get(shape);
+        if (Objects.isNull(verdict)) {
+            verdict = verdict(entityClass, tableInfo, indexes, expression);
+            // 同一结构的查询只警告一次, 超出缓存数量后不再警告
+            if (verdicts.size() < MAX_SHAPES && Objects.isNull(verdicts.putIfAbsent(shape, verdict))
+                    && mode == IndexCheckMode.WARN && !verdict.isEmpty()) {
+                log.warn(verdict);
+            }
+        }
+        if (mode == IndexCheckMode.REJECT && !verdict.isEmpty()) {
+            throw ExceptionUtils.mpe("Error: %s", verdict);
+        }
+    }
+
+    /**
+     * 匹配查询条件与排序中的字段
+     *
+     * @return 能够使用索引时返回 {@link #INDEXED}, 否则返回告警信息
+     */
+    private static String verdict(Class<?> entityClass, TableInfo tableInfo, List<List<String>> indexes, MergeSegments expression) {
+        List<ColumnPattern> columns = COLUMNS.computeIfAbsent(entityClass, key -> columnPatterns(tableInfo));
+        List<String> where = find(columns, expression.getNormal().getSqlSegment());
+        List<String> orderBy = find(columns, expression.getOrderBy().getSqlSegment());
+        if (where.isEmpty() && orderBy.isEmpty()) {
+            return INDEXED;
+        }
+
+        Set<String> leading = indexes.stream().filter(index -> !index.isEmpty())
+                .map(index -> index.get(0).toLowerCase()).collect(Collectors.toSet());
+        boolean indexed = where.isEmpty() ? leading.contains(orderBy.get(0)) : where.stream().anyMatch(leading::contains);
+        if (indexed) {
+            return INDEXED;
+        }
+        return String.format("Query on table [%s] can not use any index, where: %s, order by: %s, indexes: %s",
+                tableInfo.getTableName(), where, orderBy, indexes);
+    }
+
+    /**
+     * 将 SQL 片段中的参数占位符 {@code #{...}} 替换为 {@code ?}, 并将连续的参数(IN 列表)合并为一个,
+     * 使只有参数值或 IN 列表长度不同的查询得到相同的结构
+     */
+    static String normalize(String segment) {
+        if (StringUtils.isEmpty(segment)) {
+            return StringUtils.EMPTY;
+        }
+        StringBuilder shape = new StringBuilder(segment.length());
+        int length = segment.length();
+        for (int i = 0; i < length; i++) {
+            char c = segment.charAt(i);
+            if (c == '#' && i + 1 < length && segment.charAt(i + 1) == '{') {
+                int end = segment.indexOf('}', i + 2);
+                if (end < 0) {
+                    shape.append(segment, i, length);
+                    break;
+                }
+                int last = shape.length() - 1;
+                if (last > 0 && shape.charAt(last) == ',' && shape.charAt(last - 1) == '?') {
+                    shape.setLength(last);
+                } else {
+                    shape.append('?');
+                }
+                i = end;
+            } else {
+                shape.append(c);
+            }
+        }
+        return shape.toString();
+    }
+
+    private static Optional<List<List<String>>> loadIndexes(Class<?> entityClass) {
+        try {
+            Class<?> indexesClass = Class.forName(entityClass.getName() + "Indexes", true, entityClass.getClassLoader());
+            if (!EntityIndexes.class.isAssignableFrom(indexesClass)) {
+                return Optional.empty();
+            }
+            return Optional.of(((EntityIndexes) indexesClass.getDeclaredConstructor().newInstance()).indexes());
+        } catch (ClassNotFoundException e) {
+            return Optional.empty();
+        } catch (ReflectiveOperationException e) {
+            log.warn("Can not instantiate index definition of {}", entityClass.getName(), e);
+            return Optional.empty();
+        }
+    }
+
+    private static List<ColumnPattern> columnPatterns(TableInfo tableInfo) {
+        List<ColumnPattern> patterns = new ArrayList<>();
+        if (StringUtils.isNotEmpty(tableInfo.getKeyColumn())) {
+            patterns.add(new ColumnPattern(tableInfo.getKeyColumn()));
+        }
+        for (TableFieldInfo field : tableInfo.getFieldList()) {
+            patterns.add(new ColumnPattern(field.getColumn()));
+        }
+        return patterns;
+    }
+
+    /**
+     * 按出现顺序查找 SQL 片段中引用的字段
+     */
+    private static List<String> find(List<ColumnPattern> columns, String segment) {
+        if (StringUtils.isBlank(segment)) {
+            return Collections.emptyList();
+        }
+        String sql = PARAMETER.matcher(segment).replaceAll("?");
+        TreeMap<Integer, String> found = new TreeMap<>();
+        for (ColumnPattern column : columns) {
+            Matcher matcher = column.pattern.matcher(sql);
+            if (matcher.find()) {
+                found.put(matcher.start(), column.name);
+            }
+        }
+        return new ArrayList<>(found.values());
+    }
+
+    private static final class ColumnPattern {
+
+        private final String name;
+
+        private final Pattern pattern;
+
+        ColumnPattern(String column) {
+            this.name = StringUtils.remove(column, '`').toLowerCase();
+            this.pattern = Pattern.compile("(?i)(?<![\\w])`?" + Pattern.quote(name) + "`?(?![\\w])");
+        }
+    }
+}
@@ -3,6 +3,10 @@ package io.ituknown.mybatis.injector;
 import com.baomidou.mybatisplus.core.injector.AbstractMethod;
 import com.baomidou.mybatisplus.core.injector.AbstractSqlInjector;
 import com.baomidou.mybatisplus.core.injector.methods.*;
+import io.ituknown.mybatis.injector.methods.DeleteLimit;
+import io.ituknown.mybatis.injector.methods.ExplainSelect;
+import io.ituknown.mybatis.injector.methods.SelectBatchByIdsForUpdate;
+import io.ituknown.mybatis.injector.methods.SelectTableRows;
 import io.ituknown.mybatis.injector.methods.UpdateAllColumnById;
 
 import java.util.List;
@@ -26,6 +30,8 @@ public class MybatisPlusSqlInjector extends AbstractSqlInjector {
                 new Delete(),
                 new DeleteById(),
                 new DeleteByMap(),
+                new DeleteBatchByIds(),
+                new DeleteLimit(),
                 new Update(),
                 new UpdateById(),
                 new UpdateAllColumnById(),
@@ -35,7 +41,10 @@ public class MybatisPlusSqlInjector extends AbstractSqlInjector {
                 new SelectCount(),
                 new SelectObjs(),
                 new SelectPage(),
-                new SelectBatchByIds()
+                new SelectBatchByIds(),
+                new SelectBatchByIdsForUpdate(),
+                new ExplainSelect(),
+                new SelectTableRows()
         ).collect(Collectors.toList());
     }
 }
\ No newline at end of file
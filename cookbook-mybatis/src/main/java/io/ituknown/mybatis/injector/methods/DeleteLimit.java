@@ -0,0 +1,49 @@
+package io.ituknown.mybatis.injector.methods;
+
+import com.baomidou.mybatisplus.core.injector.AbstractMethod;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlSource;
+
+/**
+ * <p>
+ * 根据 Wrapper 条件删除, 单次最多删除 limit 条记录
+ * </p>
+ *
+ * <p>
+ * 生成的 SQL 依赖 MySQL 的 {@code DELETE ... LIMIT} / {@code UPDATE ... LIMIT} 语法,
+ * 逻辑删除表会转换为 UPDATE 语句
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 10:12
+ */
+public class DeleteLimit extends AbstractMethod {
+
+    /**
+     * 物理删除
+     */
+    private static final String DELETE = "<script>\nDELETE FROM %s %s LIMIT #{limit}\n</script>";
+
+    /**
+     * 逻辑删除
+     */
+    private static final String LOGIC_DELETE = "<script>\nUPDATE %s %s %s LIMIT #{limit}\n</script>";
+
+    @Override
+    public MappedStatement injectMappedStatement(Class<?> mapperClass, Class<?> modelClass, TableInfo tableInfo) {
+        String sql;
+        if (tableInfo.isLogicDelete()) {
+            sql = String.format(LOGIC_DELETE, tableInfo.getTableName(), sqlLogicSet(tableInfo),
+                    sqlWhereEntityWrapper(true, tableInfo));
+            SqlSource sqlSource = languageDriver.createSqlSource(configuration, sql, modelClass);
+            return addUpdateMappedStatement(mapperClass, modelClass, getSqlMethod(), sqlSource);
+        }
+        sql = String.format(DELETE, tableInfo.getTableName(), sqlWhereEntityWrapper(true, tableInfo));
+        SqlSource sqlSource = languageDriver.createSqlSource(configuration, sql, modelClass);
+        return addDeleteMappedStatement(mapperClass, getSqlMethod(), sqlSource);
+    }
+
+    private String getSqlMethod() {
+        return "deleteLimit";
+    }
+}
@@ -0,0 +1,32 @@
+package io.ituknown.mybatis.injector.methods;
+
+import com.baomidou.mybatisplus.core.injector.AbstractMethod;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlSource;
+
+import java.util.Map;
+
+/**
+ * <p>
+ * 根据 Wrapper 条件获取查询执行计划(MySQL EXPLAIN)
+ * </p>
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 11:05
+ */
+public class ExplainSelect extends AbstractMethod {
+
+    private static final String EXPLAIN = "<script>\nEXPLAIN SELECT * FROM %s %s\n</script>";
+
+    @Override
+    public MappedStatement injectMappedStatement(Class<?> mapperClass, Class<?> modelClass, TableInfo tableInfo) {
+        String sql = String.format(EXPLAIN, tableInfo.getTableName(), sqlWhereEntityWrapper(true, tableInfo));
+        SqlSource sqlSource = languageDriver.createSqlSource(configuration, sql, modelClass);
+        return addSelectMappedStatementForOther(mapperClass, getSqlMethod(), sqlSource, Map.class);
+    }
+
+    private String getSqlMethod() {
+        return "explainSelect";
+    }
+}
@@ -0,0 +1,54 @@
+package io.ituknown.mybatis.injector.methods;
+
+import com.baomidou.mybatisplus.core.injector.AbstractMethod;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.toolkit.Constants;
+import com.baomidou.mybatisplus.core.toolkit.StringPool;
+import com.baomidou.mybatisplus.core.toolkit.sql.SqlScriptUtils;
+import org.apache.ibatis.executor.keygen.NoKeyGenerator;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.mapping.StatementType;
+
+import java.util.Objects;
+
+/**
+ * <p>
+ * 根据 ID 批量查询并加行锁(SELECT ... FOR UPDATE)
+ * </p>
+ *
+ * <p>
+ * 加锁读取总是返回最新提交的数据, 不受 REPEATABLE READ 一致性快照影响. 语句声明 {@code flushCache=true}、
+ * {@code useCache=false}, 执行前清空 SqlSession 一级缓存, 同一事务内重复查询也不会拿到缓存中的旧对象
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 20:20
+ */
+public class SelectBatchByIdsForUpdate extends AbstractMethod {
+
+    private static final String SQL = "<script>\nSELECT %s FROM %s WHERE %s IN (%s) %s FOR UPDATE\n</script>";
+
+    @Override
+    public MappedStatement injectMappedStatement(Class<?> mapperClass, Class<?> modelClass, TableInfo tableInfo) {
+        String sql = String.format(SQL, sqlSelectColumns(tableInfo, false), tableInfo.getTableName(), tableInfo.getKeyColumn(),
+                SqlScriptUtils.convertForeach("#{item}", Constants.COLLECTION, null, "item", StringPool.COMMA),
+                tableInfo.isLogicDelete() ? tableInfo.getLogicDeleteSql(true, true) : StringPool.EMPTY);
+        SqlSource sqlSource = languageDriver.createSqlSource(configuration, sql, Object.class);
+
+        String statementName = mapperClass.getName() + StringPool.DOT + getSqlMethod();
+        if (configuration.hasStatement(statementName, false)) {
+            return null;
+        }
+        String resultMap = tableInfo.getResultMap();
+        Class<?> resultType = Objects.isNull(resultMap) ? tableInfo.getEntityType() : null;
+        // 与 addSelectMappedStatementForTable 相同, 仅将 flushCache/useCache 改为 true/false
+        return builderAssistant.addMappedStatement(getSqlMethod(), sqlSource, StatementType.PREPARED, SqlCommandType.SELECT,
+                null, null, null, null, resultMap, resultType, null, true, false, false,
+                new NoKeyGenerator(), null, null, configuration.getDatabaseId(), languageDriver, null);
+    }
+
+    private String getSqlMethod() {
+        return "selectBatchIdsForUpdate";
+    }
+}
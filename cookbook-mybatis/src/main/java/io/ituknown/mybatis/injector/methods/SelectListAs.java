@@ -0,0 +1,83 @@
+package io.ituknown.mybatis.injector.methods;
+
+import com.baomidou.mybatisplus.core.injector.AbstractMethod;
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.toolkit.ExceptionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlSource;
+import org.springframework.beans.BeanUtils;
+
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>
+ * 根据 Wrapper 条件查询记录, 并直接映射为目标对象
+ * </p>
+ *
+ * <p>
+ * 查询字段由目标对象中可写属性与实体字段的交集决定, 只查询目标对象需要的列.
+ * 该方法不随 Mapper 注入, 而是在所有单例初始化完成后按 Service 声明的目标类型统一注入
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 13:40
+ * @see io.ituknown.mybatis.support.ProjectionStatements
+ */
+public class SelectListAs extends AbstractMethod {
+
+    private static final String SELECT_LIST = "<script>\nSELECT %s FROM %s %s %s\n</script>";
+
+    private final Class<?> targetClass;
+
+    public SelectListAs(Class<?> targetClass) {
+        this.targetClass = targetClass;
+    }
+
+    @Override
+    public MappedStatement injectMappedStatement(Class<?> mapperClass, Class<?> modelClass, TableInfo tableInfo) {
+        String sql = String.format(SELECT_LIST, sqlSelectColumns(tableInfo), tableInfo.getTableName(),
+                sqlWhereEntityWrapper(true, tableInfo), sqlComment());
+        SqlSource sqlSource = languageDriver.createSqlSource(configuration, sql, modelClass);
+        return addSelectMappedStatementForOther(mapperClass, getSqlMethod(), sqlSource, targetClass);
+    }
+
+    /**
+     * 目标对象对应的查询字段, 列名与属性名不一致时使用别名
+     *
+     * @param table 表信息
+     * @return sql 片段
+     */
+    private String sqlSelectColumns(TableInfo table) {
+        List<String> columns = new ArrayList<>();
+        if (StringUtils.isNotEmpty(table.getKeyProperty()) && isWritable(table.getKeyProperty())) {
+            columns.add(sqlSelect(table.getKeyColumn(), table.getKeyProperty()));
+        }
+        for (TableFieldInfo fieldInfo : table.getFieldList()) {
+            if (fieldInfo.isSelect() && isWritable(fieldInfo.getProperty())) {
+                columns.add(sqlSelect(fieldInfo.getColumn(), fieldInfo.getProperty()));
+            }
+        }
+        if (columns.isEmpty()) {
+            throw ExceptionUtils.mpe("Error: %s has no property mapped to table %s.",
+                    targetClass.getName(), table.getTableName());
+        }
+        return String.join(COMMA, columns);
+    }
+
+    private boolean isWritable(String property) {
+        PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(targetClass, property);
+        return Objects.nonNull(descriptor) && Objects.nonNull(descriptor.getWriteMethod());
+    }
+
+    private String sqlSelect(String column, String property) {
+        return column.equals(property) ? column : column + " AS " + property;
+    }
+
+    public String getSqlMethod() {
+        return "selectListAs_" + targetClass.getName().replace('.', '_');
+    }
+}
@@ -0,0 +1,38 @@
+package io.ituknown.mybatis.injector.methods;
+
+import com.baomidou.mybatisplus.core.injector.AbstractMethod;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlSource;
+
+/**
+ * <p>
+ * 从 information_schema 读取表的统计行数(InnoDB 下为估算值)
+ * </p>
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 11:05
+ */
+public class SelectTableRows extends AbstractMethod {
+
+    private static final String TABLE_ROWS = "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = %s AND TABLE_NAME = '%s'";
+
+    @Override
+    public MappedStatement injectMappedStatement(Class<?> mapperClass, Class<?> modelClass, TableInfo tableInfo) {
+        // 表名可能带有反引号或 schema 前缀, 如: `db`.`table`
+        String tableName = tableInfo.getTableName().replace("`", "");
+        String schema = "DATABASE()";
+        int dot = tableName.lastIndexOf('.');
+        if (dot > 0) {
+            schema = "'" + tableName.substring(0, dot) + "'";
+            tableName = tableName.substring(dot + 1);
+        }
+        String sql = String.format(TABLE_ROWS, schema, tableName);
+        SqlSource sqlSource = languageDriver.createSqlSource(configuration, sql, modelClass);
+        return addSelectMappedStatementForOther(mapperClass, getSqlMethod(), sqlSource, Long.class);
+    }
+
+    private String getSqlMethod() {
+        return "selectTableRows";
+    }
+}
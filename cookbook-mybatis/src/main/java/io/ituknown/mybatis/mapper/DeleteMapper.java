@@ -47,4 +47,12 @@ public interface DeleteMapper<T, V extends T, Pk extends Serializable> {
      * @param idList 主键ID列表(不能为 null 以及 empty)
      */
     int deleteBatchIds(@Param(Constants.COLLECTION) Collection<Pk> idList);
+
+    /**
+     * 根据 entity 条件，删除记录, 单次最多删除 limit 条
+     *
+     * @param wrapper 实体对象封装操作类（可以为 null）
+     * @param limit   单次删除上限
+     */
+    int deleteLimit(@Param(Constants.WRAPPER) Wrapper<T> wrapper, @Param("limit") int limit);
 }
\ No newline at end of file
@@ -43,6 +43,14 @@ public interface QueryMapper<T, V extends T, Pk extends Serializable> {
      */
     List<T> selectBatchIds(@Param(Constants.COLLECTION) Collection<Pk> idList);
 
+    /**
+     * 查询（根据ID 批量查询并加行锁 FOR UPDATE）
+     * <p>注意： 需在事务中执行, 返回最新提交的数据并清空一级缓存</p>
+     *
+     * @param idList 主键ID列表(不能为 null 以及 empty)
+     */
+    List<T> selectBatchIdsForUpdate(@Param(Constants.COLLECTION) Collection<Pk> idList);
+
     /**
      * 根据 entity 条件，查询全部记录
      *
@@ -94,4 +102,17 @@ public interface QueryMapper<T, V extends T, Pk extends Serializable> {
      * @param queryWrapper 实体对象封装操作类（可以为 null）
      */
     IPage<Map<String, Object>> selectMapsPage(IPage<T> page, @Param(Constants.WRAPPER) Wrapper<T> queryWrapper);
+
+    /**
+     * 根据 Wrapper 条件，获取查询执行计划(MySQL EXPLAIN)
+     *
+     * @param queryWrapper 实体对象封装操作类（可以为 null）
+     */
+    List<Map<String, Object>> explainSelect(@Param(Constants.WRAPPER) Wrapper<T> queryWrapper);
+
+    /**
+     * 查询 information_schema 中表的统计行数
+     * <p>注意： InnoDB 表返回的是估算值</p>
+     */
+    Long selectTableRows();
 }
\ No newline at end of file
@@ -0,0 +1,328 @@
+package io.ituknown.mybatis.metadata;
+
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.toolkit.ExceptionUtils;
+import io.ituknown.mybatis.sharding.ShardingRule;
+import io.ituknown.mybatis.sharding.TableSharding;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 实体元数据
+ *
+ * <p>
+ * 缓存实体对应的 {@link TableInfo}、分表规则以及主键/乐观锁/分片键读写的 {@link MethodHandle}, 避免每次调用时的反射查找
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 14:30
+ * @see EntityMetadataRegistry
+ */
+public final class EntityMetadata {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<?> entityClass;
+
+    private final TableInfo tableInfo;
+
+    private final MethodHandle keyGetter;
+
+    private final MethodHandle keySetter;
+
+    private final TableFieldInfo versionField;
+
+    private final MethodHandle versionGetter;
+
+    private final MethodHandle versionSetter;
+
+    private final ShardingRule shardingRule;
+
+    private final MethodHandle shardingGetter;
+
+    /**
+     * 复制实体时使用的 [getter, setter], 首次复制时创建
+     */
+    private volatile List<MethodHandle[]> columnAccessors;
+
+    EntityMetadata(Class<?> entityClass, TableInfo tableInfo) {
+        this.entityClass = entityClass;
+        this.tableInfo = tableInfo;
+        if (StringUtils.isNotEmpty(tableInfo.getKeyProperty())) {
+            this.keyGetter = getter(tableInfo.getEntityType(), tableInfo.getKeyProperty());
+            this.keySetter = setter(tableInfo.getEntityType(), tableInfo.getKeyProperty());
+        } else {
+            this.keyGetter = null;
+            this.keySetter = null;
+        }
+        this.versionField = tableInfo.getFieldList().stream().filter(TableFieldInfo::isVersion).findFirst().orElse(null);
+        if (Objects.nonNull(versionField)) {
+            this.versionGetter = getter(tableInfo.getEntityType(), versionField.getProperty());
+            this.versionSetter = setter(tableInfo.getEntityType(), versionField.getProperty());
+        } else {
+            this.versionGetter = null;
+            this.versionSetter = null;
+        }
+        TableSharding sharding = AnnotationUtils.findAnnotation(tableInfo.getEntityType(), TableSharding.class);
+        if (Objects.nonNull(sharding)) {
+            this.shardingRule = new ShardingRule(tableInfo.getTableName(), sharding);
+            this.shardingGetter = getter(tableInfo.getEntityType(), sharding.property());
+        } else {
+            this.shardingRule = null;
+            this.shardingGetter = null;
+        }
+    }
+
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    public TableInfo getTableInfo() {
+        return tableInfo;
+    }
+
+    /**
+     * 是否存在主键(@TableId)
+     *
+     * @return 存在返回 true
+     */
+    public boolean hasKey() {
+        return Objects.nonNull(keyGetter);
+    }
+
+    public String getKeyProperty() {
+        return tableInfo.getKeyProperty();
+    }
+
+    public String getKeyColumn() {
+        return tableInfo.getKeyColumn();
+    }
+
+    /**
+     * 读取主键值
+     *
+     * @param entity 实体对象
+     * @return 主键值
+     */
+    public Object getId(Object entity) {
+        try {
+            return (Object) requireKey(keyGetter).invokeExact(entity);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw ExceptionUtils.mpe("Error: Can not read @TableId of %s.", e, entityClass.getName());
+        }
+    }
+
+    /**
+     * 设置主键值
+     *
+     * @param entity 实体对象
+     * @param id     主键值
+     */
+    public void setId(Object entity, Object id) {
+        try {
+            requireKey(keySetter).invokeExact(entity, id);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw ExceptionUtils.mpe("Error: Can not write @TableId of %s.", e, entityClass.getName());
+        }
+    }
+
+    /**
+     * 是否存在乐观锁字段(@Version)
+     *
+     * @return 存在返回 true
+     */
+    public boolean hasVersion() {
+        return Objects.nonNull(versionField);
+    }
+
+    /**
+     * 乐观锁字段
+     *
+     * @return 不存在时返回 null
+     */
+    public TableFieldInfo getVersionField() {
+        return versionField;
+    }
+
+    /**
+     * 读取乐观锁版本
+     *
+     * @param entity 实体对象
+     * @return 版本值
+     */
+    public Object getVersion(Object entity) {
+        try {
+            return (Object) requireVersion(versionGetter).invokeExact(entity);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw ExceptionUtils.mpe("Error: Can not read @Version of %s.", e, entityClass.getName());
+        }
+    }
+
+    /**
+     * 设置乐观锁版本
+     *
+     * @param entity  实体对象
+     * @param version 版本值
+     */
+    public void setVersion(Object entity, Object version) {
+        try {
+            requireVersion(versionSetter).invokeExact(entity, version);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw ExceptionUtils.mpe("Error: Can not write @Version of %s.", e, entityClass.getName());
+        }
+    }
+
+    /**
+     * 分表规则
+     *
+     * @return 未声明 {@link TableSharding} 时返回 null
+     */
+    public ShardingRule getShardingRule() {
+        return shardingRule;
+    }
+
+    /**
+     * 读取分片键值
+     *
+     * @param entity 实体对象
+     * @return 分片键值
+     */
+    public Object getShardingValue(Object entity) {
+        if (Objects.isNull(shardingGetter)) {
+            throw ExceptionUtils.mpe("Error: Can not execute, Could not find @TableSharding in %s.", entityClass.getName());
+        }
+        try {
+            return (Object) shardingGetter.invokeExact(entity);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw ExceptionUtils.mpe("Error: Can not read sharding value of %s.", e, entityClass.getName());
+        }
+    }
+
+    /**
+     * 分片键是否为主键
+     *
+     * @return 是返回 true
+     */
+    public boolean isShardingByKey() {
+        return Objects.nonNull(shardingRule) && shardingRule.getProperty().equals(tableInfo.getKeyProperty());
+    }
+
+    /**
+     * 复制实体: 创建新对象并复制主键及所有字段列({@link TableInfo#getFieldList()})
+     *
+     * <p>
+     * 列值中的 {@link Date}、{@code byte[]} 会复制一份, 其余类型(String、数值、java.time 等)视为不可变直接引用.
+     * 非表字段({@code exist = false})不会复制
+     *
+     * @param entity 实体对象
+     * @return 副本
+     */
+    @SuppressWarnings("unchecked")
+    public <E> E copy(E entity) {
+        if (Objects.isNull(entity)) {
+            return null;
+        }
+        List<MethodHandle[]> accessors = columnAccessors;
+        if (Objects.isNull(accessors)) {
+            accessors = new ArrayList<>(tableInfo.getFieldList().size() + 1);
+            if (hasKey()) {
+                accessors.add(new MethodHandle[]{keyGetter, keySetter});
+            }
+            for (TableFieldInfo field : tableInfo.getFieldList()) {
+                Class<?> clazz = tableInfo.getEntityType();
+                accessors.add(new MethodHandle[]{getter(clazz, field.getProperty()), setter(clazz, field.getProperty())});
+            }
+            columnAccessors = accessors;
+        }
+        Object copy = BeanUtils.instantiateClass(entity.getClass());
+        try {
+            for (MethodHandle[] accessor : accessors) {
+                Object value = (Object) accessor[0].invokeExact((Object) entity);
+                if (value instanceof Date) {
+                    value = ((Date) value).clone();
+                } else if (value instanceof byte[]) {
+                    value = ((byte[]) value).clone();
+                }
+                accessor[1].invokeExact(copy, value);
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw ExceptionUtils.mpe("Error: Can not copy %s.", e, entityClass.getName());
+        }
+        return (E) copy;
+    }
+
+    private MethodHandle requireVersion(MethodHandle handle) {
+        if (Objects.isNull(handle)) {
+            throw ExceptionUtils.mpe("Error: Can not execute, Could not find @Version in %s.", entityClass.getName());
+        }
+        return handle;
+    }
+
+    private MethodHandle requireKey(MethodHandle handle) {
+        if (Objects.isNull(handle)) {
+            throw ExceptionUtils.mpe("Error: Can not execute, Could not find @TableId in %s.", entityClass.getName());
+        }
+        return handle;
+    }
+
+    private static MethodHandle getter(Class<?> clazz, String property) {
+        try {
+            PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(clazz, property);
+            if (Objects.nonNull(descriptor) && Objects.nonNull(descriptor.getReadMethod())) {
+                ReflectionUtils.makeAccessible(descriptor.getReadMethod());
+                return MethodHandles.lookup().unreflect(descriptor.getReadMethod()).asType(GETTER_TYPE);
+            }
+            return MethodHandles.lookup().unreflectGetter(accessibleField(clazz, property)).asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw ExceptionUtils.mpe("Error: Can not access getter of %s.%s.", e, clazz.getName(), property);
+        }
+    }
+
+    private static MethodHandle setter(Class<?> clazz, String property) {
+        try {
+            PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(clazz, property);
+            if (Objects.nonNull(descriptor) && Objects.nonNull(descriptor.getWriteMethod())) {
+                ReflectionUtils.makeAccessible(descriptor.getWriteMethod());
+                return MethodHandles.lookup().unreflect(descriptor.getWriteMethod()).asType(SETTER_TYPE);
+            }
+            return MethodHandles.lookup().unreflectSetter(accessibleField(clazz, property)).asType(SETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw ExceptionUtils.mpe("Error: Can not access setter of %s.%s.", e, clazz.getName(), property);
+        }
+    }
+
+    private static Field accessibleField(Class<?> clazz, String property) {
+        Field field = ReflectionUtils.findField(clazz, property);
+        if (Objects.isNull(field)) {
+            throw ExceptionUtils.mpe("Error: Can not find field %s in %s.", property, clazz.getName());
+        }
+        ReflectionUtils.makeAccessible(field);
+        return field;
+    }
+}
@@ -0,0 +1,60 @@
+package io.ituknown.mybatis.metadata;
+
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.baomidou.mybatisplus.core.toolkit.ExceptionUtils;
+import org.springframework.util.ClassUtils;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 实体元数据注册表
+ *
+ * <p>
+ * 启动时由 {@link io.ituknown.mybatis.spring.EntityMetadataInitializer} 预先注册所有实体,
+ * 未注册的实体(如 VO 子类)在首次访问时注册
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 14:30
+ */
+public final class EntityMetadataRegistry {
+
+    private static final ConcurrentMap<Class<?>, EntityMetadata> METADATA = new ConcurrentHashMap<>();
+
+    private EntityMetadataRegistry() {
+    }
+
+    /**
+     * 获取实体元数据
+     *
+     * @param entityClass 实体类型(可以是实体子类)
+     * @return 元数据
+     */
+    public static EntityMetadata get(Class<?> entityClass) {
+        Class<?> userClass = ClassUtils.getUserClass(entityClass);
+        EntityMetadata metadata = METADATA.get(userClass);
+        if (Objects.nonNull(metadata)) {
+            return metadata;
+        }
+        return METADATA.computeIfAbsent(userClass, EntityMetadataRegistry::create);
+    }
+
+    /**
+     * 注册所有已解析的实体
+     */
+    public static void registerAll() {
+        for (TableInfo tableInfo : TableInfoHelper.getTableInfos()) {
+            get(tableInfo.getEntityType());
+        }
+    }
+
+    private static EntityMetadata create(Class<?> entityClass) {
+        TableInfo tableInfo = TableInfoHelper.getTableInfo(entityClass);
+        if (Objects.isNull(tableInfo)) {
+            throw ExceptionUtils.mpe("Error: Can not find TableInfo from %s.", entityClass.getName());
+        }
+        return new EntityMetadata(entityClass, tableInfo);
+    }
+}
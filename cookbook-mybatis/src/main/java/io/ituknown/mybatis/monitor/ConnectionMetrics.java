@@ -0,0 +1,187 @@
+package io.ituknown.mybatis.monitor;
+
+import com.alibaba.druid.pool.DruidDataSource;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 连接池与事务耗时统计
+ *
+ * <p>
+ * 全局共享一份统计数据, 按 Service 方法(含实体类型)分别记录连接获取等待、连接占用以及事务执行时长
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 18:10
+ */
+public final class ConnectionMetrics {
+
+    private static final ConcurrentMap<String, Stats> ACQUIRE = new ConcurrentHashMap<>();
+
+    private static final ConcurrentMap<String, Stats> HOLD = new ConcurrentHashMap<>();
+
+    private static final ConcurrentMap<String, Stats> TRANSACTION = new ConcurrentHashMap<>();
+
+    private static final ConcurrentMap<String, DruidDataSource> DATA_SOURCES = new ConcurrentHashMap<>();
+
+    private ConnectionMetrics() {
+    }
+
+    static void register(DruidDataSource dataSource) {
+        DATA_SOURCES.putIfAbsent(dataSource.getName(), dataSource);
+    }
+
+    static void recordAcquire(String signature, long nanos) {
+        ACQUIRE.computeIfAbsent(signature, key -> new Stats()).record(nanos);
+    }
+
+    static void recordHold(String signature, long nanos) {
+        HOLD.computeIfAbsent(signature, key -> new Stats()).record(nanos);
+    }
+
+    static void recordTransaction(String signature, long nanos) {
+        TRANSACTION.computeIfAbsent(signature, key -> new Stats()).record(nanos);
+    }
+
+    /**
+     * 连接获取等待耗时
+     *
+     * @return Service 方法 -> 统计, 按方法名排序
+     */
+    public static Map<String, Stats> acquire() {
+        return snapshot(ACQUIRE);
+    }
+
+    /**
+     * 连接占用(获取到归还)耗时
+     *
+     * @return Service 方法 -> 统计, 按方法名排序
+     */
+    public static Map<String, Stats> hold() {
+        return snapshot(HOLD);
+    }
+
+    /**
+     * {@code @Transactional} 方法执行耗时
+     *
+     * @return Service 方法 -> 统计, 按方法名排序
+     */
+    public static Map<String, Stats> transaction() {
+        return snapshot(TRANSACTION);
+    }
+
+    /**
+     * 连接池当前状态
+     *
+     * @return 连接池名称 -> 状态
+     */
+    public static Map<String, PoolState> pools() {
+        Map<String, PoolState> pools = new LinkedHashMap<>();
+        DATA_SOURCES.forEach((name, dataSource) -> pools.put(name, new PoolState(dataSource)));
+        return Collections.unmodifiableMap(pools);
+    }
+
+    /**
+     * 清空统计数据
+     */
+    public static void reset() {
+        ACQUIRE.clear();
+        HOLD.clear();
+        TRANSACTION.clear();
+    }
+
+    private static Map<String, Stats> snapshot(Map<String, Stats> source) {
+        return Collections.unmodifiableMap(new TreeMap<>(source));
+    }
+
+    /**
+     * 单项耗时统计
+     */
+    public static final class Stats {
+
+        private final LongAdder count = new LongAdder();
+
+        private final LongAdder totalNanos = new LongAdder();
+
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            long max;
+            while (nanos > (max = maxNanos.get()) && !maxNanos.compareAndSet(max, nanos)) {
+                // retry
+            }
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTotalMillis() {
+            return totalNanos.sum() / 1_000_000L;
+        }
+
+        public long getMaxMillis() {
+            return maxNanos.get() / 1_000_000L;
+        }
+
+        public double getAvgMillis() {
+            long count = getCount();
+            return count == 0 ? 0D : totalNanos.sum() / 1_000_000D / count;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%d, avg=%.2fms, max=%dms, total=%dms", getCount(), getAvgMillis(), getMaxMillis(), getTotalMillis());
+        }
+    }
+
+    /**
+     * 连接池状态快照
+     */
+    public static final class PoolState {
+
+        private final int active;
+
+        private final int idle;
+
+        private final int waiting;
+
+        private final int maxActive;
+
+        PoolState(DruidDataSource dataSource) {
+            this.active = dataSource.getActiveCount();
+            this.idle = dataSource.getPoolingCount();
+            this.waiting = dataSource.getNotEmptyWaitThreadCount();
+            this.maxActive = dataSource.getMaxActive();
+        }
+
+        public int getActive() {
+            return active;
+        }
+
+        public int getIdle() {
+            return idle;
+        }
+
+        public int getWaiting() {
+            return waiting;
+        }
+
+        public int getMaxActive() {
+            return maxActive;
+        }
+
+        @Override
+        public String toString() {
+            return "active=" + active + ", idle=" + idle + ", waiting=" + waiting + ", maxActive=" + maxActive;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.ituknown.mybatis.monitor;
+
+import com.alibaba.druid.filter.FilterChain;
+import com.alibaba.druid.filter.FilterEventAdapter;
+import com.alibaba.druid.pool.DruidDataSource;
+import com.alibaba.druid.pool.DruidPooledConnection;
+import com.alibaba.druid.proxy.jdbc.DataSourceProxy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Druid 连接监控过滤器
+ *
+ * <p>
+ * 记录每次从连接池获取连接的等待耗时和连接占用时长, 并归属到获取连接时所在的 Service 方法。
+ * 占用时长超过阈值时输出当前连接池的活跃/空闲/等待数量, 便于定位长时间持有连接的方法以及评估连接池大小
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 18:10
+ * @see ConnectionMetrics
+ */
+@Slf4j
+public class ConnectionMonitorFilter extends FilterEventAdapter {
+
+    /**
+     * 默认连接占用告警阈值: 1 秒
+     */
+    public static final long DEFAULT_SLOW_HOLD_MILLIS = 1000L;
+
+    private final long slowHoldNanos;
+
+    /**
+     * 连接 -> 获取连接时的 Service 方法及获取时间, 连接归还时移除
+     */
+    private final Map<DruidPooledConnection, Owner> owners = new ConcurrentHashMap<>();
+
+    public ConnectionMonitorFilter() {
+        this(DEFAULT_SLOW_HOLD_MILLIS);
+    }
+
+    public ConnectionMonitorFilter(long slowHoldMillis) {
+        this.slowHoldNanos = TimeUnit.MILLISECONDS.toNanos(slowHoldMillis);
+    }
+
+    @Override
+    public void init(DataSourceProxy dataSource) {
+        if (dataSource instanceof DruidDataSource) {
+            ConnectionMetrics.register((DruidDataSource) dataSource);
+        }
+    }
+
+    @Override
+    public DruidPooledConnection dataSource_getConnection(FilterChain chain, DruidDataSource dataSource, long maxWaitMillis) throws SQLException {
+        String signature = ServiceInvocation.current();
+        long start = System.nanoTime();
+        DruidPooledConnection connection = super.dataSource_getConnection(chain, dataSource, maxWaitMillis);
+        long acquired = System.nanoTime();
+        ConnectionMetrics.recordAcquire(signature, acquired - start);
+        owners.put(connection, new Owner(signature, acquired));
+        return connection;
+    }
+
+    @Override
+    public void dataSource_releaseConnection(FilterChain chain, DruidPooledConnection connection) throws SQLException {
+        // 不使用 connection.getConnectedTimeNano(): 只有开启 removeAbandoned 或 StatFilter 时 Druid 才会设置该值
+        Owner owner = owners.remove(connection);
+        if (owner != null) {
+            String signature = owner.signature;
+            long holdNanos = System.nanoTime() - owner.acquiredNanos;
+            ConnectionMetrics.recordHold(signature, holdNanos);
+            if (holdNanos >= slowHoldNanos && connection.getConnectionHolder() != null) {
+                DruidDataSource dataSource = (DruidDataSource) connection.getConnectionHolder().getDataSource();
+                log.warn("Connection held {}ms by {}, pool[{}] {}", TimeUnit.NANOSECONDS.toMillis(holdNanos),
+                        signature, dataSource.getName(), new ConnectionMetrics.PoolState(dataSource));
+            }
+        }
+        super.dataSource_releaseConnection(chain, connection);
+    }
+
+    private static final class Owner {
+
+        private final String signature;
+
+        private final long acquiredNanos;
+
+        Owner(String signature, long acquiredNanos) {
+            this.signature = signature;
+            this.acquiredNanos = acquiredNanos;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.ituknown.mybatis.monitor;
+
+import com.alibaba.druid.pool.DruidDataSource;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * 在 Druid 数据源初始化之前注册 {@link ConnectionMonitorFilter}
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 18:10
+ */
+public class ConnectionMonitorPostProcessor implements BeanPostProcessor {
+
+    private final ConnectionMonitorFilter filter;
+
+    public ConnectionMonitorPostProcessor(ConnectionMonitorFilter filter) {
+        this.filter = filter;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof DruidDataSource && !((DruidDataSource) bean).getProxyFilters().contains(filter)) {
+            ((DruidDataSource) bean).getProxyFilters().add(filter);
+        }
+        return bean;
+    }
+}
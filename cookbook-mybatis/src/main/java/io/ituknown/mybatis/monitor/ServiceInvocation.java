@@ -0,0 +1,49 @@
+package io.ituknown.mybatis.monitor;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 当前线程正在执行的 Service 方法
+ *
+ * <p>
+ * 由 {@link ServiceInvocationInterceptor} 维护, 供 {@link ConnectionMonitorFilter} 将连接占用归属到具体的 Service 方法与实体类型。
+ * Service 之间嵌套调用时以最外层调用为准, 因为连接(事务)通常由最外层方法持有
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 18:10
+ */
+public final class ServiceInvocation {
+
+    private static final ThreadLocal<Deque<String>> STACK = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * 不在任何 Service 方法中获取连接时使用的归属
+     */
+    public static final String UNKNOWN = "<unknown>";
+
+    private ServiceInvocation() {
+    }
+
+    static void push(String signature) {
+        STACK.get().push(signature);
+    }
+
+    static void pop() {
+        Deque<String> stack = STACK.get();
+        stack.pop();
+        if (stack.isEmpty()) {
+            STACK.remove();
+        }
+    }
+
+    /**
+     * 当前线程最外层的 Service 方法
+     *
+     * @return 形如 {@code UserServiceImpl#list[User]}, 不在 Service 方法中时返回 {@link #UNKNOWN}
+     */
+    public static String current() {
+        Deque<String> stack = STACK.get();
+        return stack.isEmpty() ? UNKNOWN : stack.peekLast();
+    }
+}
@@ -0,0 +1,34 @@
+package io.ituknown.mybatis.monitor;
+
+import io.ituknown.mybatis.service.BaseServiceImpl;
+import org.springframework.aop.support.StaticMethodMatcherPointcutAdvisor;
+import org.springframework.core.Ordered;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * 为 {@link BaseServiceImpl} 的公共方法织入 {@link ServiceInvocationInterceptor}
+ *
+ * <p>
+ * 优先级高于事务拦截器, 保证事务开启(获取连接)时已经能够拿到当前 Service 方法
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 18:10
+ */
+public class ServiceInvocationAdvisor extends StaticMethodMatcherPointcutAdvisor {
+
+    private static final long serialVersionUID = 1L;
+
+    public ServiceInvocationAdvisor() {
+        super(new ServiceInvocationInterceptor());
+        setOrder(Ordered.HIGHEST_PRECEDENCE);
+    }
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        return BaseServiceImpl.class.isAssignableFrom(targetClass)
+                && Modifier.isPublic(method.getModifiers())
+                && method.getDeclaringClass() != Object.class;
+    }
+}
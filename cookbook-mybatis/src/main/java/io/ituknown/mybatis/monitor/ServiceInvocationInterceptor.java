@@ -0,0 +1,71 @@
+package io.ituknown.mybatis.monitor;
+
+import com.baomidou.mybatisplus.core.toolkit.ReflectionKit;
+import io.ituknown.mybatis.service.BaseServiceImpl;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.MethodClassKey;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link BaseServiceImpl} 方法拦截器
+ *
+ * <p>
+ * 在方法执行期间记录当前 Service 方法(含实体类型), 供连接监控归属使用;
+ * 对 {@code @Transactional} 方法额外记录事务执行时长
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 18:10
+ * @see ServiceInvocation
+ */
+public class ServiceInvocationInterceptor implements MethodInterceptor {
+
+    /**
+     * 继承的方法(如 BaseServiceImpl#list)在所有 Service 之间共享同一个 Method 对象, 因此按 (目标类型, 方法) 缓存
+     */
+    private final Map<MethodClassKey, Signature> signatures = new ConcurrentHashMap<>();
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object target = invocation.getThis();
+        if (target == null) {
+            return invocation.proceed();
+        }
+        Class<?> targetClass = ClassUtils.getUserClass(target);
+        Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(), targetClass);
+        Signature signature = signatures.computeIfAbsent(new MethodClassKey(method, targetClass),
+                key -> new Signature(targetClass, method));
+
+        ServiceInvocation.push(signature.name);
+        long start = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            ServiceInvocation.pop();
+            if (signature.transactional) {
+                ConnectionMetrics.recordTransaction(signature.name, System.nanoTime() - start);
+            }
+        }
+    }
+
+    private static final class Signature {
+
+        private final String name;
+
+        private final boolean transactional;
+
+        Signature(Class<?> targetClass, Method method) {
+            Class<?> entityClass = ReflectionKit.getSuperClassGenericType(targetClass, 0);
+            this.name = targetClass.getSimpleName() + "#" + method.getName() + "[" + entityClass.getSimpleName() + "]";
+            this.transactional = AnnotatedElementUtils.hasAnnotation(method, Transactional.class)
+                    || AnnotatedElementUtils.hasAnnotation(targetClass, Transactional.class);
+        }
+    }
+}
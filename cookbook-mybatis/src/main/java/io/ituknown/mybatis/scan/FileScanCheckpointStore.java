@@ -0,0 +1,112 @@
+package io.ituknown.mybatis.scan;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+/**
+ * 基于本地文件的扫描进度存储
+ *
+ * <p>
+ * 每个任务对应目录下的一个 {@code <job>.checkpoint} 文件, 写入时先写临时文件再原子替换.
+ * 区间计划与区间数量({@code slices})在同一次替换中写入, 区间数量不符的文件视为未完成的计划
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 17:30
+ */
+public class FileScanCheckpointStore implements ScanCheckpointStore {
+
+    private static final String PREFIX = "slice.";
+
+    private static final String SLICES = "slices";
+
+    private final Path directory;
+
+    public FileScanCheckpointStore(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public synchronized List<ScanSlice> load(String job) {
+        Path file = file(job);
+        if (!Files.exists(file)) {
+            return Collections.emptyList();
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("读取扫描进度失败: " + file, e);
+        }
+        List<ScanSlice> slices = new ArrayList<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (!name.startsWith(PREFIX)) {
+                continue;
+            }
+            // lowerBound,upperBound,lastKey,finished
+            String[] values = properties.getProperty(name).split(",", -1);
+            slices.add(new ScanSlice(Integer.parseInt(name.substring(PREFIX.length())), Long.parseLong(values[0]),
+                    Long.parseLong(values[1]), values[2].isEmpty() ? null : Long.valueOf(values[2]),
+                    Boolean.parseBoolean(values[3])));
+        }
+        if (!String.valueOf(slices.size()).equals(properties.getProperty(SLICES))) {
+            // 计划未完整写入, 重新划分区间
+            return Collections.emptyList();
+        }
+        slices.sort(Comparator.comparingInt(ScanSlice::getIndex));
+        return slices;
+    }
+
+    @Override
+    public synchronized void savePlan(String job, List<ScanSlice> plan) {
+        Properties properties = new Properties();
+        for (ScanSlice slice : plan) {
+            put(properties, slice);
+        }
+        properties.setProperty(SLICES, String.valueOf(plan.size()));
+        store(job, properties);
+    }
+
+    @Override
+    public synchronized void save(String job, ScanSlice slice) {
+        Path file = file(job);
+        Properties properties = new Properties();
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                properties.load(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException("读取扫描进度失败: " + file, e);
+            }
+        }
+        put(properties, slice);
+        store(job, properties);
+    }
+
+    private static void put(Properties properties, ScanSlice slice) {
+        properties.setProperty(PREFIX + slice.getIndex(), slice.getLowerBound() + "," + slice.getUpperBound() + ","
+                + (slice.getLastKey() == null ? "" : slice.getLastKey()) + "," + slice.isFinished());
+    }
+
+    private void store(String job, Properties properties) {
+        Path file = file(job);
+        try {
+            Files.createDirectories(directory);
+            Path temp = directory.resolve(file.getFileName() + ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                properties.store(out, job);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("保存扫描进度失败: " + file, e);
+        }
+    }
+
+    private Path file(String job) {
+        return directory.resolve(job + ".checkpoint");
+    }
+}
@@ -0,0 +1,41 @@
+package io.ituknown.mybatis.scan;
+
+import java.util.List;
+
+/**
+ * 扫描进度存储
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 17:30
+ * @see FileScanCheckpointStore
+ */
+public interface ScanCheckpointStore {
+
+    /**
+     * 读取任务的所有分片进度
+     *
+     * @param job 任务名称
+     * @return 分片进度, 没有记录或计划未完整保存时返回空集合
+     */
+    List<ScanSlice> load(String job);
+
+    /**
+     * 保存新生成的区间计划
+     *
+     * <p>
+     * 必须原子写入: 只保存了部分区间时, 续扫会把缺失的主键区间当作不存在而跳过. 实现可以整体写入,
+     * 或在所有区间写入后再写入完成标记, {@link #load(String)} 对未完成的计划返回空集合
+     *
+     * @param job  任务名称
+     * @param plan 全部分片
+     */
+    void savePlan(String job, List<ScanSlice> plan);
+
+    /**
+     * 保存分片进度
+     *
+     * @param job   任务名称
+     * @param slice 分片进度
+     */
+    void save(String job, ScanSlice slice);
+}
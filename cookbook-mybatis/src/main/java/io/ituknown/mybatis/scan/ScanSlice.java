@@ -0,0 +1,70 @@
+package io.ituknown.mybatis.scan;
+
+/**
+ * 扫描分片进度
+ *
+ * <p>
+ * 主键区间 [lowerBound, upperBound] 以及已经处理完成的最后一个主键
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 17:30
+ */
+public class ScanSlice {
+
+    private final int index;
+
+    private final long lowerBound;
+
+    private final long upperBound;
+
+    private volatile Long lastKey;
+
+    private volatile boolean finished;
+
+    public ScanSlice(int index, long lowerBound, long upperBound, Long lastKey, boolean finished) {
+        this.index = index;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        this.lastKey = lastKey;
+        this.finished = finished;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public long getLowerBound() {
+        return lowerBound;
+    }
+
+    public long getUpperBound() {
+        return upperBound;
+    }
+
+    /**
+     * 已处理完成的最后一个主键
+     *
+     * @return 尚未处理任何记录时返回 null
+     */
+    public Long getLastKey() {
+        return lastKey;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    void advance(Long lastKey) {
+        this.lastKey = lastKey;
+    }
+
+    void finish() {
+        this.finished = true;
+    }
+
+    @Override
+    public String toString() {
+        return "ScanSlice{index=" + index + ", lowerBound=" + lowerBound + ", upperBound=" + upperBound
+                + ", lastKey=" + lastKey + ", finished=" + finished + '}';
+    }
+}
@@ -0,0 +1,412 @@
+package io.ituknown.mybatis.scan;
+
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.ExceptionUtils;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import io.ituknown.mybatis.metadata.EntityMetadata;
+import io.ituknown.mybatis.metadata.EntityMetadataRegistry;
+import io.ituknown.mybatis.service.BaseService;
+import io.ituknown.mybatis.support.NamedThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * 全表扫描器
+ *
+ * <p>
+ * 按数字主键将表切分为若干区间, 每个区间由独立的读取线程以 keyset 方式({@code id > lastKey ORDER BY id LIMIT n})分页,
+ * 读取到的批次放入有界队列, 由处理线程并行消费。队列满时读取线程阻塞, 避免慢消费时内存堆积。
+ *
+ * <p>
+ * 设置 {@link #checkpointStore(ScanCheckpointStore)} 后, 每个区间在批次处理完成后记录最后一个连续完成的主键,
+ * 任务中断后使用相同的 job 名称重新执行即可从断点继续。
+ *
+ * <pre>
+ * long total = TableScanner.of(userService, User.class)
+ *         .job("user-sync")
+ *         .slices(8)
+ *         .parallelism(4)
+ *         .where(w -&gt; w.eq("status", 1))
+ *         .checkpointStore(new FileScanCheckpointStore(Paths.get("/data/checkpoint")))
+ *         .scan(user -&gt; sync(user));
+ * </pre>
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 17:30
+ */
+@Slf4j
+public class TableScanner<T> {
+
+    private final BaseService<T, ?, ?> service;
+
+    private final EntityMetadata metadata;
+
+    private String job;
+
+    private int slices = 4;
+
+    private int parallelism = 4;
+
+    private int pageSize = 1000;
+
+    private int queueCapacity = 16;
+
+    private Consumer<QueryWrapper<T>> where;
+
+    private ScanCheckpointStore checkpointStore;
+
+    private TableScanner(BaseService<T, ?, ?> service, Class<T> entityClass) {
+        this.service = service;
+        this.metadata = EntityMetadataRegistry.get(entityClass);
+        if (!metadata.hasKey()) {
+            throw ExceptionUtils.mpe("Error: %s does not have @TableId, can not scan by key.", entityClass.getName());
+        }
+        this.job = metadata.getTableInfo().getTableName();
+    }
+
+    public static <T> TableScanner<T> of(BaseService<T, ?, ?> service, Class<T> entityClass) {
+        return new TableScanner<>(service, entityClass);
+    }
+
+    /**
+     * 任务名称, 断点续扫时使用。默认为表名
+     */
+    public TableScanner<T> job(String job) {
+        this.job = Objects.requireNonNull(job);
+        return this;
+    }
+
+    /**
+     * 主键区间数量, 即读取线程数量
+     */
+    public TableScanner<T> slices(int slices) {
+        this.slices = positive(slices);
+        return this;
+    }
+
+    /**
+     * 处理线程数量
+     */
+    public TableScanner<T> parallelism(int parallelism) {
+        this.parallelism = positive(parallelism);
+        return this;
+    }
+
+    /**
+     * 每批读取的记录数
+     */
+    public TableScanner<T> pageSize(int pageSize) {
+        this.pageSize = positive(pageSize);
+        return this;
+    }
+
+    /**
+     * 待处理批次队列容量
+     */
+    public TableScanner<T> queueCapacity(int queueCapacity) {
+        this.queueCapacity = positive(queueCapacity);
+        return this;
+    }
+
+    /**
+     * 附加过滤条件, 与主键区间条件以 AND 连接
+     */
+    public TableScanner<T> where(Consumer<QueryWrapper<T>> where) {
+        this.where = where;
+        return this;
+    }
+
+    public TableScanner<T> checkpointStore(ScanCheckpointStore checkpointStore) {
+        this.checkpointStore = checkpointStore;
+        return this;
+    }
+
+    /**
+     * 执行扫描
+     *
+     * <p>
+     * 任一批次处理失败时停止扫描并抛出异常, 已完成的进度保留在 {@link ScanCheckpointStore} 中
+     *
+     * @param action 单条记录处理逻辑, 会被多个线程并发调用
+     * @return 处理的记录数
+     */
+    public long scan(Consumer<? super T> action) {
+        List<ScanSlice> plan = plan();
+        List<SliceProgress> progresses = new ArrayList<>();
+        for (ScanSlice slice : plan) {
+            if (!slice.isFinished()) {
+                progresses.add(new SliceProgress(slice));
+            }
+        }
+        if (progresses.isEmpty()) {
+            return 0L;
+        }
+
+        BlockingQueue<Batch<T>> queue = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicLong processed = new AtomicLong();
+
+        ExecutorService readers = Executors.newFixedThreadPool(progresses.size(), new NamedThreadFactory("scan-reader-" + job));
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism, new NamedThreadFactory("scan-worker-" + job));
+        try {
+            List<Future<?>> workerFutures = new ArrayList<>(parallelism);
+            for (int i = 0; i < parallelism; i++) {
+                workerFutures.add(workers.submit(() -> consume(queue, failure, processed, action)));
+            }
+            List<Future<?>> readerFutures = new ArrayList<>(progresses.size());
+            for (SliceProgress progress : progresses) {
+                readerFutures.add(readers.submit(() -> read(progress, queue, failure)));
+            }
+            awaitAll(readerFutures);
+            for (int i = 0; i < parallelism; i++) {
+                queue.put(Batch.poison());
+            }
+            awaitAll(workerFutures);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ExceptionUtils.mpe("Error: Scan job [%s] interrupted.", e, job);
+        } finally {
+            readers.shutdownNow();
+            workers.shutdownNow();
+        }
+
+        Throwable cause = failure.get();
+        if (Objects.nonNull(cause)) {
+            throw ExceptionUtils.mpe("Error: Scan job [%s] failed.", cause, job);
+        }
+        log.info("Scan job [{}] finished, {} records processed", job, processed.get());
+        return processed.get();
+    }
+
+    /**
+     * 生成区间计划, 存在断点时沿用上次的区间划分
+     */
+    private List<ScanSlice> plan() {
+        if (Objects.nonNull(checkpointStore)) {
+            List<ScanSlice> saved = checkpointStore.load(job);
+            if (CollectionUtils.isNotEmpty(saved)) {
+                log.info("Scan job [{}] resumed from checkpoint: {}", job, saved);
+                return saved;
+            }
+        }
+        Long min = boundary("MIN");
+        Long max = boundary("MAX");
+        if (Objects.isNull(min) || Objects.isNull(max)) {
+            return Collections.emptyList();
+        }
+        long span = max - min + 1;
+        int count = (int) Math.max(1, Math.min(slices, span));
+        long step = span / count;
+        List<ScanSlice> plan = new ArrayList<>(count);
+        long lower = min;
+        for (int i = 0; i < count; i++) {
+            long upper = i == count - 1 ? max : lower + step - 1;
+            plan.add(new ScanSlice(i, lower, upper, null, false));
+            lower = upper + 1;
+        }
+        // 完整计划在任何区间开始读取前一次性保存, 中途失败不会留下缺少区间的计划
+        if (Objects.nonNull(checkpointStore)) {
+            checkpointStore.savePlan(job, plan);
+        }
+        return plan;
+    }
+
+    private Long boundary(String function) {
+        QueryWrapper<T> wrapper = new QueryWrapper<>();
+        wrapper.select(function + "(" + metadata.getKeyColumn() + ")");
+        List<Long> values = service.listObjs(wrapper, value -> Objects.isNull(value) ? null : toLong(value));
+        return CollectionUtils.isEmpty(values) ? null : values.get(0);
+    }
+
+    private void read(SliceProgress progress, BlockingQueue<Batch<T>> queue, AtomicReference<Throwable> failure) {
+        ScanSlice slice = progress.slice;
+        Long lastKey = slice.getLastKey();
+        int sequence = 0;
+        boolean drained = false;
+        try {
+            while (Objects.isNull(failure.get())) {
+                QueryWrapper<T> wrapper = new QueryWrapper<>();
+                if (Objects.isNull(lastKey)) {
+                    wrapper.ge(metadata.getKeyColumn(), slice.getLowerBound());
+                } else {
+                    wrapper.gt(metadata.getKeyColumn(), lastKey);
+                }
+                wrapper.le(metadata.getKeyColumn(), slice.getUpperBound());
+                if (Objects.nonNull(where)) {
+                    wrapper.and(where);
+                }
+                wrapper.orderByAsc(metadata.getKeyColumn());
+
+                List<T> records = service.page(new Page<>(1, pageSize, false), wrapper).getRecords();
+                if (CollectionUtils.isEmpty(records)) {
+                    drained = true;
+                    break;
+                }
+                lastKey = toLong(metadata.getId(records.get(records.size() - 1)));
+                put(queue, new Batch<>(progress, sequence++, lastKey, records), failure);
+                if (records.size() < pageSize) {
+                    drained = true;
+                    break;
+                }
+            }
+            // 其他区间失败导致提前退出时区间尚未读完, 不能标记为完成, 否则续扫会跳过 lastKey 之后的记录
+            if (drained) {
+                progress.exhausted(sequence);
+                progress.checkpoint();
+            }
+        } catch (Throwable e) {
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    private void consume(BlockingQueue<Batch<T>> queue, AtomicReference<Throwable> failure, AtomicLong processed,
+                         Consumer<? super T> action) {
+        try {
+            while (true) {
+                Batch<T> batch = queue.take();
+                if (batch.isPoison()) {
+                    return;
+                }
+                if (Objects.nonNull(failure.get())) {
+                    // 已失败, 仅排空队列使读取线程退出
+                    continue;
+                }
+                try {
+                    batch.records.forEach(action);
+                    processed.addAndGet(batch.records.size());
+                    batch.progress.complete(batch.sequence, batch.lastKey);
+                    batch.progress.checkpoint();
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void put(BlockingQueue<Batch<T>> queue, Batch<T> batch, AtomicReference<Throwable> failure) throws InterruptedException {
+        while (!queue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+            if (Objects.nonNull(failure.get())) {
+                return;
+            }
+        }
+    }
+
+    private static void awaitAll(List<Future<?>> futures) {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw ExceptionUtils.mpe("Error: Scan interrupted.", e);
+            } catch (ExecutionException e) {
+                throw ExceptionUtils.mpe("Error: Scan task failed.", e.getCause());
+            }
+        }
+    }
+
+    private static long toLong(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        if (Objects.nonNull(value)) {
+            try {
+                return Long.parseLong(value.toString());
+            } catch (NumberFormatException ignored) {
+                // fall through
+            }
+        }
+        throw ExceptionUtils.mpe("Error: TableScanner only supports numeric key, but got [%s].", value);
+    }
+
+    private static int positive(int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("value must be positive: " + value);
+        }
+        return value;
+    }
+
+    /**
+     * 区间进度: 批次可能乱序完成, 仅在连续完成时推进 lastKey
+     */
+    private final class SliceProgress {
+
+        private final ScanSlice slice;
+
+        private final Map<Integer, Long> completed = new HashMap<>();
+
+        private int next;
+
+        private int total = -1;
+
+        private boolean dirty;
+
+        SliceProgress(ScanSlice slice) {
+            this.slice = slice;
+        }
+
+        synchronized void complete(int sequence, long lastKey) {
+            completed.put(sequence, lastKey);
+            while (completed.containsKey(next)) {
+                slice.advance(completed.remove(next++));
+                dirty = true;
+            }
+            tryFinish();
+        }
+
+        synchronized void exhausted(int total) {
+            this.total = total;
+            tryFinish();
+        }
+
+        private void tryFinish() {
+            if (total >= 0 && next == total && !slice.isFinished()) {
+                slice.finish();
+                dirty = true;
+            }
+        }
+
+        synchronized void checkpoint() {
+            if (dirty && Objects.nonNull(checkpointStore)) {
+                checkpointStore.save(job, slice);
+                dirty = false;
+            }
+        }
+    }
+
+    private static final class Batch<T> {
+
+        private static final Batch<?> POISON = new Batch<>(null, -1, -1L, Collections.emptyList());
+
+        private final TableScanner<T>.SliceProgress progress;
+
+        private final int sequence;
+
+        private final long lastKey;
+
+        private final List<T> records;
+
+        Batch(TableScanner<T>.SliceProgress progress, int sequence, long lastKey, List<T> records) {
+            this.progress = progress;
+            this.sequence = sequence;
+            this.lastKey = lastKey;
+            this.records = records;
+        }
+
+        @SuppressWarnings("unchecked")
+        static <T> Batch<T> poison() {
+            return (Batch<T>) POISON;
+        }
+
+        boolean isPoison() {
+            return this == POISON;
+        }
+    }
+}
@@ -4,7 +4,7 @@ import com.baomidou.mybatisplus.core.conditions.Wrapper;
 import com.baomidou.mybatisplus.core.enums.SqlMethod;
 import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.baomidou.mybatisplus.core.metadata.TableInfo;
-import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.baomidou.mybatisplus.core.toolkit.Constants;
 import com.baomidou.mybatisplus.core.toolkit.ExceptionUtils;
 import com.baomidou.mybatisplus.core.toolkit.GlobalConfigUtils;
 import com.baomidou.mybatisplus.core.toolkit.LambdaUtils;
@@ -13,13 +13,25 @@ import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
 import com.baomidou.mybatisplus.core.toolkit.support.SerializedLambda;
 import com.baomidou.mybatisplus.extension.toolkit.SqlHelper;
 import io.ituknown.mybatis.mapper.BaseMapper;
+import io.ituknown.mybatis.metadata.EntityMetadata;
+import io.ituknown.mybatis.metadata.EntityMetadataRegistry;
+import io.ituknown.mybatis.sharding.ShardingContext;
 import io.ituknown.mybatis.spring.MyBatisPlusBeanFactoryPostProcessor;
+import io.ituknown.mybatis.support.ExactCountCache;
+import io.ituknown.mybatis.support.ProjectionStatements;
+import io.ituknown.mybatis.support.QueryCache;
+import io.ituknown.mybatis.support.QueryCacheable;
+import io.ituknown.mybatis.support.WrapperKeys;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.collections4.ListUtils;
+import org.apache.ibatis.binding.MapperMethod;
+import org.apache.ibatis.executor.BatchResult;
 import org.apache.ibatis.session.SqlSession;
 import org.mybatis.spring.SqlSessionUtils;
+import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
 
 import java.io.Serializable;
@@ -43,7 +55,32 @@ public abstract class BaseServiceImpl<T, V extends T, M extends BaseMapper<T, V,
 
     protected M baseMapper;
 
-    private Class<T> currentModelClass;
+    private final Class<T> currentModelClass;
+
+    private final Class<V> currentVOClass;
+
+    private final Class<M> currentMapperClass;
+
+    private final ExactCountCache exactCountCache = new ExactCountCache();
+
+    private final QueryCacheable queryCacheable;
+
+    /**
+     * 构造时 TableInfo 尚未初始化, 首次查询时再创建
+     */
+    private volatile QueryCache queryCache;
+
+    /**
+     * 泛型类型在构造时解析, final 字段保证多线程可见
+     */
+    @SuppressWarnings("unchecked")
+    protected BaseServiceImpl() {
+        Class<?> serviceClass = ClassUtils.getUserClass(getClass());
+        this.currentModelClass = (Class<T>) ReflectionKit.getSuperClassGenericType(serviceClass, 0);
+        this.currentVOClass = (Class<V>) ReflectionKit.getSuperClassGenericType(serviceClass, 1);
+        this.currentMapperClass = (Class<M>) ReflectionKit.getSuperClassGenericType(serviceClass, 2);
+        this.queryCacheable = AnnotationUtils.findAnnotation(serviceClass, QueryCacheable.class);
+    }
 
     /**
      * 自动注入 baseMapper?
@@ -58,14 +95,37 @@ public abstract class BaseServiceImpl<T, V extends T, M extends BaseMapper<T, V,
      *
      * @return 泛型 T
      */
-    @SuppressWarnings("unchecked")
     protected Class<T> currentModelClass() {
-        if (Objects.isNull(currentModelClass)) {
-            currentModelClass = (Class<T>) ReflectionKit.getSuperClassGenericType(getClass(), 1);
-        }
         return currentModelClass;
     }
 
+    /**
+     * 获取当前 VO 类型
+     *
+     * @return 泛型 V
+     */
+    protected Class<V> currentVOClass() {
+        return currentVOClass;
+    }
+
+    /**
+     * 获取当前 Mapper 类型
+     *
+     * @return 泛型 M
+     */
+    protected Class<M> currentMapperClass() {
+        return currentMapperClass;
+    }
+
+    /**
+     * 获取当前实体元数据
+     *
+     * @return 实体元数据
+     */
+    protected EntityMetadata entityMetadata() {
+        return EntityMetadataRegistry.get(currentModelClass());
+    }
+
     /**
      * 判断是否执行成功
      *
@@ -110,7 +170,9 @@ public abstract class BaseServiceImpl<T, V extends T, M extends BaseMapper<T, V,
     @Transactional(rollbackFor = Exception.class)
     public boolean insert(T entity) {
         if (Objects.nonNull(entity)) {
-            return retBool(baseMapper.insert(entity));
+            boolean inserted = retBool(baseMapper.insert(entity));
+            invalidateQueryCache();
+            return inserted;
         }
         return false;
     }
@@ -119,7 +181,9 @@ public abstract class BaseServiceImpl<T, V extends T, M extends BaseMapper<T, V,
     @Transactional(rollbackFor = Exception.class)
     public int insertBatchSomeColumn(List<T> entityList) {
         if (CollectionUtils.isNotEmpty(entityList)) {
-            return baseMapper.insertBatchSomeColumn(entityList);
+            int inserted = baseMapper.insertBatchSomeColumn(entityList);
+            invalidateQueryCache();
+            return inserted;
         }
         return 0;
     }
@@ -129,6 +193,7 @@ public abstract class BaseServiceImpl<T, V extends T, M extends BaseMapper<T, V,
     public void insertBatch(Collection<T> entityList) {
         if (CollectionUtils.isNotEmpty(entityList)) {
             baseMapper.insertBatchSomeColumn(new ArrayList<>(entityList));
+            invalidateQueryCache();
         }
     }
 
@@ -138,14 +203,18 @@ public abstract class BaseServiceImpl<T, V extends T, M extends BaseMapper<T, V,
     @Override
     @Transactional(rollbackFor = Exception.class)
     public boolean updateById(T entity) {
-        return retBool(baseMapper.updateById(entity));
+        boolean updated = retBool(baseMapper.updateById(entity));
+        invalidateQueryCache();
+        return updated;
     }
 
     @Override
     @Transactional(rollbackFor = Exception.class)
     public boolean updateAllColumnById(T entity) {
         if (Objects.nonNull(entity)) {
-            return retBool(baseMapper.updateAllColumnById(entity));
+            boolean updated = retBool(baseMapper.updateAllColumnById(entity));
+            invalidateQueryCache();
+            return updated;
         }
         return false;
     }
@@ -153,48 +222,138 @@ public abstract class BaseServiceImpl<T, V extends T, M extends BaseMapper<T, V,
     @Override
     @Transactional(rollbackFor = Exception.class)
     public boolean update(T entity, Wrapper<T> updateWrapper) {
-        return retBool(baseMapper.update(entity, updateWrapper));
+        boolean updated = retBool(baseMapper.update(entity, updateWrapper));
+        invalidateQueryCache();
+        return updated;
     }
 
     @Override
     @Transactional(rollbackFor = Exception.class)
     public void updateBatchById(Collection<T> entityList, int batchSize) {
-        /*if (CollectionUtils.isNotEmpty(entityList)) {
-            int i = 0;
-            String sqlStatement = sqlStatement(SqlMethod.UPDATE_BY_ID);
-            try (SqlSession batchSqlSession = sqlSessionBatch()) {
-                for (T anEntityList : entityList) {
+        if (CollectionUtils.isNotEmpty(entityList)) {
+            executeBatchUpdate(new ArrayList<>(entityList), batchSize);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    @Transactional(rollbackFor = Exception.class)
+    public List<T> updateBatchByIdWithVersion(Collection<T> entityList, int batchSize, OptimisticRetryPolicy<T> retryPolicy) {
+        if (CollectionUtils.isEmpty(entityList)) {
+            return Collections.emptyList();
+        }
+        EntityMetadata metadata = entityMetadata();
+        if (!metadata.hasVersion()) {
+            throw ExceptionUtils.mpe("Error: Can not execute, Could not find @Version in %s.", currentModelClass().getName());
+        }
+
+        // 重试提交的是合并后的新对象, 记录其对应的原始对象用于返回
+        Map<T, T> originals = new IdentityHashMap<>();
+        List<T> failed = new ArrayList<>();
+        List<T> conflicts = executeBatchUpdate(new ArrayList<>(entityList), batchSize);
+        for (int attempt = 1; !conflicts.isEmpty() && Objects.nonNull(retryPolicy) && attempt < retryPolicy.getMaxAttempts(); attempt++) {
+            Map<Object, T> latest = new HashMap<>(conflicts.size());
+            List<Pk> ids = new ArrayList<>(conflicts.size());
+            for (T conflict : conflicts) {
+                ids.add((Pk) metadata.getId(conflict));
+            }
+            // 普通查询在同一事务中会命中一级缓存和 REPEATABLE READ 快照, 拿到的仍是冲突前的版本号, 需要加锁读取最新数据
+            for (List<Pk> partition : ListUtils.partition(ids, batchSize)) {
+                for (T current : baseMapper.selectBatchIdsForUpdate(partition)) {
+                    latest.put(metadata.getId(current), current);
+                }
+            }
+
+            List<T> retries = new ArrayList<>(conflicts.size());
+            for (T conflict : conflicts) {
+                T original = originals.getOrDefault(conflict, conflict);
+                T current = latest.get(metadata.getId(conflict));
+                T merged = Objects.isNull(current) ? null : retryPolicy.merge(current, conflict);
+                if (Objects.isNull(merged)) {
+                    failed.add(original);
+                } else {
+                    originals.put(merged, original);
+                    retries.add(merged);
+                }
+            }
+            log.debug("Optimistic lock conflicts: {}, retry: {}, attempt: {}.", conflicts.size(), retries.size(), attempt + 1);
+            conflicts = executeBatchUpdate(retries, batchSize);
+        }
+        for (T conflict : conflicts) {
+            failed.add(originals.getOrDefault(conflict, conflict));
+        }
+        return failed;
+    }
+
+    /**
+     * 通过 JDBC batch 执行 updateById
+     *
+     * <p>
+     * 乐观锁由 OptimisticLockerInterceptor 处理: 提交前即把实体版本号设置为新值,
+     * 因此影响行数为 0 的实体需要还原版本号
+     *
+     * @param entityList 实体对象集合
+     * @param batchSize  每次 flush 的语句数量
+     * @return 影响行数为 0 的实体
+     */
+    protected List<T> executeBatchUpdate(List<T> entityList, int batchSize) {
+        if (entityList.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (batchSize <= 0) {
+            throw ExceptionUtils.mpe("Error: batchSize must be greater than 0, but was %s.", batchSize);
+        }
+        EntityMetadata metadata = entityMetadata();
+        String sqlStatement = sqlStatement(SqlMethod.UPDATE_BY_ID);
+        List<T> conflicts = new ArrayList<>();
+        try (SqlSession batchSqlSession = sqlSessionBatch()) {
+            for (List<T> partition : ListUtils.partition(entityList, batchSize)) {
+                Object[] versions = new Object[partition.size()];
+                for (int i = 0; i < partition.size(); i++) {
+                    T entity = partition.get(i);
+                    versions[i] = metadata.hasVersion() ? metadata.getVersion(entity) : null;
                     MapperMethod.ParamMap<T> param = new MapperMethod.ParamMap<>();
-                    param.put(Constants.ENTITY, anEntityList);
+                    param.put(Constants.ENTITY, entity);
                     batchSqlSession.update(sqlStatement, param);
-                    if (i >= 1 && i % batchSize == 0) {
-                        batchSqlSession.flushStatements();
+                }
+                // 同一批次中语句按提交顺序分组, 影响行数与 partition 一一对应
+                int index = 0;
+                for (BatchResult batchResult : batchSqlSession.flushStatements()) {
+                    for (int updateCount : batchResult.getUpdateCounts()) {
+                        if (updateCount == 0) {
+                            T entity = partition.get(index);
+                            if (metadata.hasVersion()) {
+                                metadata.setVersion(entity, versions[index]);
+                            }
+                            conflicts.add(entity);
+                        }
+                        index++;
                     }
-                    i++;
                 }
-                batchSqlSession.flushStatements();
             }
-        }*/
-        throw new UnsupportedOperationException("该功能当前未做实现, 不支持使用");
+        } finally {
+            invalidateQueryCache();
+        }
+        return conflicts;
     }
 
     // ========================================== Update =========================================================
 
     @Override
     @Transactional(rollbackFor = Exception.class)
+    @SuppressWarnings("unchecked")
     public boolean insertOrUpdate(T entity) {
         if (Objects.nonNull(entity)) {
-            Class<?> clazz = entity.getClass();
-            TableInfo tableInfo = TableInfoHelper.getTableInfo(clazz);
-            if (Objects.nonNull(tableInfo) && StringUtils.isNotEmpty(tableInfo.getKeyProperty())) {
-                Object idVal = ReflectionKit.getMethodValue(clazz, entity, tableInfo.getKeyProperty());
+            EntityMetadata metadata = EntityMetadataRegistry.get(entity.getClass());
+            if (metadata.hasKey()) {
+                Object idVal = metadata.getId(entity);
 
-                if (com.baomidou.mybatisplus.core.toolkit.StringUtils.checkValNotNull(idVal)) {
+                if (!com.baomidou.mybatisplus.core.toolkit.StringUtils.checkValNotNull(idVal)) {
                     log.trace("Primary key id is not set values, the implementation of the [insert] operation.");
-                    insert(entity);
+                    return insert(entity);
                 } else {
                     // 尝试更新, 更新成功直接返回. 更新失败继续尝试执行新增操作
-                    log.debug("Primary key id is not set values, the implementation of [modification] operations.");
+                    log.debug("Primary key id is set values, the implementation of [modification] operations.");
 
                     return Objects.nonNull(getById((Pk) idVal)) ? updateById(entity) : insert(entity);
                 }
@@ -232,24 +391,67 @@ public abstract class BaseServiceImpl<T, V extends T, M extends BaseMapper<T, V,
     @Transactional(rollbackFor = Exception.class)
     public boolean deleteById(Pk id) {
         if (Objects.nonNull(id)) {
-            return retBool(baseMapper.deleteById(id));
+            boolean deleted = retBool(baseMapper.deleteById(id));
+            invalidateQueryCache();
+            return deleted;
         }
         return false;
     }
 
+    /**
+     * 覆盖接口默认方法: 默认方法内部是对自身的调用, 不经过事务代理, 需在此处声明事务, 保证所有批次一起回滚
+     */
     @Override
     @Transactional(rollbackFor = Exception.class)
     public int deleteBatch(Collection<Pk> idList) {
-        if (CollectionUtils.isNotEmpty(idList)) {
-            baseMapper.deleteBatchIds(idList);
+        return deleteBatch(idList, DELETE_BATCH_SIZE);
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public int deleteBatch(Collection<Pk> idList, int batchSize) {
+        if (CollectionUtils.isEmpty(idList)) {
+            return 0;
         }
-        return 0;
+        if (batchSize <= 0) {
+            throw ExceptionUtils.mpe("Error: batchSize must be greater than 0, but was %s.", batchSize);
+        }
+        int affected = 0;
+        try {
+            for (List<Pk> partition : ListUtils.partition(new ArrayList<>(idList), batchSize)) {
+                affected += baseMapper.deleteBatchIds(partition);
+            }
+        } finally {
+            invalidateQueryCache();
+        }
+        return affected;
     }
 
     @Override
     @Transactional(rollbackFor = Exception.class)
     public boolean delete(Wrapper<T> queryWrapper) {
-        return retBool(baseMapper.delete(queryWrapper));
+        boolean deleted = retBool(baseMapper.delete(queryWrapper));
+        invalidateQueryCache();
+        return deleted;
+    }
+
+    @Override
+    public long deleteWhere(Wrapper<T> queryWrapper, int limit) {
+        if (limit <= 0) {
+            throw ExceptionUtils.mpe("Error: limit must be greater than 0, but was %s.", limit);
+        }
+        long affected = 0;
+        int rows;
+        try {
+            do {
+                rows = baseMapper.deleteLimit(queryWrapper, limit);
+                affected += rows;
+            } while (rows >= limit);
+        } finally {
+            // 非事务分批删除, 中途失败时已删除的部分同样需要失效
+            invalidateQueryCache();
+        }
+        return affected;
     }
 
     // ========================================== Select =========================================================
@@ -264,11 +466,129 @@ public abstract class BaseServiceImpl<T, V extends T, M extends BaseMapper<T, V,
 
     @Override
     public int count(Wrapper<T> queryWrapper) {
+        QueryCache cache = queryCache(queryWrapper);
+        if (Objects.nonNull(cache)) {
+            return cache.get("count|" + exactCountKey(queryWrapper), () -> baseMapper.selectCount(queryWrapper));
+        }
         return baseMapper.selectCount(queryWrapper);
     }
 
+    @Override
+    public long estimateCount(Wrapper<T> queryWrapper) {
+        TableInfo tableInfo = entityMetadata().getTableInfo();
+        try {
+            Long rows;
+            if ((Objects.isNull(queryWrapper) || queryWrapper.isEmptyOfWhere())
+                    && !tableInfo.isLogicDelete() && useTableStatistics()) {
+                rows = baseMapper.selectTableRows();
+            } else {
+                rows = explainRows(baseMapper.explainSelect(queryWrapper));
+            }
+            if (Objects.nonNull(rows)) {
+                return rows;
+            }
+        } catch (RuntimeException e) {
+            log.debug("Estimate count failed, fallback to cached exact count.", e);
+        }
+
+        // entity 条件无法生成缓存键, 直接精确查询
+        if (Objects.nonNull(queryWrapper) && queryWrapper.nonEmptyOfEntity()) {
+            return count(queryWrapper);
+        }
+        // 缓存过期后在后台线程刷新, 需要带上当前的分表路由
+        return exactCountCache.get(exactCountKey(queryWrapper), ShardingContext.bind(() -> count(queryWrapper)));
+    }
+
+    /**
+     * 无条件估算总数时是否读取 information_schema 中的表统计行数
+     *
+     * @return 默认 true, 返回 false 时使用 EXPLAIN 预估行数
+     */
+    protected boolean useTableStatistics() {
+        return true;
+    }
+
+    /**
+     * 精确总数缓存键
+     *
+     * @param queryWrapper 实体对象封装操作类
+     * @return 缓存键
+     */
+    protected String exactCountKey(Wrapper<T> queryWrapper) {
+        return WrapperKeys.of(queryWrapper);
+    }
+
+    /**
+     * 获取查询缓存
+     *
+     * <p>
+     * 缓存键复用 {@link #exactCountKey(Wrapper)}, 分表时包含当前路由的物理表
+     *
+     * @param queryWrapper 实体对象封装操作类
+     * @return 未开启缓存或 Wrapper 含 entity 条件时返回 null
+     */
+    private QueryCache queryCache(Wrapper<T> queryWrapper) {
+        if (Objects.isNull(queryCacheable) || (Objects.nonNull(queryWrapper) && queryWrapper.nonEmptyOfEntity())) {
+            return null;
+        }
+        QueryCache cache = queryCache;
+        if (Objects.isNull(cache)) {
+            synchronized (this) {
+                cache = queryCache;
+                if (Objects.isNull(cache)) {
+                    cache = new QueryCache(entityMetadata().getTableInfo().getTableName(),
+                            queryCacheable.ttlSeconds(), queryCacheable.maxEntries());
+                    queryCache = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * 使当前表的查询缓存失效, 所有写操作完成后调用
+     */
+    protected void invalidateQueryCache() {
+        QueryCache.invalidate(entityMetadata().getTableInfo().getTableName());
+    }
+
+    /**
+     * 解析 EXPLAIN 结果中的预估行数
+     *
+     * @param plan 执行计划
+     * @return 预估行数(rows * filtered%), 无法解析时返回 null
+     */
+    private Long explainRows(List<Map<String, Object>> plan) {
+        if (CollectionUtils.isEmpty(plan)) {
+            return null;
+        }
+        Map<String, Object> first = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        first.putAll(plan.get(0));
+        Object rows = first.get("rows");
+        if (!(rows instanceof Number)) {
+            return null;
+        }
+        Object filtered = first.get("filtered");
+        if (filtered instanceof Number) {
+            return Math.round(((Number) rows).doubleValue() * ((Number) filtered).doubleValue() / 100);
+        }
+        return ((Number) rows).longValue();
+    }
+
     @Override
     public List<T> list(Wrapper<T> queryWrapper) {
+        QueryCache cache = queryCache(queryWrapper);
+        if (Objects.nonNull(cache)) {
+            // 缓存中的实体会被多个调用方读取, 返回逐个复制的列表, 调用方可以任意修改
+            List<T> cached = cache.get("list|" + exactCountKey(queryWrapper),
+                    () -> Collections.unmodifiableList(baseMapper.selectList(queryWrapper)));
+            EntityMetadata metadata = entityMetadata();
+            List<T> copies = new ArrayList<>(cached.size());
+            for (T entity : cached) {
+                copies.add(metadata.copy(entity));
+            }
+            return copies;
+        }
         return baseMapper.selectList(queryWrapper);
     }
 
@@ -293,6 +613,66 @@ public abstract class BaseServiceImpl<T, V extends T, M extends BaseMapper<T, V,
         return list(wrapper).stream().map(mapper).collect(Collectors.toList());
     }
 
+    @Override
+    public List<V> listVO(Wrapper<T> wrapper) {
+        return listAs(wrapper, currentVOClass());
+    }
+
+    @Override
+    public IPage<V> pageVO(IPage<V> page, Wrapper<T> wrapper) {
+        return pageAs(page, wrapper, currentVOClass());
+    }
+
+    /**
+     * 投影查询的目标类型, 启动时统一注入对应的查询语句
+     *
+     * <p>
+     * 默认只包含 VO 类型, 使用其他目标类型调用 {@link #listAs(Wrapper, Class)} 时需覆盖该方法
+     *
+     * @return 目标类型集合
+     */
+    protected Collection<Class<?>> projectionClasses() {
+        return Collections.singletonList(currentVOClass());
+    }
+
+    /**
+     * 注册投影查询语句, 由 {@link io.ituknown.mybatis.spring.EntityMetadataInitializer} 在启动时调用
+     */
+    public void registerProjections() {
+        for (Class<?> targetClass : projectionClasses()) {
+            ProjectionStatements.register(currentMapperClass(), currentModelClass(), targetClass);
+        }
+    }
+
+    @Override
+    public <R> List<R> listAs(Wrapper<T> wrapper, Class<R> targetClass) {
+        String statement = ProjectionStatements.selectListAs(currentMapperClass(), targetClass);
+        Map<String, Object> param = new MapperMethod.ParamMap<>();
+        param.put(Constants.WRAPPER, wrapper);
+        SqlSession sqlSession = SqlHelper.sqlSession(currentModelClass());
+        try {
+            return sqlSession.selectList(statement, param);
+        } finally {
+            closeSqlSession(sqlSession);
+        }
+    }
+
+    @Override
+    public <R> IPage<R> pageAs(IPage<R> page, Wrapper<T> wrapper, Class<R> targetClass) {
+        String statement = ProjectionStatements.selectListAs(currentMapperClass(), targetClass);
+        // PaginationInterceptor 从参数中查找 IPage 完成 count 与分页
+        Map<String, Object> param = new MapperMethod.ParamMap<>();
+        param.put("page", page);
+        param.put(Constants.WRAPPER, wrapper);
+        SqlSession sqlSession = SqlHelper.sqlSession(currentModelClass());
+        try {
+            page.setRecords(sqlSession.selectList(statement, param));
+            return page;
+        } finally {
+            closeSqlSession(sqlSession);
+        }
+    }
+
     @Override
     public <K> Map<K, T> list2Map(Wrapper<T> wrapper, SFunction<T, K> column) {
         return list2Map(list(wrapper), column);
@@ -303,13 +683,22 @@ public abstract class BaseServiceImpl<T, V extends T, M extends BaseMapper<T, V,
         if (list == null) {
             return Collections.emptyMap();
         }
+        String property = getColumn(LambdaUtils.resolve(column));
         Map<K, T> map = new LinkedHashMap<>(list.size());
+        Class<?> fieldClass = null;
+        Field field = null;
         for (T t : list) {
-            Field field = ReflectionUtils.findField(t.getClass(), getColumn(LambdaUtils.resolve(column)));
+            // 结果集通常为同一类型, 只在类型变化时重新查找字段
+            if (t.getClass() != fieldClass) {
+                fieldClass = t.getClass();
+                field = ReflectionUtils.findField(fieldClass, property);
+                if (Objects.nonNull(field)) {
+                    ReflectionUtils.makeAccessible(field);
+                }
+            }
             if (Objects.isNull(field)) {
                 continue;
             }
-            ReflectionUtils.makeAccessible(field);
             Object fieldValue = ReflectionUtils.getField(field, t);
             map.put((K) fieldValue, t);
         }
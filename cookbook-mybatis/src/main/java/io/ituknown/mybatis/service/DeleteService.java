@@ -17,6 +17,16 @@ import java.util.Collection;
  */
 public interface DeleteService<T, V extends T, Pk extends Serializable> {
 
+    /**
+     * 批量删除时单条 IN 语句包含的最大主键个数
+     */
+    int DELETE_BATCH_SIZE = 1000;
+
+    /**
+     * 条件删除时单条 DELETE 语句删除的最大行数
+     */
+    int DELETE_LIMIT = 5000;
+
     /**
      * 根据 ID 删除
      *
@@ -31,7 +41,21 @@ public interface DeleteService<T, V extends T, Pk extends Serializable> {
      * @param idList 主键ID集合
      * @return 删除成功个数
      */
-    int deleteBatch(Collection<Pk> idList);
+    default int deleteBatch(Collection<Pk> idList) {
+        return deleteBatch(idList, DELETE_BATCH_SIZE);
+    }
+
+    /**
+     * 批量删除
+     *
+     * <p>
+     * 主键集合按 batchSize 拆分为多条 IN 语句执行, 避免单条 SQL 过长
+     *
+     * @param idList    主键ID集合
+     * @param batchSize 单条 IN 语句包含的最大主键个数
+     * @return 删除成功个数
+     */
+    int deleteBatch(Collection<Pk> idList, int batchSize);
 
     /**
      * 删除所有记录
@@ -50,4 +74,30 @@ public interface DeleteService<T, V extends T, Pk extends Serializable> {
      * @see com.baomidou.mybatisplus.core.conditions.query.QueryWrapper
      */
     boolean delete(Wrapper<T> queryWrapper);
+
+    /**
+     * 根据 entity 条件分批删除记录
+     *
+     * @param queryWrapper 实体包装类
+     * @return 删除成功个数
+     * @see #deleteWhere(Wrapper, int)
+     */
+    default long deleteWhere(Wrapper<T> queryWrapper) {
+        return deleteWhere(queryWrapper, DELETE_LIMIT);
+    }
+
+    /**
+     * 根据 entity 条件分批删除记录
+     *
+     * <p>
+     * 循环执行 {@code DELETE ... LIMIT limit}, 直到单次删除行数小于 limit 为止.
+     * 该方法不开启事务, 每一批独立提交, 用于大批量数据清理时缩短行锁持有时间并控制 undo log 大小.
+     * 若在外部事务中调用, 所有批次将合并在同一事务中.
+     *
+     * @param queryWrapper 实体包装类
+     * @param limit        单次删除的最大行数
+     * @return 删除成功个数
+     * @see com.baomidou.mybatisplus.core.conditions.query.QueryWrapper
+     */
+    long deleteWhere(Wrapper<T> queryWrapper, int limit);
 }
\ No newline at end of file
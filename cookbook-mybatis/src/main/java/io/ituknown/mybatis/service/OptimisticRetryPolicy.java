@@ -0,0 +1,58 @@
+package io.ituknown.mybatis.service;
+
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+
+/**
+ * 乐观锁冲突重试策略
+ *
+ * <p>
+ * 冲突的记录按批次统一重新加载(一次 IN 查询), 由 merger 将本次修改合并到最新记录上后再次批量提交,
+ * 避免高并发下逐行重试. 重新加载使用 {@code SELECT ... FOR UPDATE}, 读取最新提交的版本并锁定这些行直到事务结束,
+ * 重试期间不会再被其他事务修改
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 16:40
+ * @see UpdateService#updateBatchByIdWithVersion(java.util.Collection, int, OptimisticRetryPolicy)
+ */
+public final class OptimisticRetryPolicy<T> {
+
+    private final int maxAttempts;
+
+    private final BinaryOperator<T> merger;
+
+    private OptimisticRetryPolicy(int maxAttempts, BinaryOperator<T> merger) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be greater than 0");
+        }
+        this.maxAttempts = maxAttempts;
+        this.merger = Objects.requireNonNull(merger, "merger");
+    }
+
+    /**
+     * 创建重试策略
+     *
+     * @param maxAttempts 最大提交次数(包含首次提交)
+     * @param merger      合并函数, 参数依次为最新记录与冲突记录, 返回待重新提交的记录(需携带最新版本).
+     *                    返回 null 表示放弃该记录
+     * @return 重试策略
+     */
+    public static <T> OptimisticRetryPolicy<T> of(int maxAttempts, BinaryOperator<T> merger) {
+        return new OptimisticRetryPolicy<>(maxAttempts, merger);
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * 合并冲突记录
+     *
+     * @param latest    数据库中的最新记录
+     * @param attempted 冲突的记录
+     * @return 待重新提交的记录, 返回 null 表示放弃
+     */
+    public T merge(T latest, T attempted) {
+        return merger.apply(latest, attempted);
+    }
+}
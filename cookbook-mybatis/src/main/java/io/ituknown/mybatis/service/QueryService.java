@@ -77,6 +77,29 @@ public interface QueryService<T, V extends T, Pk extends Serializable> {
      */
     int count(Wrapper<T> queryWrapper);
 
+    /**
+     * 估算总记录数
+     *
+     * @return 估算数量
+     * @see #estimateCount(Wrapper)
+     */
+    default long estimateCount() {
+        return estimateCount(Wrappers.emptyWrapper());
+    }
+
+    /**
+     * 根据 Wrapper 条件,估算总记录数
+     *
+     * <p>
+     * 无条件时读取 information_schema 中的表统计行数, 有条件时使用 EXPLAIN 的预估行数.
+     * 均无法获取时退化为带缓存的精确 COUNT, 缓存过期后在后台刷新. 返回值仅适用于展示近似总数
+     *
+     * @param queryWrapper 实体对象封装操作类
+     * @return 估算数量
+     * @see com.baomidou.mybatisplus.core.conditions.query.QueryWrapper
+     */
+    long estimateCount(Wrapper<T> queryWrapper);
+
     /**
      * 查询列表
      *
@@ -187,6 +210,52 @@ public interface QueryService<T, V extends T, Pk extends Serializable> {
      */
     <R> List<R> entityList(Wrapper<T> wrapper, Function<? super T, R> mapper);
 
+    /**
+     * 查询 VO 列表
+     *
+     * <p>
+     * 只查询 VO 中存在的属性对应的列, 并直接映射为 VO 对象
+     *
+     * @param wrapper {@link Wrapper}
+     * @return list VO
+     * @see #listAs(Wrapper, Class)
+     */
+    List<V> listVO(Wrapper<T> wrapper);
+
+    /**
+     * 翻页查询 VO
+     *
+     * @param page    翻页对象
+     * @param wrapper {@link Wrapper}
+     * @return page VO
+     * @see #pageAs(IPage, Wrapper, Class)
+     */
+    IPage<V> pageVO(IPage<V> page, Wrapper<T> wrapper);
+
+    /**
+     * 投影查询
+     *
+     * <p>
+     * 根据目标类型的可写属性生成查询列(忽略 Wrapper 中的 select), 结果直接映射为目标对象,
+     * 不再先加载完整实体再转换. 目标类型需在启动时注册, 默认只注册 VO 类型
+     *
+     * @param wrapper     {@link Wrapper}
+     * @param targetClass 目标类型
+     * @return list
+     */
+    <R> List<R> listAs(Wrapper<T> wrapper, Class<R> targetClass);
+
+    /**
+     * 投影翻页查询
+     *
+     * @param page        翻页对象
+     * @param wrapper     {@link Wrapper}
+     * @param targetClass 目标类型
+     * @return page
+     * @see #listAs(Wrapper, Class)
+     */
+    <R> IPage<R> pageAs(IPage<R> page, Wrapper<T> wrapper, Class<R> targetClass);
+
     /**
      * 查询list,使用list中对象的某个属性做键值,转换成map
      *
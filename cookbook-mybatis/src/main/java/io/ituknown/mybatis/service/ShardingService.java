@@ -0,0 +1,56 @@
+package io.ituknown.mybatis.service;
+
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 分表 Service
+ *
+ * <p>
+ * 实体需声明 {@link io.ituknown.mybatis.sharding.TableSharding}
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 15:20
+ * @see ShardingServiceImpl
+ */
+public interface ShardingService<T, V extends T, Pk extends Serializable> extends BaseService<T, V, Pk> {
+
+    /**
+     * 在分片键值对应的物理表上执行操作
+     *
+     * <p>
+     * 操作内所有针对该实体的查询与修改都路由到同一个物理表, 可用于翻页等无法跨分片执行的查询
+     *
+     * @param shardingValue 分片键值
+     * @param action        操作
+     * @return 操作结果
+     */
+    <R> R withShard(Object shardingValue, Supplier<R> action);
+
+    /**
+     * 查询所有分片并按 comparator 归并排序
+     *
+     * @param comparator 排序规则
+     * @return list entity T
+     */
+    default List<T> list(Comparator<? super T> comparator) {
+        return list(Wrappers.emptyWrapper(), comparator);
+    }
+
+    /**
+     * 查询所有分片并按 comparator 归并排序
+     *
+     * <p>
+     * 各分片结果需已按相同规则排序(即 Wrapper 中的 ORDER BY 与 comparator 一致), 合并时不再整体排序
+     *
+     * @param queryWrapper 实体对象封装操作类
+     * @param comparator   排序规则
+     * @return list entity T
+     */
+    List<T> list(Wrapper<T> queryWrapper, Comparator<? super T> comparator);
+}
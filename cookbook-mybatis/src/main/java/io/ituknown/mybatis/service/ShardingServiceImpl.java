@@ -0,0 +1,486 @@
+package io.ituknown.mybatis.service;
+
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
+import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.baomidou.mybatisplus.core.toolkit.ExceptionUtils;
+import io.ituknown.mybatis.mapper.BaseMapper;
+import io.ituknown.mybatis.metadata.EntityMetadataRegistry;
+import io.ituknown.mybatis.sharding.ShardingContext;
+import io.ituknown.mybatis.sharding.ShardingRule;
+import io.ituknown.mybatis.support.NamedThreadFactory;
+import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 分表 Service 实现
+ *
+ * <p>
+ * 根据实体上的 {@link io.ituknown.mybatis.sharding.TableSharding} 路由到物理表:
+ * <ul>
+ *     <li>新增/根据实体修改: 读取实体的分片键值, 路由到单个物理表</li>
+ *     <li>根据主键查询/删除: 分片键为主键时路由到单个物理表, 否则在所有分片上执行</li>
+ *     <li>条件查询/统计: 在所有分片上并行执行后合并结果; 当前存在事务时在调用线程中顺序执行</li>
+ *     <li>条件修改/删除: 在调用线程中依次在所有分片上执行, 保证处于同一事务</li>
+ * </ul>
+ * 翻页查询无法跨分片执行, 需通过 {@link #withShard(Object, Supplier)} 指定分片
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 15:20
+ * @see io.ituknown.mybatis.sharding.ShardingSqlParser
+ */
+public abstract class ShardingServiceImpl<T, V extends T, M extends BaseMapper<T, V, Pk>, Pk extends Serializable>
+        extends BaseServiceImpl<T, V, M, Pk> implements ShardingService<T, V, Pk> {
+
+    private static final int PARALLELISM = Runtime.getRuntime().availableProcessors() * 2;
+
+    /**
+     * 所有分表 Service 共享的并行查询线程池, 队列满时由调用线程执行
+     */
+    private static final ThreadPoolExecutor SHARDING_EXECUTOR = new ThreadPoolExecutor(PARALLELISM, PARALLELISM,
+            60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(1024), new NamedThreadFactory("sharding-query"),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+
+    static {
+        SHARDING_EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 获取分表规则
+     *
+     * @return 分表规则
+     */
+    protected ShardingRule shardingRule() {
+        ShardingRule rule = entityMetadata().getShardingRule();
+        if (Objects.isNull(rule)) {
+            throw ExceptionUtils.mpe("Error: Can not execute, Could not find @TableSharding in %s.",
+                    currentModelClass().getName());
+        }
+        return rule;
+    }
+
+    @Override
+    public <R> R withShard(Object shardingValue, Supplier<R> action) {
+        ShardingRule rule = shardingRule();
+        return ShardingContext.route(rule.getLogicalTable(), rule.physicalTable(shardingValue), action);
+    }
+
+    /**
+     * 当前线程是否已指定物理表
+     *
+     * @return 已指定返回 true
+     */
+    protected boolean isRouted() {
+        return ShardingContext.isRouted(shardingRule().getLogicalTable());
+    }
+
+    /**
+     * 在所有分片上并行执行查询, 结果按分片下标排序
+     *
+     * <p>
+     * 并行查询使用独立连接, 不参与当前事务. 因此存在事务时退化为在调用线程中顺序执行
+     *
+     * @param action 查询操作
+     * @return 各分片结果
+     */
+    protected <R> List<R> queryAllShards(Supplier<R> action) {
+        ShardingRule rule = shardingRule();
+        if (rule.getShards() == 1 || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return executeAllShards(action);
+        }
+        List<Future<R>> futures = new ArrayList<>(rule.getShards());
+        for (String table : rule.getPhysicalTables()) {
+            futures.add(SHARDING_EXECUTOR.submit(() -> ShardingContext.route(rule.getLogicalTable(), table, action)));
+        }
+        List<R> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw ExceptionUtils.mpe("Error: Interrupted while querying shards of %s.", e, rule.getLogicalTable());
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw ExceptionUtils.mpe(cause);
+        }
+        return results;
+    }
+
+    /**
+     * 在所有分片上并行执行条件查询
+     *
+     * <p>
+     * 条件构造器在首次获取 SQL 片段时才拼接并缓存, 该缓存没有同步. 多个分片线程同时触发拼接时, 部分线程可能读到尚未
+     * 写入的空片段而丢失查询条件, 因此提交前先在调用线程中完成拼接
+     *
+     * @param queryWrapper 查询条件
+     * @param action       查询操作
+     * @return 各分片结果
+     */
+    protected <R> List<R> queryAllShards(Wrapper<T> queryWrapper, Supplier<R> action) {
+        if (Objects.nonNull(queryWrapper)) {
+            queryWrapper.getSqlSegment();
+        }
+        return queryAllShards(action);
+    }
+
+    /**
+     * 在调用线程中依次在所有分片上执行
+     *
+     * @param action 操作
+     * @return 各分片结果
+     */
+    protected <R> List<R> executeAllShards(Supplier<R> action) {
+        ShardingRule rule = shardingRule();
+        List<R> results = new ArrayList<>(rule.getShards());
+        for (String table : rule.getPhysicalTables()) {
+            results.add(ShardingContext.route(rule.getLogicalTable(), table, action));
+        }
+        return results;
+    }
+
+    /**
+     * 按物理表分组后依次执行
+     *
+     * @param elements     元素集合
+     * @param shardingBy   元素的分片键值
+     * @param action       每个物理表上的操作
+     * @return 各物理表结果
+     */
+    private <E, R> List<R> executeGrouped(Collection<E> elements, Function<E, Object> shardingBy, Function<List<E>, R> action) {
+        ShardingRule rule = shardingRule();
+        Map<String, List<E>> groups = new LinkedHashMap<>();
+        for (E element : elements) {
+            groups.computeIfAbsent(rule.physicalTable(shardingBy.apply(element)), key -> new ArrayList<>()).add(element);
+        }
+        List<R> results = new ArrayList<>(groups.size());
+        for (Map.Entry<String, List<E>> group : groups.entrySet()) {
+            results.add(ShardingContext.route(rule.getLogicalTable(), group.getKey(), () -> action.apply(group.getValue())));
+        }
+        return results;
+    }
+
+    private Object shardingValue(T entity) {
+        return EntityMetadataRegistry.get(entity.getClass()).getShardingValue(entity);
+    }
+
+    private static int sum(List<Integer> values) {
+        int sum = 0;
+        for (Integer value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    private static boolean any(List<Boolean> values) {
+        return values.contains(Boolean.TRUE);
+    }
+
+    // ========================================== Insert =========================================================
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public boolean insert(T entity) {
+        if (Objects.isNull(entity) || isRouted()) {
+            return super.insert(entity);
+        }
+        return withShard(shardingValue(entity), () -> super.insert(entity));
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public int insertBatchSomeColumn(List<T> entityList) {
+        if (CollectionUtils.isEmpty(entityList) || isRouted()) {
+            return super.insertBatchSomeColumn(entityList);
+        }
+        return sum(executeGrouped(entityList, this::shardingValue, super::insertBatchSomeColumn));
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void insertBatch(Collection<T> entityList) {
+        insertBatchSomeColumn(CollectionUtils.isEmpty(entityList) ? Collections.emptyList() : new ArrayList<>(entityList));
+    }
+
+    // ========================================== Update =========================================================
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public boolean updateById(T entity) {
+        if (Objects.isNull(entity) || isRouted()) {
+            return super.updateById(entity);
+        }
+        Object shardingValue = shardingValue(entity);
+        if (Objects.nonNull(shardingValue)) {
+            return withShard(shardingValue, () -> super.updateById(entity));
+        }
+        return any(executeAllShards(() -> super.updateById(entity)));
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public boolean updateAllColumnById(T entity) {
+        if (Objects.isNull(entity) || isRouted()) {
+            return super.updateAllColumnById(entity);
+        }
+        Object shardingValue = shardingValue(entity);
+        if (Objects.nonNull(shardingValue)) {
+            return withShard(shardingValue, () -> super.updateAllColumnById(entity));
+        }
+        return any(executeAllShards(() -> super.updateAllColumnById(entity)));
+    }
+
+    /**
+     * 按分片分组后分别提交, 避免不同物理表的语句进入同一个 JDBC batch
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void updateBatchById(Collection<T> entityList, int batchSize) {
+        if (CollectionUtils.isEmpty(entityList) || isRouted()) {
+            super.updateBatchById(entityList, batchSize);
+            return;
+        }
+        executeGrouped(entityList, this::shardingValue, group -> {
+            super.updateBatchById(group, batchSize);
+            return null;
+        });
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public List<T> updateBatchByIdWithVersion(Collection<T> entityList, int batchSize, OptimisticRetryPolicy<T> retryPolicy) {
+        if (CollectionUtils.isEmpty(entityList) || isRouted()) {
+            return super.updateBatchByIdWithVersion(entityList, batchSize, retryPolicy);
+        }
+        return concat(executeGrouped(entityList, this::shardingValue,
+                group -> super.updateBatchByIdWithVersion(group, batchSize, retryPolicy)));
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public boolean update(T entity, Wrapper<T> updateWrapper) {
+        if (isRouted()) {
+            return super.update(entity, updateWrapper);
+        }
+        return any(executeAllShards(() -> super.update(entity, updateWrapper)));
+    }
+
+    // ========================================== DELETE =========================================================
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public boolean deleteById(Pk id) {
+        if (Objects.isNull(id) || isRouted()) {
+            return super.deleteById(id);
+        }
+        if (entityMetadata().isShardingByKey()) {
+            return withShard(id, () -> super.deleteById(id));
+        }
+        return any(executeAllShards(() -> super.deleteById(id)));
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public int deleteBatch(Collection<Pk> idList, int batchSize) {
+        if (CollectionUtils.isEmpty(idList) || isRouted()) {
+            return super.deleteBatch(idList, batchSize);
+        }
+        if (entityMetadata().isShardingByKey()) {
+            return sum(executeGrouped(idList, id -> id, ids -> super.deleteBatch(ids, batchSize)));
+        }
+        return sum(executeAllShards(() -> super.deleteBatch(idList, batchSize)));
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public boolean delete(Wrapper<T> queryWrapper) {
+        if (isRouted()) {
+            return super.delete(queryWrapper);
+        }
+        return any(executeAllShards(() -> super.delete(queryWrapper)));
+    }
+
+    @Override
+    public long deleteWhere(Wrapper<T> queryWrapper, int limit) {
+        if (isRouted()) {
+            return super.deleteWhere(queryWrapper, limit);
+        }
+        long affected = 0;
+        for (Long rows : executeAllShards(() -> super.deleteWhere(queryWrapper, limit))) {
+            affected += rows;
+        }
+        return affected;
+    }
+
+    // ========================================== Select =========================================================
+
+    @Override
+    public T getById(Pk id) {
+        if (Objects.isNull(id) || isRouted()) {
+            return super.getById(id);
+        }
+        if (entityMetadata().isShardingByKey()) {
+            return withShard(id, () -> super.getById(id));
+        }
+        for (T entity : queryAllShards(() -> super.getById(id))) {
+            if (Objects.nonNull(entity)) {
+                return entity;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public int count(Wrapper<T> queryWrapper) {
+        if (isRouted()) {
+            return super.count(queryWrapper);
+        }
+        return sum(queryAllShards(queryWrapper, () -> super.count(queryWrapper)));
+    }
+
+    @Override
+    public long estimateCount(Wrapper<T> queryWrapper) {
+        if (isRouted()) {
+            return super.estimateCount(queryWrapper);
+        }
+        long count = 0;
+        for (Long rows : queryAllShards(queryWrapper, () -> super.estimateCount(queryWrapper))) {
+            count += rows;
+        }
+        return count;
+    }
+
+    /**
+     * information_schema 中的表名不会被路由替换, 分表统一使用 EXPLAIN 估算
+     */
+    @Override
+    protected boolean useTableStatistics() {
+        return false;
+    }
+
+    @Override
+    protected String exactCountKey(Wrapper<T> queryWrapper) {
+        return ShardingContext.routes().get(shardingRule().getLogicalTable()) + "|" + super.exactCountKey(queryWrapper);
+    }
+
+    @Override
+    public List<T> list(Wrapper<T> queryWrapper) {
+        if (isRouted()) {
+            return super.list(queryWrapper);
+        }
+        return concat(queryAllShards(queryWrapper, () -> super.list(queryWrapper)));
+    }
+
+    @Override
+    public List<T> list(Wrapper<T> queryWrapper, Comparator<? super T> comparator) {
+        if (isRouted()) {
+            List<T> list = super.list(queryWrapper);
+            list.sort(comparator);
+            return list;
+        }
+        return mergeSorted(queryAllShards(queryWrapper, () -> super.list(queryWrapper)), comparator);
+    }
+
+    @Override
+    public IPage<T> page(IPage<T> page, Wrapper<T> queryWrapper) {
+        if (isRouted()) {
+            return super.page(page, queryWrapper);
+        }
+        throw new UnsupportedOperationException("分表不支持跨分片翻页, 请通过 withShard 指定分片");
+    }
+
+    @Override
+    public <R> List<R> listObjs(Wrapper<T> queryWrapper, Function<? super Object, R> mapper) {
+        if (isRouted()) {
+            return super.listObjs(queryWrapper, mapper);
+        }
+        return concat(queryAllShards(queryWrapper, () -> super.listObjs(queryWrapper, mapper)));
+    }
+
+    @Override
+    public <R> List<R> listAs(Wrapper<T> wrapper, Class<R> targetClass) {
+        if (isRouted()) {
+            return super.listAs(wrapper, targetClass);
+        }
+        return concat(queryAllShards(wrapper, () -> super.listAs(wrapper, targetClass)));
+    }
+
+    @Override
+    public <R> IPage<R> pageAs(IPage<R> page, Wrapper<T> wrapper, Class<R> targetClass) {
+        if (isRouted()) {
+            return super.pageAs(page, wrapper, targetClass);
+        }
+        throw new UnsupportedOperationException("分表不支持跨分片翻页, 请通过 withShard 指定分片");
+    }
+
+    private static <E> List<E> concat(List<List<E>> lists) {
+        int size = 0;
+        for (List<E> list : lists) {
+            size += list.size();
+        }
+        List<E> result = new ArrayList<>(size);
+        for (List<E> list : lists) {
+            result.addAll(list);
+        }
+        return result;
+    }
+
+    /**
+     * 多路归并已排序的分片结果
+     */
+    private static <E> List<E> mergeSorted(List<List<E>> lists, Comparator<? super E> comparator) {
+        int size = 0;
+        PriorityQueue<Cursor<E>> queue = new PriorityQueue<>(Math.max(1, lists.size()),
+                (left, right) -> comparator.compare(left.current, right.current));
+        for (List<E> list : lists) {
+            size += list.size();
+            Cursor<E> cursor = new Cursor<>(list.iterator());
+            if (cursor.advance()) {
+                queue.add(cursor);
+            }
+        }
+        List<E> result = new ArrayList<>(size);
+        while (!queue.isEmpty()) {
+            Cursor<E> cursor = queue.poll();
+            result.add(cursor.current);
+            if (cursor.advance()) {
+                queue.add(cursor);
+            }
+        }
+        return result;
+    }
+
+    private static final class Cursor<E> {
+
+        private final Iterator<E> iterator;
+
+        private E current;
+
+        private Cursor(Iterator<E> iterator) {
+            this.iterator = iterator;
+        }
+
+        private boolean advance() {
+            if (iterator.hasNext()) {
+                current = iterator.next();
+                return true;
+            }
+            return false;
+        }
+    }
+}
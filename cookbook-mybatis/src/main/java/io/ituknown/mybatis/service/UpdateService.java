@@ -4,6 +4,7 @@ import com.baomidou.mybatisplus.core.conditions.Wrapper;
 
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.List;
 
 public interface UpdateService<T, V extends T, Pk extends Serializable> {
 
@@ -67,4 +68,31 @@ public interface UpdateService<T, V extends T, Pk extends Serializable> {
     default void updateBatchById(Collection<T> entityList, int batchSize) {
         throw new UnsupportedOperationException("该功能当前未做实现, 不支持使用");
     }
+
+    /**
+     * 根据ID 批量更新, 校验乐观锁版本(@Version)
+     *
+     * @param entityList 实体对象集合
+     * @return 版本冲突(未更新)的实体
+     * @see #updateBatchByIdWithVersion(Collection, int, OptimisticRetryPolicy)
+     */
+    default List<T> updateBatchByIdWithVersion(Collection<T> entityList) {
+        return updateBatchByIdWithVersion(entityList, BATCH_SIZE, null);
+    }
+
+    /**
+     * 根据ID 批量更新, 校验乐观锁版本(@Version)
+     *
+     * <p>
+     * 所有更新通过 JDBC batch 提交, 根据每条语句的影响行数判断是否冲突. 更新成功的实体版本号会递增,
+     * 冲突的实体版本号保持不变. 驱动需返回准确的影响行数(MySQL 不要开启 rewriteBatchedStatements)
+     *
+     * @param entityList  实体对象集合
+     * @param batchSize   更新批次数量
+     * @param retryPolicy 冲突重试策略(可以为 null, 表示不重试)
+     * @return 最终仍版本冲突(未更新)的实体, 为调用方传入的原始对象
+     */
+    default List<T> updateBatchByIdWithVersion(Collection<T> entityList, int batchSize, OptimisticRetryPolicy<T> retryPolicy) {
+        throw new UnsupportedOperationException("该功能当前未做实现, 不支持使用");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package io.ituknown.mybatis.sharding;
+
+/**
+ * 取模分片策略
+ *
+ * <p>
+ * 整数类型按数值取模, 其他类型按 hashCode 取模
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 15:20
+ */
+public class ModShardingStrategy implements ShardingStrategy {
+
+    @Override
+    public int shard(Object shardingValue, int shards) {
+        if (shardingValue instanceof Long || shardingValue instanceof Integer
+                || shardingValue instanceof Short || shardingValue instanceof Byte) {
+            return (int) Math.floorMod(((Number) shardingValue).longValue(), (long) shards);
+        }
+        return Math.floorMod(shardingValue.hashCode(), shards);
+    }
+}
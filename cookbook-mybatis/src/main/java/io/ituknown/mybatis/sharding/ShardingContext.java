@@ -0,0 +1,100 @@
+package io.ituknown.mybatis.sharding;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 分表路由上下文
+ *
+ * <p>
+ * 基于 ThreadLocal 保存逻辑表到物理表的映射, 由 {@link ShardingSqlParser} 在 SQL 执行前完成表名替换
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 15:20
+ */
+public final class ShardingContext {
+
+    private static final ThreadLocal<Map<String, String>> ROUTES = new ThreadLocal<>();
+
+    private ShardingContext() {
+    }
+
+    /**
+     * 在指定物理表上执行操作
+     *
+     * @param logicalTable  逻辑表名
+     * @param physicalTable 物理表名
+     * @param action        操作
+     * @return 操作结果
+     */
+    public static <R> R route(String logicalTable, String physicalTable, Supplier<R> action) {
+        Map<String, String> previous = ROUTES.get();
+        Map<String, String> routes = Objects.isNull(previous) ? new HashMap<>(4) : new HashMap<>(previous);
+        routes.put(logicalTable, physicalTable);
+        ROUTES.set(routes);
+        try {
+            return action.get();
+        } finally {
+            if (Objects.isNull(previous)) {
+                ROUTES.remove();
+            } else {
+                ROUTES.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 绑定当前线程的路由
+     *
+     * <p>
+     * 返回的操作无论在哪个线程中执行, 都使用绑定时的路由. 用于提交到后台线程的任务(如缓存刷新),
+     * 避免后台线程因缺少路由而在所有分片上执行
+     *
+     * @param action 操作
+     * @return 绑定路由后的操作, 当前线程没有路由时返回原操作
+     */
+    public static <R> Supplier<R> bind(Supplier<R> action) {
+        Map<String, String> routes = ROUTES.get();
+        if (Objects.isNull(routes) || routes.isEmpty()) {
+            return action;
+        }
+        // 路由表在 route 中整体替换, 不会被修改, 可以直接引用
+        return () -> {
+            Map<String, String> previous = ROUTES.get();
+            ROUTES.set(routes);
+            try {
+                return action.get();
+            } finally {
+                if (Objects.isNull(previous)) {
+                    ROUTES.remove();
+                } else {
+                    ROUTES.set(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * 逻辑表是否已指定物理表
+     *
+     * @param logicalTable 逻辑表名
+     * @return 已指定返回 true
+     */
+    public static boolean isRouted(String logicalTable) {
+        Map<String, String> routes = ROUTES.get();
+        return Objects.nonNull(routes) && routes.containsKey(logicalTable);
+    }
+
+    /**
+     * 当前线程的路由表
+     *
+     * @return 逻辑表到物理表的映射
+     */
+    public static Map<String, String> routes() {
+        Map<String, String> routes = ROUTES.get();
+        return Objects.isNull(routes) ? Collections.emptyMap() : routes;
+    }
+}
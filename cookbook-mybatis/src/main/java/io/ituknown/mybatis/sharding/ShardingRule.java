@@ -0,0 +1,86 @@
+package io.ituknown.mybatis.sharding;
+
+import com.baomidou.mybatisplus.core.toolkit.ExceptionUtils;
+import org.springframework.beans.BeanUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 分表规则
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 15:20
+ * @see TableSharding
+ */
+public final class ShardingRule {
+
+    private final String logicalTable;
+
+    private final String property;
+
+    private final int shards;
+
+    private final String format;
+
+    private final ShardingStrategy strategy;
+
+    private final List<String> physicalTables;
+
+    public ShardingRule(String tableName, TableSharding sharding) {
+        if (sharding.shards() <= 0) {
+            throw ExceptionUtils.mpe("Error: shards of table %s must be greater than 0.", tableName);
+        }
+        this.logicalTable = tableName.replace("`", "");
+        this.property = sharding.property();
+        this.shards = sharding.shards();
+        this.format = sharding.format();
+        this.strategy = BeanUtils.instantiateClass(sharding.strategy());
+
+        List<String> tables = new ArrayList<>(shards);
+        for (int i = 0; i < shards; i++) {
+            tables.add(String.format(format, logicalTable, i));
+        }
+        this.physicalTables = Collections.unmodifiableList(tables);
+    }
+
+    public String getLogicalTable() {
+        return logicalTable;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public int getShards() {
+        return shards;
+    }
+
+    /**
+     * 所有物理表, 按分片下标排序
+     *
+     * @return 物理表名
+     */
+    public List<String> getPhysicalTables() {
+        return physicalTables;
+    }
+
+    /**
+     * 根据分片键值获取物理表名
+     *
+     * @param shardingValue 分片键值
+     * @return 物理表名
+     */
+    public String physicalTable(Object shardingValue) {
+        if (Objects.isNull(shardingValue)) {
+            throw ExceptionUtils.mpe("Error: sharding value of table %s can not be null.", logicalTable);
+        }
+        int shard = strategy.shard(shardingValue, shards);
+        if (shard < 0 || shard >= shards) {
+            throw ExceptionUtils.mpe("Error: shard %s of table %s out of range [0, %s).", shard, logicalTable, shards);
+        }
+        return physicalTables.get(shard);
+    }
+}
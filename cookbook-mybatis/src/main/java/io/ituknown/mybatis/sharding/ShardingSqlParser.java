@@ -0,0 +1,45 @@
+package io.ituknown.mybatis.sharding;
+
+import com.baomidou.mybatisplus.core.parser.ISqlParser;
+import com.baomidou.mybatisplus.core.parser.SqlInfo;
+import org.apache.ibatis.reflection.MetaObject;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 分表 SQL 解析器
+ *
+ * <p>
+ * 注册到 {@link com.baomidou.mybatisplus.extension.plugins.PaginationInterceptor} 中,
+ * 将 FROM/UPDATE/INTO/JOIN 后的逻辑表名替换为 {@link ShardingContext} 中指定的物理表名.
+ * 当前线程没有路由时直接跳过
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 15:20
+ */
+public class ShardingSqlParser implements ISqlParser {
+
+    private static final ConcurrentMap<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
+
+    @Override
+    public SqlInfo parser(MetaObject metaObject, String sql) {
+        Map<String, String> routes = ShardingContext.routes();
+        if (routes.isEmpty()) {
+            return null;
+        }
+        String parsed = sql;
+        for (Map.Entry<String, String> route : routes.entrySet()) {
+            Pattern pattern = PATTERNS.computeIfAbsent(route.getKey(), ShardingSqlParser::compile);
+            parsed = pattern.matcher(parsed).replaceAll("$1$2" + Matcher.quoteReplacement(route.getValue()));
+        }
+        return SqlInfo.newInstance().setSql(parsed);
+    }
+
+    private static Pattern compile(String logicalTable) {
+        return Pattern.compile("(?i)\\b(FROM|UPDATE|INTO|JOIN)(\\s+)`?" + Pattern.quote(logicalTable) + "`?(?=[\\s(,;]|$)");
+    }
+}
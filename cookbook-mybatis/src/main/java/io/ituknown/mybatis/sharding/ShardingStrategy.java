@@ -0,0 +1,22 @@
+package io.ituknown.mybatis.sharding;
+
+/**
+ * 分片策略
+ *
+ * <p>
+ * 实现类需要提供无参构造方法且线程安全
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 15:20
+ */
+public interface ShardingStrategy {
+
+    /**
+     * 计算分片下标
+     *
+     * @param shardingValue 分片键值(不为 null)
+     * @param shards        分片个数
+     * @return 分片下标, 取值范围 [0, shards)
+     */
+    int shard(Object shardingValue, int shards);
+}
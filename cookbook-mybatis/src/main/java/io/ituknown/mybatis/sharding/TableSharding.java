@@ -0,0 +1,48 @@
+package io.ituknown.mybatis.sharding;
+
+import java.lang.annotation.*;
+
+/**
+ * 分表声明
+ *
+ * <p>
+ * 标注在实体上, 实体对应的 {@link com.baomidou.mybatisplus.annotation.TableName} 作为逻辑表名,
+ * 物理表名由 {@link #format()} 生成, 例如: {@code order -> order_00 ... order_63}
+ *
+ * <pre>
+ * &#64;TableName("order")
+ * &#64;TableSharding(property = "userId", shards = 64)
+ * public class Order {
+ * }
+ * </pre>
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 15:20
+ * @see io.ituknown.mybatis.service.ShardingServiceImpl
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TableSharding {
+
+    /**
+     * 分片键对应的实体属性
+     */
+    String property();
+
+    /**
+     * 分片个数
+     */
+    int shards();
+
+    /**
+     * 物理表名格式, 参数依次为逻辑表名与分片下标.
+     * 按 schema 分片时可写为 {@code "shard_%2$02d.%1$s"}
+     */
+    String format() default "%s_%02d";
+
+    /**
+     * 分片策略
+     */
+    Class<? extends ShardingStrategy> strategy() default ModShardingStrategy.class;
+}
@@ -0,0 +1,40 @@
+package io.ituknown.mybatis.spring;
+
+import io.ituknown.mybatis.monitor.ConnectionMonitorFilter;
+import io.ituknown.mybatis.monitor.ConnectionMonitorPostProcessor;
+import io.ituknown.mybatis.monitor.ServiceInvocationAdvisor;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+/**
+ * 连接池与事务监控配置
+ *
+ * <p>
+ * 统计结果见 {@link io.ituknown.mybatis.monitor.ConnectionMetrics}
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 18:10
+ */
+@Configuration
+public class ConnectionMonitorConfig {
+
+    /**
+     * BeanPostProcessor 使用静态方法声明, 避免提前初始化配置类
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static ConnectionMonitorPostProcessor connectionMonitorPostProcessor() {
+        return new ConnectionMonitorPostProcessor(new ConnectionMonitorFilter());
+    }
+
+    /**
+     * 基础设施角色, 使 {@code @EnableTransactionManagement} 注册的自动代理同样能应用该 Advisor
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public ServiceInvocationAdvisor serviceInvocationAdvisor() {
+        return new ServiceInvocationAdvisor();
+    }
+}
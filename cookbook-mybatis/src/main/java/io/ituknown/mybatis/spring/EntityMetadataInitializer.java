@@ -0,0 +1,53 @@
+package io.ituknown.mybatis.spring;
+
+import io.ituknown.mybatis.metadata.EntityMetadataRegistry;
+import io.ituknown.mybatis.service.BaseService;
+import io.ituknown.mybatis.service.BaseServiceImpl;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import java.util.Objects;
+
+/**
+ * 启动时注册实体元数据以及投影查询语句
+ *
+ * <p>
+ * 所有单例(包括 Mapper)初始化完成后 TableInfo 已经解析, 此时统一构建实体元数据, 并为每个 Service
+ * 声明的投影类型注入查询语句, 运行期不再修改 MyBatis Configuration
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 14:30
+ * @see EntityMetadataRegistry
+ */
+public class EntityMetadataInitializer implements SmartInitializingSingleton, BeanFactoryAware {
+
+    private ListableBeanFactory beanFactory;
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        if (beanFactory instanceof ListableBeanFactory) {
+            this.beanFactory = (ListableBeanFactory) beanFactory;
+        }
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        EntityMetadataRegistry.registerAll();
+
+        if (Objects.isNull(beanFactory)) {
+            return;
+        }
+        for (BaseService<?, ?, ?> service : beanFactory.getBeansOfType(BaseService.class).values()) {
+            // 事务代理需取出目标对象
+            Object target = AopProxyUtils.getSingletonTarget(service);
+            Object candidate = Objects.nonNull(target) ? target : service;
+            if (candidate instanceof BaseServiceImpl) {
+                ((BaseServiceImpl<?, ?, ?, ?>) candidate).registerProjections();
+            }
+        }
+    }
+}
@@ -4,8 +4,12 @@ import com.baomidou.mybatisplus.extension.plugins.OptimisticLockerInterceptor;
 import com.baomidou.mybatisplus.extension.plugins.PaginationInterceptor;
 import io.ituknown.mybatis.CommonMetaObjectHandler;
 import io.ituknown.mybatis.injector.MybatisPlusSqlInjector;
+import io.ituknown.mybatis.sharding.ShardingSqlParser;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import java.util.Collections;
 
 /**
  * MyBatis Plus 配置类
@@ -14,11 +18,15 @@ import org.springframework.context.annotation.Configuration;
  * @since 2021/03/07 16:49
  */
 @Configuration
+@Import(ConnectionMonitorConfig.class)
 public class MyBatisPlusConfig {
 
     @Bean
     public PaginationInterceptor paginationInterceptor() {
-        return new PaginationInterceptor();
+        PaginationInterceptor paginationInterceptor = new PaginationInterceptor();
+        // 分表路由, 未指定分片时直接跳过
+        paginationInterceptor.setSqlParserList(Collections.singletonList(new ShardingSqlParser()));
+        return paginationInterceptor;
     }
 
     @Bean
@@ -41,4 +49,9 @@ public class MyBatisPlusConfig {
         return new MyBatisPlusBeanFactoryPostProcessor();
     }
 
+    @Bean
+    public EntityMetadataInitializer entityMetadataInitializer() {
+        return new EntityMetadataInitializer();
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,112 @@
+package io.ituknown.mybatis.support;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 精确总数缓存
+ *
+ * <p>
+ * 首次查询同步执行 COUNT, 之后直接返回缓存值. 缓存过期后仍返回旧值, 同时在后台线程中刷新,
+ * 保证调用方不会因为大表 COUNT 而阻塞
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 11:20
+ */
+@Slf4j
+public class ExactCountCache {
+
+    /**
+     * 默认缓存过期时间: 5 分钟
+     */
+    public static final long DEFAULT_TTL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    /**
+     * 单个缓存最多保存的条件个数, 超出后清空重建
+     */
+    private static final int MAX_ENTRIES = 256;
+
+    /**
+     * 所有缓存共享的后台刷新线程
+     */
+    private static final ExecutorService REFRESH_EXECUTOR = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(1024), new NamedThreadFactory("exact-count-refresh"));
+
+    private final long ttlMillis;
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public ExactCountCache() {
+        this(DEFAULT_TTL_MILLIS);
+    }
+
+    public ExactCountCache(long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 获取缓存的总数
+     *
+     * @param key    缓存键
+     * @param loader 精确总数查询
+     * @return 总数
+     */
+    public long get(String key, Supplier<? extends Number> loader) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            long count = loader.get().longValue();
+            if (entries.size() >= MAX_ENTRIES) {
+                entries.clear();
+            }
+            entries.put(key, new Entry(count));
+            return count;
+        }
+        if (entry.isExpired(ttlMillis) && entry.refreshing.compareAndSet(false, true)) {
+            refresh(key, entry, loader);
+        }
+        return entry.count;
+    }
+
+    /**
+     * 清空缓存
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    private void refresh(String key, Entry entry, Supplier<? extends Number> loader) {
+        try {
+            REFRESH_EXECUTOR.execute(() -> {
+                try {
+                    entries.replace(key, entry, new Entry(loader.get().longValue()));
+                } catch (RuntimeException e) {
+                    log.warn("Refresh exact count failed, key: {}", key, e);
+                    entry.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Refresh exact count rejected, key: {}", key);
+            entry.refreshing.set(false);
+        }
+    }
+
+    private static final class Entry {
+
+        private final long count;
+
+        private final long loadedAt = System.currentTimeMillis();
+
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Entry(long count) {
+            this.count = count;
+        }
+
+        private boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - loadedAt > ttlMillis;
+        }
+    }
+}
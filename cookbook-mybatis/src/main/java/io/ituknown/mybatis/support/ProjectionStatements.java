@@ -0,0 +1,78 @@
+package io.ituknown.mybatis.support;
+
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.toolkit.ExceptionUtils;
+import io.ituknown.mybatis.injector.methods.SelectListAs;
+import io.ituknown.mybatis.metadata.EntityMetadataRegistry;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.apache.ibatis.session.Configuration;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 投影查询 MappedStatement 注册表
+ *
+ * <p>
+ * 每个 Mapper 与目标类型的组合只注入一次 {@link SelectListAs}, 之后直接复用 statement id.
+ * MyBatis {@link Configuration} 中的 MappedStatement 容器是非线程安全的 HashMap, 查询线程读取时不加锁,
+ * 因此只允许在启动阶段({@link io.ituknown.mybatis.spring.EntityMetadataInitializer})注册, 运行期只做查找
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 13:40
+ */
+public final class ProjectionStatements {
+
+    private static final ConcurrentMap<String, String> STATEMENTS = new ConcurrentHashMap<>();
+
+    private ProjectionStatements() {
+    }
+
+    /**
+     * 注册投影查询 statement, 只能在启动阶段调用
+     *
+     * @param mapperClass mapper 接口
+     * @param modelClass  实体类型
+     * @param targetClass 目标类型
+     */
+    public static synchronized void register(Class<?> mapperClass, Class<?> modelClass, Class<?> targetClass) {
+        String key = key(mapperClass, targetClass);
+        if (!STATEMENTS.containsKey(key)) {
+            STATEMENTS.put(key, inject(mapperClass, modelClass, targetClass));
+        }
+    }
+
+    /**
+     * 获取投影查询 statement id
+     *
+     * @param mapperClass mapper 接口
+     * @param targetClass 目标类型
+     * @return statement id
+     * @throws com.baomidou.mybatisplus.core.exceptions.MybatisPlusException 目标类型未在启动时注册
+     */
+    public static String selectListAs(Class<?> mapperClass, Class<?> targetClass) {
+        String statement = STATEMENTS.get(key(mapperClass, targetClass));
+        if (Objects.isNull(statement)) {
+            throw ExceptionUtils.mpe("Error: Projection %s is not registered for %s, declare it in BaseServiceImpl#projectionClasses().",
+                    targetClass.getName(), mapperClass.getName());
+        }
+        return statement;
+    }
+
+    private static String key(Class<?> mapperClass, Class<?> targetClass) {
+        return mapperClass.getName() + "#" + targetClass.getName();
+    }
+
+    private static String inject(Class<?> mapperClass, Class<?> modelClass, Class<?> targetClass) {
+        TableInfo tableInfo = EntityMetadataRegistry.get(modelClass).getTableInfo();
+        Configuration configuration = tableInfo.getConfiguration();
+        MapperBuilderAssistant assistant = new MapperBuilderAssistant(configuration,
+                mapperClass.getName().replace('.', '/') + ".java (projection)");
+        assistant.setCurrentNamespace(mapperClass.getName());
+
+        SelectListAs method = new SelectListAs(targetClass);
+        method.inject(assistant, mapperClass, modelClass, tableInfo);
+        return mapperClass.getName() + "." + method.getSqlMethod();
+    }
+}
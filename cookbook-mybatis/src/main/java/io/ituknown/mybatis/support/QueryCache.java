@@ -0,0 +1,132 @@
+package io.ituknown.mybatis.support;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 查询结果缓存
+ *
+ * <p>
+ * 每张表维护一个全局版本号, 缓存项记录加载时的版本号, 表被写入后版本号递增, 旧版本的缓存项即视为失效。
+ * 版本号在查询之前读取, 因此查询期间发生的写入同样会使本次结果失效
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 19:00
+ * @see QueryCacheable
+ */
+public class QueryCache {
+
+    /**
+     * 表名 -> 版本号, 只记录开启了缓存的表
+     */
+    private static final ConcurrentMap<String, AtomicLong> TABLE_VERSIONS = new ConcurrentHashMap<>();
+
+    private final AtomicLong version;
+
+    private final long ttlNanos;
+
+    private final Map<String, Entry> entries;
+
+    public QueryCache(String table, long ttlSeconds, int maxEntries) {
+        this.version = TABLE_VERSIONS.computeIfAbsent(table, key -> new AtomicLong());
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75F, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 使表的查询缓存失效
+     *
+     * <p>
+     * 处于事务中时, 事务结束后再次失效: 事务提交前其它线程读取并缓存的仍是旧数据
+     *
+     * @param table 表名
+     */
+    public static void invalidate(String table) {
+        AtomicLong version = TABLE_VERSIONS.get(table);
+        if (Objects.isNull(version)) {
+            return;
+        }
+        version.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(int status) {
+                    version.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    /**
+     * 获取缓存结果
+     *
+     * <p>
+     * 事务中直接查询且不缓存, 避免缓存未提交(可能回滚)的数据. 缓存的对象由所有调用方共享, 结果可变时调用方需返回副本
+     *
+     * @param key    缓存键
+     * @param loader 查询
+     * @return 查询结果
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R get(String key, Supplier<R> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.get();
+        }
+        long current = version.get();
+        long now = System.nanoTime();
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (Objects.nonNull(entry) && entry.version == current && now - entry.loadedAt < ttlNanos) {
+            return (R) entry.value;
+        }
+        R value = loader.get();
+        synchronized (entries) {
+            entries.put(key, new Entry(current, now, value));
+        }
+        return value;
+    }
+
+    /**
+     * 清空缓存项
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private static final class Entry {
+
+        private final long version;
+
+        private final long loadedAt;
+
+        private final Object value;
+
+        Entry(long version, long loadedAt, Object value) {
+            this.version = version;
+            this.loadedAt = loadedAt;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.ituknown.mybatis.support;
+
+import java.lang.annotation.*;
+
+/**
+ * 开启查询结果缓存
+ *
+ * <p>
+ * 标注在 {@link io.ituknown.mybatis.service.BaseServiceImpl} 子类上, 该 Service 的 {@code list(Wrapper)}
+ * 与 {@code count(Wrapper)} 结果将按条件缓存。通过任意 BaseService 对同一张表执行写操作后, 该表的缓存全部失效。
+ * 适用于配置表等读多写少的表; 不经过 BaseService 的写操作(自定义 Mapper 方法、其它系统)不会触发失效, 只能依赖 TTL.
+ * 命中缓存时 {@code list} 返回实体副本(见 {@link io.ituknown.mybatis.metadata.EntityMetadata#copy(Object)}),
+ * 修改返回的实体不会影响缓存和其他调用方
+ *
+ * <pre>
+ * &#64;Service
+ * &#64;QueryCacheable(ttlSeconds = 60, maxEntries = 128)
+ * public class DictServiceImpl extends BaseServiceImpl&lt;Dict, DictVO, DictMapper, Long&gt; implements DictService {
+ * }
+ * </pre>
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 19:00
+ * @see QueryCache
+ */
+@Documented
+@Inherited
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryCacheable {
+
+    /**
+     * 缓存过期时间(秒)
+     */
+    long ttlSeconds() default 300;
+
+    /**
+     * 最多缓存的查询条件数量, 超出后淘汰最久未使用的条件
+     */
+    int maxEntries() default 256;
+}
@@ -0,0 +1,98 @@
+package io.ituknown.mybatis.support;
+
+import com.baomidou.mybatisplus.core.conditions.AbstractWrapper;
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.reflect.Array;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Wrapper 缓存键工具类
+ *
+ * <p>
+ * 以 Wrapper 生成的 SQL 片段加绑定参数作为键, 相同条件构造出的 Wrapper 得到相同的键.
+ * 参数按类型加规范值写入(如 Date 取毫秒数), {@code 1}、{@code 1L}、{@code "1"} 以及只差毫秒的日期得到不同的键.
+ * Wrapper 中的 entity 条件不参与计算, 调用方需自行判断 {@link Wrapper#nonEmptyOfEntity()}
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 11:20
+ */
+public final class WrapperKeys {
+
+    private WrapperKeys() {
+    }
+
+    /**
+     * 生成 Wrapper 缓存键
+     *
+     * @param wrapper 条件构造器(可以为 null)
+     * @return 缓存键
+     */
+    public static String of(Wrapper<?> wrapper) {
+        if (Objects.isNull(wrapper)) {
+            return StringUtils.EMPTY;
+        }
+        StringBuilder key = new StringBuilder();
+        key.append(StringUtils.defaultString(wrapper.getSqlSelect())).append('|');
+        key.append(StringUtils.normalizeSpace(wrapper.getCustomSqlSegment()));
+        if (wrapper instanceof AbstractWrapper) {
+            Map<String, Object> params = ((AbstractWrapper<?, ?, ?>) wrapper).getParamNameValuePairs();
+            if (Objects.nonNull(params) && !params.isEmpty()) {
+                for (Map.Entry<String, Object> entry : new TreeMap<>(params).entrySet()) {
+                    key.append('|').append(entry.getKey()).append('=');
+                    appendValue(key, entry.getValue());
+                }
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * 写入参数类型及规范值, 字符串值带长度前缀, 避免与分隔符混淆
+     */
+    private static void appendValue(StringBuilder key, Object value) {
+        if (Objects.isNull(value)) {
+            key.append("null");
+            return;
+        }
+        key.append(value.getClass().getName());
+        if (value instanceof Collection) {
+            key.append('[');
+            for (Object element : (Collection<?>) value) {
+                appendValue(key, element);
+                key.append(',');
+            }
+            key.append(']');
+            return;
+        }
+        if (value.getClass().isArray()) {
+            key.append('[');
+            for (int i = 0, length = Array.getLength(value); i < length; i++) {
+                appendValue(key, Array.get(value, i));
+                key.append(',');
+            }
+            key.append(']');
+            return;
+        }
+        String text;
+        if (value instanceof Timestamp) {
+            text = ((Timestamp) value).getTime() + "." + ((Timestamp) value).getNanos();
+        } else if (value instanceof Date) {
+            text = String.valueOf(((Date) value).getTime());
+        } else if (value instanceof Calendar) {
+            text = ((Calendar) value).getTimeInMillis() + "@" + ((Calendar) value).getTimeZone().getID();
+        } else if (value instanceof Enum) {
+            text = ((Enum<?>) value).name();
+        } else {
+            text = value.toString();
+        }
+        key.append(':').append(text.length()).append(':').append(text);
+    }
+}
@@ -0,0 +1,151 @@
+package io.ituknown.mybatis.index;
+
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.baomidou.mybatisplus.core.exceptions.MybatisPlusException;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import lombok.Data;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 21:20
+ */
+public class IndexCheckerTest {
+
+    private static final IndexCheckMode DEFAULT_MODE = IndexChecker.getMode();
+
+    @BeforeClass
+    public static void setUp() {
+        MapperBuilderAssistant assistant = new MapperBuilderAssistant(new MybatisConfiguration(), "");
+        TableInfoHelper.initTableInfo(assistant, Member.class);
+        TableInfoHelper.initTableInfo(assistant, Plain.class);
+    }
+
+    @After
+    public void restore() {
+        IndexChecker.setMode(DEFAULT_MODE);
+    }
+
+    @Test
+    public void leadingIndexColumnPasses() {
+        IndexChecker.setMode(IndexCheckMode.REJECT);
+        IndexChecker.check(Member.class, new QueryWrapper<Member>().eq("user_id", 1));
+        IndexChecker.check(Member.class, new QueryWrapper<Member>().eq("nickname", "a").eq("mobile", "1"));
+        IndexChecker.check(Member.class, new QueryWrapper<Member>().in("id", 1, 2, 3));
+        // 没有条件时按第一个排序字段判断
+        IndexChecker.check(Member.class, new QueryWrapper<Member>().orderByDesc("id").orderByAsc("nickname"));
+        IndexChecker.check(Member.class, new QueryWrapper<>());
+    }
+
+    @Test
+    public void nonLeadingColumnIsRejected() {
+        IndexChecker.setMode(IndexCheckMode.REJECT);
+        // status 只是联合索引 (user_id, status) 的第二个字段
+        assertRejected(new QueryWrapper<Member>().eq("status", 1));
+        assertRejected(new QueryWrapper<Member>().like("nickname", "a"));
+        assertRejected(new QueryWrapper<Member>().orderByAsc("nickname"));
+        // 字段名作为其他字段名的一部分时不能误判
+        assertRejected(new QueryWrapper<Member>().eq("user_id_copy", 1));
+    }
+
+    @Test
+    public void cachedVerdictStillFollowsMode() {
+        IndexChecker.setMode(IndexCheckMode.WARN);
+        // 第一次检查在 WARN 模式下只记录告警
+        IndexChecker.check(Member.class, new QueryWrapper<Member>().eq("status", 2).orderByAsc("status"));
+
+        // 相同结构、不同参数值命中缓存的检查结果, 切换为 REJECT 后同样拒绝
+        IndexChecker.setMode(IndexCheckMode.REJECT);
+        assertRejected(new QueryWrapper<Member>().eq("status", 3).orderByAsc("status"));
+
+        IndexChecker.setMode(IndexCheckMode.OFF);
+        IndexChecker.check(Member.class, new QueryWrapper<Member>().eq("status", 4).orderByAsc("status"));
+    }
+
+    @Test
+    public void entityWithoutIndexDefinitionIsSkipped() {
+        IndexChecker.setMode(IndexCheckMode.REJECT);
+        IndexChecker.check(Plain.class, new QueryWrapper<Plain>().eq("name", "a"));
+        IndexChecker.check(null, new QueryWrapper<Plain>().eq("name", "a"));
+    }
+
+    @Test
+    public void normalizeIgnoresValuesAndInListLength() {
+        assertEquals("(id IN (?) AND status = ?)",
+                IndexChecker.normalize("(id IN (#{ew.paramNameValuePairs.MPGENVAL1},#{ew.paramNameValuePairs.MPGENVAL2}) AND status = #{ew.paramNameValuePairs.MPGENVAL3})"));
+        assertEquals(IndexChecker.normalize(new QueryWrapper<Member>().in("id", 1).getExpression().getNormal().getSqlSegment()),
+                IndexChecker.normalize(new QueryWrapper<Member>().in("id", 1, 2, 3, 4).getExpression().getNormal().getSqlSegment()));
+        assertEquals("", IndexChecker.normalize(null));
+        assertEquals("a = #{broken", IndexChecker.normalize("a = #{broken"));
+    }
+
+    @Test
+    public void invalidModePropertyFallsBackToWarn() {
+        assertEquals(IndexCheckMode.WARN, IndexChecker.parseMode(null));
+        assertEquals(IndexCheckMode.WARN, IndexChecker.parseMode(" "));
+        assertEquals(IndexCheckMode.WARN, IndexChecker.parseMode("strict"));
+        assertEquals(IndexCheckMode.REJECT, IndexChecker.parseMode(" reject "));
+        assertEquals(IndexCheckMode.OFF, IndexChecker.parseMode("off"));
+    }
+
+    private static void assertRejected(QueryWrapper<Member> wrapper) {
+        try {
+            IndexChecker.check(Member.class, wrapper);
+            fail("expected index check to reject: " + wrapper.getSqlSegment());
+        } catch (MybatisPlusException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("t_member"));
+        }
+    }
+
+    @Data
+    @TableName("t_member")
+    public static class Member {
+
+        @TableId
+        private Long id;
+
+        private Long userId;
+
+        private Long userIdCopy;
+
+        private Integer status;
+
+        private String nickname;
+
+        private String mobile;
+    }
+
+    /**
+     * 按约定的类名 {@code Member + Indexes} 加载
+     */
+    public static class MemberIndexes implements EntityIndexes {
+
+        @Override
+        public List<List<String>> indexes() {
+            return Arrays.asList(Collections.singletonList("id"), Arrays.asList("user_id", "status"),
+                    Collections.singletonList("mobile"));
+        }
+    }
+
+    @Data
+    @TableName("t_plain")
+    public static class Plain {
+
+        @TableId
+        private Long id;
+
+        private String name;
+    }
+}
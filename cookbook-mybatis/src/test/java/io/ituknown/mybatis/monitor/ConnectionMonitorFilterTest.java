@@ -0,0 +1,59 @@
+package io.ituknown.mybatis.monitor;
+
+import com.alibaba.druid.pool.DruidDataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * 未开启 removeAbandoned、未配置 StatFilter 时也需记录连接占用时长
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 20:40
+ */
+public class ConnectionMonitorFilterTest {
+
+    private DruidDataSource dataSource;
+
+    @Before
+    public void setUp() throws Exception {
+        ConnectionMetrics.reset();
+        dataSource = new DruidDataSource();
+        dataSource.setName("monitor-test");
+        dataSource.setUrl("jdbc:h2:mem:monitor;DB_CLOSE_DELAY=-1");
+        dataSource.setValidationQuery("SELECT 1");
+        dataSource.setProxyFilters(Collections.singletonList(new ConnectionMonitorFilter(10)));
+        dataSource.init();
+    }
+
+    @After
+    public void tearDown() {
+        dataSource.close();
+        ConnectionMetrics.reset();
+    }
+
+    @Test
+    public void recordsHoldTimeFromAcquire() throws Exception {
+        assertFalse(dataSource.isRemoveAbandoned());
+        try (Connection connection = dataSource.getConnection()) {
+            assertNotNull(connection);
+            TimeUnit.MILLISECONDS.sleep(30);
+        }
+
+        ConnectionMetrics.Stats acquire = ConnectionMetrics.acquire().get(ServiceInvocation.UNKNOWN);
+        ConnectionMetrics.Stats hold = ConnectionMetrics.hold().get(ServiceInvocation.UNKNOWN);
+        assertNotNull(acquire);
+        assertNotNull(hold);
+        assertEquals(1, acquire.getCount());
+        assertEquals(1, hold.getCount());
+        assertTrue(String.valueOf(hold), hold.getMaxMillis() >= 30);
+        // 以获取连接的时间为起点, 而不是物理连接的创建时间
+        assertTrue(String.valueOf(hold), hold.getMaxMillis() < 10_000);
+    }
+}
@@ -0,0 +1,93 @@
+package io.ituknown.mybatis.monitor;
+
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
+import io.ituknown.mybatis.mapper.BaseMapper;
+import io.ituknown.mybatis.service.BaseServiceImpl;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Method;
+
+import static org.junit.Assert.*;
+
+/**
+ * 继承自 BaseServiceImpl 的同一个方法在不同 Service 上按各自的类型归属
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 22:30
+ */
+public class ServiceInvocationInterceptorTest {
+
+    private final ServiceInvocationInterceptor interceptor = new ServiceInvocationInterceptor();
+
+    @After
+    public void tearDown() {
+        ConnectionMetrics.reset();
+    }
+
+    @Test
+    public void inheritedMethodIsAttributedToEachService() throws Throwable {
+        Method list = BaseServiceImpl.class.getMethod("list", Wrapper.class);
+
+        assertEquals("OrderService#list[Order]", invoke(new OrderService(), list));
+        assertEquals("UserService#list[User]", invoke(new UserService(), list));
+        assertEquals("OrderService#list[Order]", invoke(new OrderService(), list));
+        assertEquals(ServiceInvocation.UNKNOWN, ServiceInvocation.current());
+
+        // 只有标注了 @Transactional 的 OrderService 记录事务时长
+        assertEquals(2, ConnectionMetrics.transaction().get("OrderService#list[Order]").getCount());
+        assertNull(ConnectionMetrics.transaction().get("UserService#list[User]"));
+    }
+
+    private String invoke(Object target, Method method) throws Throwable {
+        return (String) interceptor.invoke(new MethodInvocation() {
+
+            @Override
+            public Method getMethod() {
+                return method;
+            }
+
+            @Override
+            public Object[] getArguments() {
+                return new Object[]{null};
+            }
+
+            @Override
+            public Object proceed() {
+                return ServiceInvocation.current();
+            }
+
+            @Override
+            public Object getThis() {
+                return target;
+            }
+
+            @Override
+            public AccessibleObject getStaticPart() {
+                return method;
+            }
+        });
+    }
+
+    public static class Order {
+    }
+
+    public static class User {
+    }
+
+    public interface OrderMapper extends BaseMapper<Order, Order, Long> {
+    }
+
+    public interface UserMapper extends BaseMapper<User, User, Long> {
+    }
+
+    @Transactional
+    public static class OrderService extends BaseServiceImpl<Order, Order, OrderMapper, Long> {
+    }
+
+    public static class UserService extends BaseServiceImpl<User, User, UserMapper, Long> {
+    }
+}
@@ -0,0 +1,53 @@
+package io.ituknown.mybatis.scan;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 12:10
+ */
+public class FileScanCheckpointStoreTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void planAndProgressRoundTrip() throws IOException {
+        FileScanCheckpointStore store = new FileScanCheckpointStore(folder.getRoot().toPath());
+        assertTrue(store.load("job").isEmpty());
+
+        store.savePlan("job", Arrays.asList(new ScanSlice(0, 1, 50, null, false), new ScanSlice(1, 51, 100, null, false)));
+        store.save("job", new ScanSlice(1, 51, 100, 80L, false));
+        store.save("job", new ScanSlice(0, 1, 50, 50L, true));
+
+        List<ScanSlice> slices = store.load("job");
+        assertEquals(2, slices.size());
+        assertEquals(0, slices.get(0).getIndex());
+        assertTrue(slices.get(0).isFinished());
+        assertEquals(Long.valueOf(80), slices.get(1).getLastKey());
+        assertEquals(100, slices.get(1).getUpperBound());
+    }
+
+    @Test
+    public void incompletePlanIsIgnored() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        // 旧版本逐个区间写入计划, 在写完第一个区间后中断
+        Files.write(directory.resolve("job.checkpoint"), "slice.0=1,50,,false\n".getBytes(StandardCharsets.ISO_8859_1));
+        FileScanCheckpointStore store = new FileScanCheckpointStore(directory);
+        assertTrue(store.load("job").isEmpty());
+
+        Files.write(directory.resolve("job.checkpoint"), "slices=2\nslice.0=1,50,,false\n".getBytes(StandardCharsets.ISO_8859_1));
+        assertTrue(store.load("job").isEmpty());
+    }
+}
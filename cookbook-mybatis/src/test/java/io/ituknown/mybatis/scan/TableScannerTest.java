@@ -0,0 +1,215 @@
+package io.ituknown.mybatis.scan;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
+import com.baomidou.mybatisplus.core.exceptions.MybatisPlusException;
+import com.baomidou.mybatisplus.core.metadata.IPage;
+import io.ituknown.mybatis.mapper.BaseMapper;
+import io.ituknown.mybatis.service.BaseServiceImpl;
+import io.ituknown.mybatis.service.H2SqlSessions;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * 全表扫描测试: 任一区间失败后续扫, 每个主键恰好处理一次
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 22:20
+ */
+public class TableScannerTest {
+
+    private static final int ROWS = 40;
+
+    private static Connection keepAlive;
+
+    private static RowService rowService;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        JdbcDataSource dataSource = H2SqlSessions.dataSource("table_scanner");
+        keepAlive = dataSource.getConnection();
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("CREATE TABLE t_row (id BIGINT PRIMARY KEY, name VARCHAR(32))");
+            for (int id = 1; id <= ROWS; id++) {
+                statement.execute("INSERT INTO t_row VALUES (" + id + ", 'row-" + id + "')");
+            }
+        }
+        rowService = new RowService();
+        rowService.setBaseMapper(H2SqlSessions.sqlSessionTemplate(dataSource, RowMapper.class).getMapper(RowMapper.class));
+    }
+
+    @AfterClass
+    public static void tearDown() throws SQLException {
+        keepAlive.close();
+    }
+
+    @Before
+    public void resetHook() {
+        rowService.pageHook = UnaryOperator.identity();
+    }
+
+    @Test
+    public void scanProcessesEveryKeyOnce() {
+        Queue<Long> processed = new ConcurrentLinkedQueue<>();
+        long total = scanner().scan(row -> processed.add(row.getId()));
+        assertEquals(ROWS, total);
+        assertEquals(allKeys(), sorted(processed));
+    }
+
+    @Test
+    public void resumeAfterFailureProcessesEveryKeyOnce() throws Exception {
+        // 区间 A: 1~20, 区间 B: 21~40, 每批 5 条
+        CountDownLatch firstBatchOfB = new CountDownLatch(1);
+        CountDownLatch thrown = new CountDownLatch(1);
+        rowService.pageHook = records -> {
+            long first = records.get(0).getId();
+            if (first == 1) {
+                // A 的第一批在 B 的第一批处理完成之后入队
+                await(firstBatchOfB);
+            } else if (first == 21) {
+                // B 的读取线程在放入第一批之后暂停, 直到 A 失败, 再以整页结果回到循环条件
+                return new PausingList(records, thrown);
+            }
+            return records;
+        };
+
+        Queue<Long> processed = new ConcurrentLinkedQueue<>();
+        try {
+            scanner().scan(row -> {
+                if (row.getId() == 1L) {
+                    thrown.countDown();
+                    throw new IllegalStateException("boom");
+                }
+                processed.add(row.getId());
+                if (row.getId() == 25L) {
+                    firstBatchOfB.countDown();
+                }
+            });
+            fail("scan should fail");
+        } catch (MybatisPlusException expected) {
+            assertTrue(expected.getCause() instanceof IllegalStateException);
+        }
+
+        rowService.pageHook = UnaryOperator.identity();
+        scanner().scan(row -> processed.add(row.getId()));
+        assertEquals(allKeys(), sorted(processed));
+
+        // 续扫完成后所有区间均已完成
+        assertEquals(0L, scanner().scan(row -> fail("finished job should not rescan")));
+    }
+
+    private TableScanner<Row> scanner() {
+        return TableScanner.of(rowService, Row.class)
+                .job("rows")
+                .slices(2)
+                .parallelism(1)
+                .pageSize(5)
+                .checkpointStore(new FileScanCheckpointStore(folder.getRoot().toPath()));
+    }
+
+    private static List<Long> allKeys() {
+        return LongStream.rangeClosed(1, ROWS).boxed().collect(Collectors.toList());
+    }
+
+    private static List<Long> sorted(Collection<Long> keys) {
+        return keys.stream().sorted().collect(Collectors.toList());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 读取线程第二次调用 size()(判断是否为最后一页)时暂停, 直到其他区间失败
+     */
+    private static final class PausingList extends ArrayList<Row> {
+
+        private final CountDownLatch thrown;
+
+        private int readerCalls;
+
+        PausingList(List<Row> records, CountDownLatch thrown) {
+            super(records);
+            this.thrown = thrown;
+        }
+
+        @Override
+        public int size() {
+            if (Thread.currentThread().getName().startsWith("scan-reader") && ++readerCalls == 2) {
+                await(thrown);
+                try {
+                    // 等待处理线程记录失败
+                    TimeUnit.MILLISECONDS.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return super.size();
+        }
+    }
+
+    @Data
+    @TableName("t_row")
+    public static class Row {
+
+        @TableId(type = IdType.INPUT)
+        private Long id;
+
+        private String name;
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class RowVO extends Row {
+    }
+
+    public interface RowMapper extends BaseMapper<Row, RowVO, Long> {
+    }
+
+    public static class RowService extends BaseServiceImpl<Row, RowVO, RowMapper, Long> {
+
+        volatile UnaryOperator<List<Row>> pageHook = UnaryOperator.identity();
+
+        @Override
+        public IPage<Row> page(IPage<Row> page, Wrapper<Row> queryWrapper) {
+            IPage<Row> result = super.page(page, queryWrapper);
+            if (!result.getRecords().isEmpty()) {
+                result.setRecords(pageHook.apply(result.getRecords()));
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package io.ituknown.mybatis.service;
+
+import com.baomidou.mybatisplus.core.config.GlobalConfig;
+import com.baomidou.mybatisplus.extension.plugins.OptimisticLockerInterceptor;
+import com.baomidou.mybatisplus.extension.plugins.PaginationInterceptor;
+import com.baomidou.mybatisplus.extension.spring.MybatisSqlSessionFactoryBean;
+import io.ituknown.mybatis.injector.MybatisPlusSqlInjector;
+import io.ituknown.mybatis.mapper.BaseMapper;
+import io.ituknown.mybatis.sharding.ShardingSqlParser;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.mybatis.spring.SqlSessionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+
+/**
+ * 测试用 SqlSessionFactory, 配置与 MyBatisPlusConfig 一致: 自定义 SQL 注入器、分表解析、乐观锁
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 20:40
+ */
+public final class H2SqlSessions {
+
+    private H2SqlSessions() {
+    }
+
+    public static JdbcDataSource dataSource(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+
+    public static SqlSessionTemplate sqlSessionTemplate(DataSource dataSource, Class<?>... mapperClasses) throws Exception {
+        PaginationInterceptor paginationInterceptor = new PaginationInterceptor();
+        paginationInterceptor.setSqlParserList(Collections.singletonList(new ShardingSqlParser()));
+
+        GlobalConfig globalConfig = new GlobalConfig();
+        globalConfig.setBanner(false);
+        globalConfig.setSqlInjector(new MybatisPlusSqlInjector());
+        globalConfig.setSuperMapperClass(BaseMapper.class);
+        globalConfig.setDbConfig(new GlobalConfig.DbConfig());
+
+        MybatisSqlSessionFactoryBean factoryBean = new MybatisSqlSessionFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setGlobalConfig(globalConfig);
+        factoryBean.setPlugins(new Interceptor[]{paginationInterceptor, new OptimisticLockerInterceptor()});
+        SqlSessionFactory sqlSessionFactory = factoryBean.getObject();
+        for (Class<?> mapperClass : mapperClasses) {
+            sqlSessionFactory.getConfiguration().addMapper(mapperClass);
+        }
+        return new SqlSessionTemplate(sqlSessionFactory);
+    }
+}
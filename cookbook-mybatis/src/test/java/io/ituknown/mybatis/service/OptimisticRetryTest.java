@@ -0,0 +1,141 @@
+package io.ituknown.mybatis.service;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import com.baomidou.mybatisplus.annotation.Version;
+import io.ituknown.mybatis.mapper.BaseMapper;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 乐观锁批量更新冲突重试: 重试时需读取到事务外已提交的最新版本
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 20:40
+ */
+public class OptimisticRetryTest {
+
+    private static Connection keepAlive;
+
+    private static AccountMapper accountMapper;
+
+    private static AccountService accountService;
+
+    private static TransactionTemplate transactionTemplate;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        JdbcDataSource dataSource = H2SqlSessions.dataSource("optimistic");
+        keepAlive = dataSource.getConnection();
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("CREATE TABLE t_account (id BIGINT PRIMARY KEY, balance INT, version INT)");
+        }
+        accountMapper = H2SqlSessions.sqlSessionTemplate(dataSource, AccountMapper.class).getMapper(AccountMapper.class);
+        accountService = new AccountService();
+        accountService.setBaseMapper(accountMapper);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @AfterClass
+    public static void tearDown() throws SQLException {
+        keepAlive.close();
+    }
+
+    @Before
+    public void reset() throws SQLException {
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("DELETE FROM t_account");
+            statement.execute("INSERT INTO t_account (id, balance, version) VALUES (1, 100, 1)");
+        }
+    }
+
+    @Test
+    public void retryReloadsCommittedVersionInsideTransaction() throws SQLException {
+        OptimisticRetryPolicy<Account> policy = OptimisticRetryPolicy.of(3, (current, conflict) -> {
+            current.setBalance(current.getBalance() - 30);
+            return current;
+        });
+
+        List<Account> failed = transactionTemplate.execute(status -> {
+            // 事务内先查询一次, 一级缓存中留下版本号为 1 的对象
+            Account stale = accountMapper.selectBatchIds(Collections.singletonList(1L)).get(0);
+            concurrentUpdate();
+            stale.setBalance(stale.getBalance() - 30);
+            return accountService.updateBatchByIdWithVersion(Collections.singletonList(stale), 100, policy);
+        });
+
+        assertTrue(failed.isEmpty());
+        try (Statement statement = keepAlive.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT balance, version FROM t_account WHERE id = 1")) {
+            assertTrue(rs.next());
+            assertEquals(80, rs.getInt(1));
+            assertEquals(3, rs.getInt(2));
+        }
+    }
+
+    @Test
+    public void conflictWithoutRetryPolicyIsReported() {
+        List<Account> failed = transactionTemplate.execute(status -> {
+            Account stale = accountService.getById(1L);
+            concurrentUpdate();
+            stale.setBalance(0);
+            return accountService.updateBatchByIdWithVersion(Collections.singletonList(stale));
+        });
+
+        assertEquals(1, failed.size());
+        assertEquals(Integer.valueOf(1), failed.get(0).getVersion());
+    }
+
+    /**
+     * 模拟其他事务修改并提交
+     */
+    private static void concurrentUpdate() {
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("UPDATE t_account SET balance = balance + 10, version = version + 1 WHERE id = 1");
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Data
+    @TableName("t_account")
+    public static class Account {
+
+        @TableId(type = IdType.INPUT)
+        private Long id;
+
+        private Integer balance;
+
+        @Version
+        private Integer version;
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class AccountVO extends Account {
+    }
+
+    public interface AccountMapper extends BaseMapper<Account, AccountVO, Long> {
+    }
+
+    public static class AccountService extends BaseServiceImpl<Account, AccountVO, AccountMapper, Long> {
+    }
+}
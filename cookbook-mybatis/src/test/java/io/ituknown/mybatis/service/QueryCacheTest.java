@@ -0,0 +1,98 @@
+package io.ituknown.mybatis.service;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import io.ituknown.mybatis.mapper.BaseMapper;
+import io.ituknown.mybatis.support.QueryCacheable;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * 查询缓存命中时返回的实体不能与缓存共享
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 20:50
+ */
+public class QueryCacheTest {
+
+    private static Connection keepAlive;
+
+    private static DictService dictService;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        JdbcDataSource dataSource = H2SqlSessions.dataSource("query_cache");
+        keepAlive = dataSource.getConnection();
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("CREATE TABLE t_dict (id BIGINT PRIMARY KEY, name VARCHAR(32), updated_at TIMESTAMP)");
+            statement.execute("INSERT INTO t_dict VALUES (1, 'a', TIMESTAMP '2026-10-19 12:00:00'), (2, 'b', TIMESTAMP '2026-10-19 13:00:00')");
+        }
+        dictService = new DictService();
+        dictService.setBaseMapper(H2SqlSessions.sqlSessionTemplate(dataSource, DictMapper.class).getMapper(DictMapper.class));
+    }
+
+    @AfterClass
+    public static void tearDown() throws SQLException {
+        keepAlive.close();
+    }
+
+    @Test
+    public void cachedEntitiesAreCopiedForEachCaller() throws SQLException {
+        List<Dict> first = dictService.list(Wrappers.<Dict>lambdaQuery().orderByAsc(Dict::getId));
+        assertEquals(2, first.size());
+        Dict dict = first.get(0);
+        long updatedAt = dict.getUpdatedAt().getTime();
+        dict.setName("changed");
+        dict.getUpdatedAt().setTime(0L);
+
+        // 绕过 BaseService 修改数据, 缓存不会失效, 第二次查询应命中缓存
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("UPDATE t_dict SET name = 'db' WHERE id = 2");
+        }
+
+        List<Dict> second = dictService.list(Wrappers.<Dict>lambdaQuery().orderByAsc(Dict::getId));
+        assertEquals("b", second.get(1).getName());
+        assertNotSame(dict, second.get(0));
+        assertEquals("a", second.get(0).getName());
+        assertEquals(updatedAt, second.get(0).getUpdatedAt().getTime());
+        assertEquals(Long.valueOf(1), second.get(0).getId());
+    }
+
+    @Data
+    @TableName("t_dict")
+    public static class Dict {
+
+        @TableId(type = IdType.INPUT)
+        private Long id;
+
+        private String name;
+
+        private Date updatedAt;
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class DictVO extends Dict {
+    }
+
+    public interface DictMapper extends BaseMapper<Dict, DictVO, Long> {
+    }
+
+    @QueryCacheable(ttlSeconds = 60)
+    public static class DictService extends BaseServiceImpl<Dict, DictVO, DictMapper, Long> {
+    }
+}
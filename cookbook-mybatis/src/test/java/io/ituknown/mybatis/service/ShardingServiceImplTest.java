@@ -0,0 +1,219 @@
+package io.ituknown.mybatis.service;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import io.ituknown.mybatis.mapper.BaseMapper;
+import io.ituknown.mybatis.sharding.ShardingContext;
+import io.ituknown.mybatis.sharding.TableSharding;
+import io.ituknown.mybatis.support.ExactCountCache;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * 分表路由测试, 每个分片是一个独立的 H2 schema: shard_00.t_order, shard_01.t_order
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 20:10
+ */
+public class ShardingServiceImplTest {
+
+    private static final int SHARDS = 2;
+
+    private static JdbcDataSource dataSource;
+
+    private static Connection keepAlive;
+
+    private static OrderService orderService;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        dataSource = H2SqlSessions.dataSource("sharding");
+        keepAlive = dataSource.getConnection();
+        try (Statement statement = keepAlive.createStatement()) {
+            for (int i = 0; i < SHARDS; i++) {
+                String schema = String.format("shard_%02d", i);
+                statement.execute("CREATE SCHEMA " + schema);
+                statement.execute("CREATE TABLE " + schema + ".t_order (id BIGINT PRIMARY KEY, user_id BIGINT, amount INT)");
+            }
+        }
+
+        orderService = new OrderService();
+        orderService.setBaseMapper(H2SqlSessions.sqlSessionTemplate(dataSource, OrderMapper.class).getMapper(OrderMapper.class));
+    }
+
+    @AfterClass
+    public static void tearDown() throws SQLException {
+        keepAlive.close();
+    }
+
+    @Before
+    public void reset() throws SQLException {
+        try (Statement statement = keepAlive.createStatement()) {
+            for (int i = 0; i < SHARDS; i++) {
+                statement.execute(String.format("DELETE FROM shard_%02d.t_order", i));
+            }
+        }
+        for (long id = 1; id <= 10; id++) {
+            Order order = new Order();
+            order.setId(id);
+            order.setUserId(100 + id);
+            order.setAmount((int) (id * 7 % 11));
+            assertTrue(orderService.insert(order));
+        }
+    }
+
+    @Test
+    public void insertRoutesToShardSchema() throws SQLException {
+        assertEquals(5, physicalCount("shard_00"));
+        assertEquals(5, physicalCount("shard_01"));
+        try (Statement statement = keepAlive.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM shard_01.t_order WHERE MOD(id, 2) = 0")) {
+            rs.next();
+            assertEquals(0, rs.getInt(1));
+        }
+    }
+
+    @Test
+    public void getByIdRoutesToSingleShard() throws SQLException {
+        Order order = orderService.getById(3L);
+        assertNotNull(order);
+        assertEquals(Long.valueOf(103), order.getUserId());
+
+        // 直接改写另一个分片中的同 id 记录, 确认读取不会落到该分片
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("INSERT INTO shard_00.t_order (id, user_id, amount) VALUES (3, 999, 0)");
+        }
+        assertEquals(Long.valueOf(103), orderService.getById(3L).getUserId());
+        assertNull(orderService.getById(11L));
+    }
+
+    @Test
+    public void countAndListFanOutAcrossShards() {
+        assertEquals(10, orderService.count(null));
+        assertEquals(5, orderService.count(Wrappers.<Order>lambdaQuery().gt(Order::getId, 5L)));
+        assertEquals(10, orderService.list(Wrappers.<Order>lambdaQuery()).size());
+
+        Comparator<Order> byAmount = Comparator.comparing(Order::getAmount).thenComparing(Order::getId);
+        List<Order> sorted = orderService.list(Wrappers.<Order>lambdaQuery().orderByAsc(Order::getAmount, Order::getId), byAmount);
+        List<Order> expected = new ArrayList<>(sorted);
+        expected.sort(byAmount);
+        assertEquals(ids(expected), ids(sorted));
+        assertEquals(10, sorted.size());
+    }
+
+    @Test
+    public void withShardLimitsToOneShard() {
+        assertEquals(5, (int) orderService.withShard(0L, () -> orderService.count(null)));
+        List<Order> shard = orderService.withShard(1L, () -> orderService.list(Wrappers.<Order>lambdaQuery()));
+        assertEquals(5, shard.size());
+        for (Order order : shard) {
+            assertEquals(1L, order.getId() % 2);
+        }
+    }
+
+    @Test
+    public void estimateCountKeepsShardAfterBackgroundRefresh() throws Exception {
+        // 过期时间为 0: 第一次同步加载之后每次调用都会提交后台刷新
+        setExactCountCache(orderService, new ExactCountCache(0));
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("DELETE FROM shard_00.t_order WHERE id = 2");
+        }
+
+        assertEquals(9, orderService.estimateCount(null));
+        for (int i = 0; i < 50; i++) {
+            assertEquals(4L, (long) orderService.withShard(0L, () -> orderService.estimateCount(null)));
+            assertEquals(5L, (long) orderService.withShard(1L, () -> orderService.estimateCount(null)));
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+
+    @Test
+    public void boundLoaderUsesCapturedRouteOnRefreshThread() throws Exception {
+        ExactCountCache cache = new ExactCountCache(0);
+        List<Integer> loaded = Collections.synchronizedList(new ArrayList<>());
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch refreshed = new CountDownLatch(2);
+
+        Runnable load = () -> orderService.withShard(1L, () -> cache.get("shard", ShardingContext.bind(() -> {
+            int count = orderService.count(null);
+            loaded.add(count);
+            threads.add(Thread.currentThread().getName());
+            refreshed.countDown();
+            return count;
+        })));
+        load.run();
+        TimeUnit.MILLISECONDS.sleep(5);
+        load.run();
+
+        assertTrue(refreshed.await(5, TimeUnit.SECONDS));
+        assertTrue(threads.toString(), threads.stream().anyMatch(name -> name.startsWith("exact-count-refresh")));
+        for (Integer count : new ArrayList<>(loaded)) {
+            assertEquals(5, count.intValue());
+        }
+        assertTrue(ShardingContext.routes().isEmpty());
+    }
+
+    private static int physicalCount(String schema) throws SQLException {
+        try (Statement statement = keepAlive.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + schema + ".t_order")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    private static List<Long> ids(List<Order> orders) {
+        return orders.stream().map(Order::getId).collect(Collectors.toList());
+    }
+
+    private static void setExactCountCache(BaseServiceImpl<?, ?, ?, ?> service, ExactCountCache cache) throws Exception {
+        Field field = BaseServiceImpl.class.getDeclaredField("exactCountCache");
+        field.setAccessible(true);
+        field.set(service, cache);
+    }
+
+    @Data
+    @TableName("t_order")
+    @TableSharding(property = "id", shards = SHARDS, format = "shard_%2$02d.%1$s")
+    public static class Order {
+
+        @TableId(type = IdType.INPUT)
+        private Long id;
+
+        private Long userId;
+
+        private Integer amount;
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class OrderVO extends Order {
+    }
+
+    public interface OrderMapper extends BaseMapper<Order, OrderVO, Long> {
+    }
+
+    public static class OrderService extends ShardingServiceImpl<Order, OrderVO, OrderMapper, Long> {
+    }
+}
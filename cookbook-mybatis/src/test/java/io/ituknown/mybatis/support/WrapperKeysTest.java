@@ -0,0 +1,52 @@
+package io.ituknown.mybatis.support;
+
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import org.junit.Test;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Date;
+
+import static org.junit.Assert.*;
+
+/**
+ * {@link WrapperKeys} 测试
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 22:10
+ */
+public class WrapperKeysTest {
+
+    @Test
+    public void sameConditionsGiveSameKey() {
+        assertEquals(WrapperKeys.of(query().eq("id", 1).in("status", Arrays.asList(1, 2))),
+                WrapperKeys.of(query().eq("id", 1).in("status", Arrays.asList(1, 2))));
+        assertEquals("", WrapperKeys.of(null));
+    }
+
+    @Test
+    public void parameterTypesAreDistinguished() {
+        String intKey = WrapperKeys.of(query().eq("id", 1));
+        assertNotEquals(intKey, WrapperKeys.of(query().eq("id", 1L)));
+        assertNotEquals(intKey, WrapperKeys.of(query().eq("id", "1")));
+        assertNotEquals(WrapperKeys.of(query().eq("id", "a,b")), WrapperKeys.of(query().in("id", Arrays.asList("a", "b"))));
+    }
+
+    @Test
+    public void datesKeepMillisecondPrecision() {
+        long millis = 1760000000000L;
+        String key = WrapperKeys.of(query().ge("create_time", new Date(millis)));
+        assertNotEquals(key, WrapperKeys.of(query().ge("create_time", new Date(millis + 1))));
+        assertEquals(key, WrapperKeys.of(query().ge("create_time", new Date(millis))));
+
+        Timestamp timestamp = new Timestamp(millis);
+        Timestamp nanos = new Timestamp(millis);
+        nanos.setNanos(1);
+        assertNotEquals(WrapperKeys.of(query().ge("create_time", timestamp)), WrapperKeys.of(query().ge("create_time", nanos)));
+    }
+
+    private static QueryWrapper<Object> query() {
+        return Wrappers.query();
+    }
+}
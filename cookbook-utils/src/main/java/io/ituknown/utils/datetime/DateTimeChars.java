@@ -0,0 +1,223 @@
+package io.ituknown.utils.datetime;
+
+import java.time.*;
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * 固定格式日期时间的字符数组读写
+ *
+ * <p>
+ * 针对 {@link DateFormatUtils#ISO_LOCAL_DATE_PATTERN}、{@link DateFormatUtils#ISO_TIME_PATTERN}、
+ * {@link DateFormatUtils#DATE_TIME_PATTERN} 三种定长格式直接读写数字字符, 不经过 DateTimeFormatter.
+ * 仅处理公元 1 ~ 9999 年, 超出范围或格式不匹配时写方法返回 -1、读方法返回 null, 调用方应回退到 DateTimeFormatter
+ * (保证结果与 DateTimeFormatter 一致, 包括异常信息)
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 16:05
+ */
+public final class DateTimeChars {
+
+    /**
+     * yyyy-MM-dd
+     */
+    public static final int DATE_LENGTH = 10;
+
+    /**
+     * HH:mm:ss
+     */
+    public static final int TIME_LENGTH = 8;
+
+    /**
+     * yyyy-MM-dd HH:mm:ss
+     */
+    public static final int DATE_TIME_LENGTH = 19;
+
+    /**
+     * java.util.Date 快速路径的最小年份. SimpleDateFormat 使用的 GregorianCalendar 在 1582-10-15 之前按儒略历计算,
+     * 更早的日期交给 SimpleDateFormat 处理以保持结果一致
+     */
+    private static final int MIN_DATE_YEAR = 1583;
+
+    /**
+     * 前后探测时区偏移的跨度, 用于判断本地时间是否落在偏移切换(夏令时、地方平时调整等)附近
+     */
+    private static final long OFFSET_PROBE_MILLIS = 24 * 60 * 60 * 1000L;
+
+    private DateTimeChars() {
+    }
+
+    /**
+     * 按 yyyy-MM-dd 写入, buffer 剩余长度至少为 {@link #DATE_LENGTH}
+     *
+     * @return 写入的字符数, 不支持时返回 -1
+     */
+    public static int writeLocalDate(LocalDate date, char[] buffer, int offset) {
+        int year = date.getYear();
+        if (year < 1 || year > 9999) {
+            return -1;
+        }
+        write4(buffer, offset, year);
+        buffer[offset + 4] = '-';
+        write2(buffer, offset + 5, date.getMonthValue());
+        buffer[offset + 7] = '-';
+        write2(buffer, offset + 8, date.getDayOfMonth());
+        return DATE_LENGTH;
+    }
+
+    /**
+     * 按 HH:mm:ss 写入(忽略纳秒), buffer 剩余长度至少为 {@link #TIME_LENGTH}
+     *
+     * @return 写入的字符数
+     */
+    public static int writeLocalTime(LocalTime time, char[] buffer, int offset) {
+        write2(buffer, offset, time.getHour());
+        buffer[offset + 2] = ':';
+        write2(buffer, offset + 3, time.getMinute());
+        buffer[offset + 5] = ':';
+        write2(buffer, offset + 6, time.getSecond());
+        return TIME_LENGTH;
+    }
+
+    /**
+     * 按 yyyy-MM-dd HH:mm:ss 写入(忽略纳秒), buffer 剩余长度至少为 {@link #DATE_TIME_LENGTH}
+     *
+     * @return 写入的字符数, 不支持时返回 -1
+     */
+    public static int writeLocalDateTime(LocalDateTime dateTime, char[] buffer, int offset) {
+        if (writeLocalDate(dateTime.toLocalDate(), buffer, offset) < 0) {
+            return -1;
+        }
+        buffer[offset + DATE_LENGTH] = ' ';
+        writeLocalTime(dateTime.toLocalTime(), buffer, offset + DATE_LENGTH + 1);
+        return DATE_TIME_LENGTH;
+    }
+
+    /**
+     * 将 java.util.Date 按指定时区以 yyyy-MM-dd HH:mm:ss 写入(忽略毫秒), buffer 剩余长度至少为 {@link #DATE_TIME_LENGTH}
+     *
+     * <p>
+     * 与 SimpleDateFormat 相同, 时区偏移取自 {@link TimeZone#getOffset(long)}, 而不是 ZoneId 的时区规则
+     * (两者对早期地方平时、非整小时夏令时等的处理并不相同)
+     *
+     * @return 写入的字符数, 不支持时返回 -1
+     */
+    public static int writeDate(Date date, TimeZone timeZone, char[] buffer, int offset) {
+        long millis = date.getTime();
+        long localMillis = millis + timeZone.getOffset(millis);
+        LocalDateTime dateTime = LocalDateTime.ofEpochSecond(Math.floorDiv(localMillis, 1000L), 0, ZoneOffset.UTC);
+        if (dateTime.getYear() < MIN_DATE_YEAR) {
+            return -1;
+        }
+        return writeLocalDateTime(dateTime, buffer, offset);
+    }
+
+    /**
+     * 按指定时区将 yyyy-MM-dd HH:mm:ss 解析为 java.util.Date, 时区偏移取自 {@link TimeZone#getOffset(long)}
+     *
+     * @return 格式不匹配、日期时间不合法或该时刻在时区内不唯一(落在偏移切换的间隙或重叠区间)时返回 null
+     */
+    public static Date parseDate(char[] buffer, int offset, int length, TimeZone timeZone) {
+        LocalDateTime dateTime = parseLocalDateTime(buffer, offset, length);
+        if (dateTime == null || dateTime.getYear() < MIN_DATE_YEAR) {
+            return null;
+        }
+        long localMillis = dateTime.toEpochSecond(ZoneOffset.UTC) * 1000L;
+        int before = timeZone.getOffset(localMillis - OFFSET_PROBE_MILLIS);
+        int after = timeZone.getOffset(localMillis + OFFSET_PROBE_MILLIS);
+        boolean beforeValid = timeZone.getOffset(localMillis - before) == before;
+        if (before == after) {
+            return beforeValid ? new Date(localMillis - before) : null;
+        }
+        boolean afterValid = timeZone.getOffset(localMillis - after) == after;
+        if (beforeValid == afterValid) {
+            return null;
+        }
+        return new Date(localMillis - (beforeValid ? before : after));
+    }
+
+    /**
+     * 解析 yyyy-MM-dd
+     *
+     * @return 格式不匹配或日期不合法时返回 null
+     */
+    public static LocalDate parseLocalDate(char[] buffer, int offset, int length) {
+        if (length != DATE_LENGTH || buffer[offset + 4] != '-' || buffer[offset + 7] != '-') {
+            return null;
+        }
+        int year = read(buffer, offset, 4);
+        int month = read(buffer, offset + 5, 2);
+        int day = read(buffer, offset + 8, 2);
+        if (year < 1 || month < 0 || day < 0) {
+            return null;
+        }
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 解析 HH:mm:ss
+     *
+     * @return 格式不匹配或时间不合法时返回 null
+     */
+    public static LocalTime parseLocalTime(char[] buffer, int offset, int length) {
+        if (length != TIME_LENGTH || buffer[offset + 2] != ':' || buffer[offset + 5] != ':') {
+            return null;
+        }
+        int hour = read(buffer, offset, 2);
+        int minute = read(buffer, offset + 3, 2);
+        int second = read(buffer, offset + 6, 2);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return null;
+        }
+        return LocalTime.of(hour, minute, second);
+    }
+
+    /**
+     * 解析 yyyy-MM-dd HH:mm:ss
+     *
+     * @return 格式不匹配或日期时间不合法时返回 null
+     */
+    public static LocalDateTime parseLocalDateTime(char[] buffer, int offset, int length) {
+        if (length != DATE_TIME_LENGTH || buffer[offset + DATE_LENGTH] != ' ') {
+            return null;
+        }
+        LocalDate date = parseLocalDate(buffer, offset, DATE_LENGTH);
+        if (date == null) {
+            return null;
+        }
+        LocalTime time = parseLocalTime(buffer, offset + DATE_LENGTH + 1, TIME_LENGTH);
+        if (time == null) {
+            return null;
+        }
+        return LocalDateTime.of(date, time);
+    }
+
+    private static void write2(char[] buffer, int offset, int value) {
+        buffer[offset] = (char) ('0' + value / 10);
+        buffer[offset + 1] = (char) ('0' + value % 10);
+    }
+
+    private static void write4(char[] buffer, int offset, int value) {
+        write2(buffer, offset, value / 100);
+        write2(buffer, offset + 2, value % 100);
+    }
+
+    /**
+     * 读取定长数字, 存在非数字字符时返回 -1
+     */
+    private static int read(char[] buffer, int offset, int digits) {
+        int value = 0;
+        for (int i = offset, end = offset + digits; i < end; i++) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,20 @@
+package io.ituknown.utils.exception;
+
+/**
+ * JSON Patch 应用失败(补丁格式错误、路径不存在、test 操作不匹配等)
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 17:20
+ */
+public class JsonPatchException extends ServiceException {
+
+    private static final long serialVersionUID = 3087519326544215012L;
+
+    public JsonPatchException(String message) {
+        super(message);
+    }
+
+    public JsonPatchException(String message, Throwable throwable) {
+        super(message, throwable);
+    }
+}
@@ -0,0 +1,76 @@
+package io.ituknown.utils.jackson;
+
+import com.fasterxml.jackson.core.JsonFactory;
+
+/**
+ * Jackson 二进制数据格式
+ *
+ * <p>
+ * 对应的 JsonFactory 通过反射加载, 使用前需引入相应依赖:
+ * <pre>
+ * &lt;dependency&gt;
+ *     &lt;groupId&gt;com.fasterxml.jackson.dataformat&lt;/groupId&gt;
+ *     &lt;artifactId&gt;jackson-dataformat-smile&lt;/artifactId&gt; &lt;!-- 或 jackson-dataformat-cbor --&gt;
+ * &lt;/dependency&gt;
+ * </pre>
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 17:55
+ */
+public enum BinaryFormat {
+
+    /**
+     * Smile: Jackson 定义的二进制 JSON, 支持字段名/短字符串回引用, 适合重复结构较多的数据
+     */
+    SMILE("com.fasterxml.jackson.dataformat.smile.SmileFactory", "application/x-jackson-smile"),
+
+    /**
+     * CBOR: RFC 7049, 跨语言支持更好
+     */
+    CBOR("com.fasterxml.jackson.dataformat.cbor.CBORFactory", "application/cbor");
+
+    private final String factoryClassName;
+    private final String mediaType;
+    private final Class<? extends JsonFactory> factoryClass;
+
+    BinaryFormat(String factoryClassName, String mediaType) {
+        this.factoryClassName = factoryClassName;
+        this.mediaType = mediaType;
+        this.factoryClass = loadFactoryClass(factoryClassName);
+    }
+
+    private static Class<? extends JsonFactory> loadFactoryClass(String className) {
+        try {
+            return Class.forName(className, false, BinaryFormat.class.getClassLoader()).asSubclass(JsonFactory.class);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * 类路径中是否存在该格式的实现
+     */
+    public boolean isAvailable() {
+        return factoryClass != null;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * 创建该格式的 JsonFactory
+     *
+     * @throws IllegalStateException 如果类路径中不存在该格式的实现
+     */
+    public JsonFactory createFactory() {
+        if (factoryClass == null) {
+            throw new IllegalStateException(factoryClassName + " not found, add jackson-dataformat-" + name().toLowerCase() + " to classpath");
+        }
+        try {
+            return factoryClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Create " + factoryClassName + " failed", e);
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package io.ituknown.utils.jackson;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
 import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
@@ -8,6 +11,8 @@ import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Jackson 序列化时对 NULL 值处理
@@ -17,41 +22,80 @@ import java.util.List;
  */
 public class JacksonBeanNullValueSerializerModifier extends BeanSerializerModifier {
 
+    /**
+     * 属性类型到 Null 值序列化器的映射缓存, 没有对应序列化器的类型映射为 {@link #NONE}
+     */
+    private static final ConcurrentMap<JavaType, JsonSerializer<Object>> NULL_SERIALIZERS = new ConcurrentHashMap<>();
+
+    /**
+     * 标记属性类型不需要 Null 值序列化器, 仅用于缓存比较, 不会被分配给任何属性
+     */
+    private static final JsonSerializer<Object> NONE = new JsonSerializer<Object>() {
+
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider serializers) {
+            throw new IllegalStateException("Marker serializer must not be used");
+        }
+    };
+
     @Override
     public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc, List<BeanPropertyWriter> beanProperties) {
 
         for (BeanPropertyWriter writer : beanProperties) {
 
             JavaType javaType = writer.getType();
-            Class<?> rawClass = javaType.getRawClass();
 
-            if (javaType.isMapLikeType()) {
-                // Map Fill {}
-                writer.assignNullSerializer(new NullMapSerializer());
+            JsonSerializer<Object> nullSerializer = NULL_SERIALIZERS.get(javaType);
+            if (nullSerializer == null) {
+                nullSerializer = NULL_SERIALIZERS.computeIfAbsent(javaType, JacksonBeanNullValueSerializerModifier::classify);
+            }
+            if (nullSerializer != NONE) {
+                writer.assignNullSerializer(nullSerializer);
+            }
+        }
+        return beanProperties;
+    }
+
+    private static JsonSerializer<Object> classify(JavaType javaType) {
 
-            } else if (javaType.isArrayType() || javaType.isCollectionLikeType()) {
-                // Collection Fill []
-                writer.assignNullSerializer(new NullCollectionSerializer());
+        Class<?> rawClass = javaType.getRawClass();
 
-            } else if (rawClass.isAssignableFrom(Boolean.class)) {
-                // Boolean Fill false
-                writer.assignNullSerializer(new NullBooleanSerializer());
+        if (javaType.isMapLikeType()) {
+            // Map Fill {}
+            return NullMapSerializer.INSTANCE;
 
-            } else if (rawClass.isAssignableFrom(BigDecimal.class)) {
-                // BigDecimal Fill ZERO
-                writer.assignNullSerializer(new NullBigDecimalSerializer());
+        } else if (javaType.isArrayType() || javaType.isCollectionLikeType()) {
+            // Collection Fill []
+            return NullCollectionSerializer.INSTANCE;
 
-            } else if (rawClass.isAssignableFrom(Number.class)) {
-                // Boolean Fill false
-                writer.assignNullSerializer(new NullNumberSerializer());
+        } else if (rawClass.isAssignableFrom(Boolean.class)) {
+            // Boolean Fill false
+            return NullBooleanSerializer.INSTANCE;
 
-            } else if (rawClass.isAssignableFrom(String.class)) {
-                // String Fill ""
-                writer.assignNullSerializer(new NullStringSerializer());
+        } else if (rawClass.isAssignableFrom(BigDecimal.class)) {
+            // BigDecimal Fill ZERO
+            return NullBigDecimalSerializer.INSTANCE;
+
+        } else if (rawClass.isAssignableFrom(Number.class)) {
+            // Number Fill 0
+            return NullNumberSerializer.INSTANCE;
+
+        } else if (rawClass.isAssignableFrom(String.class)) {
+            // String Fill ""
+            return NullStringSerializer.INSTANCE;
 
-            }
         }
-        return beanProperties;
+        return NONE;
+    }
+
+    /**
+     * 是否可以直接写入原始 JSON 片段
+     *
+     * <p>
+     * 仅限未开启格式化的 JSON 生成器, XML 生成器以及 TokenBuffer 等走常规写法
+     */
+    private static boolean canWriteRaw(JsonGenerator gen) {
+        return gen instanceof JsonGeneratorImpl && gen.getPrettyPrinter() == null;
     }
 
 
@@ -60,9 +104,21 @@ public class JacksonBeanNullValueSerializerModifier extends BeanSerializerModifi
     // =============================== 
 
 
+    /**
+     * 以下序列化器均无状态, 使用 {@code INSTANCE} 单例即可
+     */
     public static class NullMapSerializer extends JsonSerializer<Object> {
+
+        public static final NullMapSerializer INSTANCE = new NullMapSerializer();
+
+        private static final SerializableString EMPTY_OBJECT = new SerializedString("{}");
+
         @Override
         public void serialize(Object value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            if (canWriteRaw(gen)) {
+                gen.writeRawValue(EMPTY_OBJECT);
+                return;
+            }
             // {}
             gen.writeStartObject();
             gen.writeEndObject();
@@ -70,8 +126,17 @@ public class JacksonBeanNullValueSerializerModifier extends BeanSerializerModifi
     }
 
     public static class NullCollectionSerializer extends JsonSerializer<Object> {
+
+        public static final NullCollectionSerializer INSTANCE = new NullCollectionSerializer();
+
+        private static final SerializableString EMPTY_ARRAY = new SerializedString("[]");
+
         @Override
         public void serialize(Object value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            if (canWriteRaw(gen)) {
+                gen.writeRawValue(EMPTY_ARRAY);
+                return;
+            }
             // []
             gen.writeStartArray();
             gen.writeEndArray();
@@ -79,6 +144,9 @@ public class JacksonBeanNullValueSerializerModifier extends BeanSerializerModifi
     }
 
     public static class NullBooleanSerializer extends JsonSerializer<Object> {
+
+        public static final NullBooleanSerializer INSTANCE = new NullBooleanSerializer();
+
         @Override
         public void serialize(Object value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
             gen.writeBoolean(false);
@@ -86,13 +154,21 @@ public class JacksonBeanNullValueSerializerModifier extends BeanSerializerModifi
     }
 
     public static class NullBigDecimalSerializer extends JsonSerializer<Object> {
+
+        public static final NullBigDecimalSerializer INSTANCE = new NullBigDecimalSerializer();
+
+        private static final SerializableString ZERO = new SerializedString("0");
+
         @Override
         public void serialize(Object value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
-            gen.writeString("0");
+            gen.writeString(ZERO);
         }
     }
 
     public static class NullNumberSerializer extends JsonSerializer<Object> {
+
+        public static final NullNumberSerializer INSTANCE = new NullNumberSerializer();
+
         @Override
         public void serialize(Object value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
             gen.writeNumber(0);
@@ -100,9 +176,14 @@ public class JacksonBeanNullValueSerializerModifier extends BeanSerializerModifi
     }
 
     public static class NullStringSerializer extends JsonSerializer<Object> {
+
+        public static final NullStringSerializer INSTANCE = new NullStringSerializer();
+
+        private static final SerializableString EMPTY = new SerializedString("");
+
         @Override
         public void serialize(Object value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
-            gen.writeString("");
+            gen.writeString(EMPTY);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,122 @@
+package io.ituknown.utils.jackson;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 绑定到具体类型的 JSON 编解码器
+ *
+ * <p>
+ * 内部持有预先构建好的 {@link ObjectReader}/{@link ObjectWriter}, 根序列化器/反序列化器只在创建时查找一次.
+ * 实例线程安全, 通过 {@link JacksonUtils#codec(Class)} 等方法获取(默认 ObjectMapper 的编解码器会被缓存复用):
+ * <pre>
+ * JacksonCodec&lt;List&lt;User&gt;&gt; codec = JacksonUtils.codec(new TypeReference&lt;List&lt;User&gt;&gt;() {});
+ * List&lt;User&gt; users = codec.toObj(json);
+ * </pre>
+ *
+ * <p>
+ * 序列化: final 类型和容器类型始终使用绑定到声明类型的 writer. 非 final 的 Bean 类型按声明类型序列化会丢失子类属性,
+ * 因此只有对象的运行时类型恰好等于声明类型时才使用绑定的 writer, 子类对象退化为按运行时类型查找序列化器
+ * (与 {@code ObjectMapper#writeValueAsString} 相同, 每次调用在序列化器缓存中查找一次)
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 15:10
+ */
+public final class JacksonCodec<T> {
+
+    private final JavaType javaType;
+    private final ObjectReader reader;
+
+    /**
+     * 绑定到声明类型的 writer
+     */
+    private final ObjectWriter typedWriter;
+
+    /**
+     * 按运行时类型序列化的 writer, 声明类型可以被子类化时使用
+     */
+    private final ObjectWriter writer;
+
+    /**
+     * 需要比较运行时类型的声明类型, 不需要比较时为 null
+     */
+    private final Class<?> exactClass;
+
+    JacksonCodec(ObjectMapper objectMapper, JavaType javaType) {
+        this.javaType = javaType;
+        this.reader = objectMapper.readerFor(javaType);
+        this.typedWriter = objectMapper.writerFor(javaType);
+        if (javaType.isFinal() || javaType.isContainerType()) {
+            this.writer = typedWriter;
+            this.exactClass = null;
+        } else {
+            this.writer = objectMapper.writer();
+            this.exactClass = javaType.getRawClass();
+        }
+    }
+
+    public JavaType getJavaType() {
+        return javaType;
+    }
+
+    public ObjectReader reader() {
+        return reader;
+    }
+
+    /**
+     * 可用于任意运行时类型的 writer: final 类型和容器类型为绑定到声明类型的 writer, 其余按运行时类型序列化
+     */
+    public ObjectWriter writer() {
+        return writer;
+    }
+
+    private ObjectWriter writerFor(T obj) {
+        return exactClass == null || (obj != null && obj.getClass() == exactClass) ? typedWriter : writer;
+    }
+
+    public String toJson(T obj) {
+        try {
+            return writerFor(obj).writeValueAsString(obj);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Serialize " + javaType.getTypeName() + " to json failed", e);
+        }
+    }
+
+    public byte[] toJsonBytes(T obj) {
+        try {
+            return writerFor(obj).writeValueAsBytes(obj);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Serialize " + javaType.getTypeName() + " to json-bytes failed", e);
+        }
+    }
+
+    public T toObj(String json) {
+        try {
+            return reader.readValue(json);
+        } catch (IOException e) {
+            throw new RuntimeException("Parse json to " + javaType.getTypeName() + " failed: " + json, e);
+        }
+    }
+
+    public T toObj(byte[] json) {
+        try {
+            return reader.readValue(json);
+        } catch (IOException e) {
+            throw new RuntimeException("Parse json-bytes to " + javaType.getTypeName() + " failed", e);
+        }
+    }
+
+    public T toObj(InputStream inputStream) {
+        try {
+            return reader.readValue(inputStream);
+        } catch (IOException e) {
+            throw new RuntimeException("Parse inputStream to " + javaType.getTypeName() + " failed", e);
+        }
+    }
+}
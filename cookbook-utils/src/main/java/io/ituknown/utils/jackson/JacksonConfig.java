@@ -3,14 +3,24 @@ package io.ituknown.utils.jackson;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.SerializerFactory;
+import com.fasterxml.jackson.databind.ser.std.SqlDateSerializer;
+import com.fasterxml.jackson.databind.ser.std.SqlTimeSerializer;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import io.ituknown.utils.datetime.DateFormatUtils;
+import io.ituknown.utils.jackson.deserializer.DateJsonDeserializer;
+import io.ituknown.utils.jackson.deserializer.FixedPatternTemporalDeserializer;
+import io.ituknown.utils.jackson.deserializer.ResultJsonDeserializer;
+import io.ituknown.utils.jackson.serializer.DateJsonSerializer;
+import io.ituknown.utils.jackson.serializer.FixedPatternTemporalSerializer;
+import io.ituknown.utils.jackson.serializer.ResultJsonSerializer;
 
 import java.time.*;
+import java.util.Date;
 
 /**
  * Jackson Config
@@ -56,6 +66,36 @@ public final class JacksonConfig {
             JsonFormat.Value format = JsonFormat.Value.forShape(JsonFormat.Shape.STRING).withPattern(DateFormatUtils.TIME_ZONE_PATTERN);
             objectMapper.configOverride(OffsetTime.class).setFormat(format);
         }
+
+        // LocalDate/LocalTime/LocalDateTime 固定格式快速读写, 格式不一致的属性仍由 JavaTimeModule 处理
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(LocalDate.class, FixedPatternTemporalSerializer.localDate());
+        module.addSerializer(LocalTime.class, FixedPatternTemporalSerializer.localTime());
+        module.addSerializer(LocalDateTime.class, FixedPatternTemporalSerializer.localDateTime());
+        module.addDeserializer(LocalDate.class, FixedPatternTemporalDeserializer.localDate());
+        module.addDeserializer(LocalTime.class, FixedPatternTemporalDeserializer.localTime());
+        module.addDeserializer(LocalDateTime.class, FixedPatternTemporalDeserializer.localDateTime());
+        objectMapper.registerModule(module);
+    }
+
+    /**
+     * 配置 java.util.Date 处理
+     *
+     * <p>
+     * 注册线程安全的 Date 序列化/反序列化器, 避免 SimpleDateFormat 在每次读写时被克隆.
+     * ObjectMapper 仍需通过 {@code setDateFormat} 设置 {@link DateFormatUtils#DATE_TIME_PATTERN}, 用于 Calendar、
+     * Map 键等其余日期类型以及快速路径不支持时的回退
+     *
+     * @param objectMapper 实例
+     */
+    public static void configureDate(ObjectMapper objectMapper) {
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(Date.class, DateJsonSerializer.INSTANCE);
+        // java.sql.Date/java.sql.Time 是 Date 的子类, 显式保留 Jackson 默认的序列化方式
+        module.addSerializer(java.sql.Date.class, new SqlDateSerializer());
+        module.addSerializer(java.sql.Time.class, new SqlTimeSerializer());
+        module.addDeserializer(Date.class, DateJsonDeserializer.INSTANCE);
+        objectMapper.registerModule(module);
     }
 
     /**
@@ -71,6 +111,75 @@ public final class JacksonConfig {
         objectMapper.setSerializerFactory(serializerFactory);
     }
 
+    /**
+     * 为 {@link io.ituknown.utils.result.Result}/{@link io.ituknown.utils.result.PageResult} 注册专用序列化/反序列化器,
+     * 跳过逐个属性的反射读写, 输出与默认的 Bean 序列化一致
+     *
+     * <p>
+     * 必须在 {@link #configureNullObject(ObjectMapper)} 之后调用, 以便复用已分配 Null 值序列化器的属性写出器
+     *
+     * @param objectMapper 实例
+     */
+    public static void configureResult(ObjectMapper objectMapper) {
+        SimpleModule module = new SimpleModule();
+        module.setSerializerModifier(new ResultJsonSerializer.Modifier());
+        module.setDeserializerModifier(new ResultJsonDeserializer.Modifier());
+        objectMapper.registerModule(module);
+    }
+
+    /**
+     * Afterburner 模块类名, 通过反射加载, 不强制依赖:
+     * <pre>
+     * &lt;dependency&gt;
+     *     &lt;groupId&gt;com.fasterxml.jackson.module&lt;/groupId&gt;
+     *     &lt;artifactId&gt;jackson-module-afterburner&lt;/artifactId&gt;
+     * &lt;/dependency&gt;
+     * </pre>
+     */
+    private static final String AFTERBURNER_MODULE = "com.fasterxml.jackson.module.afterburner.AfterburnerModule";
+
+    /**
+     * 类路径中是否存在字节码加速模块
+     */
+    public static boolean isAcceleratorAvailable() {
+        return AcceleratorHolder.MODULE_CLASS != null;
+    }
+
+    /**
+     * 注册字节码加速模块(Afterburner), 用生成的访问器代替反射读写属性
+     *
+     * <p>
+     * 必须在 {@link #configureNullObject(ObjectMapper)} 之后调用: Afterburner 的 BeanSerializerModifier 排在后面执行,
+     * 会保留 Null 值序列化器以及属性上已指定的自定义序列化器(如 BigDecimal 转字符串), 序列化结果与未加速时一致
+     *
+     * @param objectMapper 实例
+     * @return 类路径中不存在加速模块时返回 false
+     */
+    public static boolean configureAccelerator(ObjectMapper objectMapper) {
+        if (AcceleratorHolder.MODULE_CLASS == null) {
+            return false;
+        }
+        try {
+            objectMapper.registerModule(AcceleratorHolder.MODULE_CLASS.getDeclaredConstructor().newInstance());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Create " + AFTERBURNER_MODULE + " failed", e);
+        }
+        return true;
+    }
+
+    private static final class AcceleratorHolder {
+
+        static final Class<? extends Module> MODULE_CLASS = loadModuleClass();
+
+        private static Class<? extends Module> loadModuleClass() {
+            try {
+                return Class.forName(AFTERBURNER_MODULE, false, JacksonConfig.class.getClassLoader()).asSubclass(Module.class);
+            } catch (ClassNotFoundException | LinkageError e) {
+                return null;
+            }
+        }
+    }
+
     /**
      * 添加自定义序列化实现
      *
@@ -0,0 +1,646 @@
+package io.ituknown.utils.jackson;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.ituknown.utils.exception.JsonPatchException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * JSON 增量修改工具类, 支持 RFC 7386 (JSON Merge Patch) 与 RFC 6902 (JSON Patch)
+ *
+ * <p>
+ * 与先 {@link JacksonUtils#toObjectNode(String)} 再修改整棵树不同, 这里基于 JsonParser/JsonGenerator 流式复制原文档,
+ * 只为补丁涉及的路径构建节点, 未涉及的部分按原样(包括数字的原始写法)输出:
+ * <pre>
+ * String json = JacksonPatchUtils.mergePatch(cachedJson, "{\"status\":2,\"remark\":null}");
+ * String json = JacksonPatchUtils.jsonPatch(cachedJson, "[{\"op\":\"replace\",\"path\":\"/user/name\",\"value\":\"Tom\"}]");
+ * </pre>
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 17:20
+ */
+public enum JacksonPatchUtils {
+    ;
+
+    /**
+     * 已删除成员的占位
+     */
+    private static final Object REMOVED = new Object();
+
+
+    // ====================== JSON Merge Patch (RFC 7386) ======================
+
+    public static String mergePatch(String json, String patch) {
+        return mergePatch(json, patch, JacksonUtils.getObjectMapper());
+    }
+
+    public static String mergePatch(String json, String patch, final ObjectMapper objectMapper) {
+        return mergePatch(json, readPatch(patch, objectMapper), objectMapper);
+    }
+
+    public static String mergePatch(String json, JsonNode patch) {
+        return mergePatch(json, patch, JacksonUtils.getObjectMapper());
+    }
+
+    public static String mergePatch(String json, JsonNode patch, final ObjectMapper objectMapper) {
+        StringWriter writer = new StringWriter(json.length() + 16);
+        try (JsonParser parser = objectMapper.getFactory().createParser(json);
+             JsonGenerator generator = createGenerator(writer, objectMapper)) {
+            parser.nextToken();
+            merge(parser, patch, generator);
+        } catch (IOException e) {
+            throw new RuntimeException("Apply merge-patch to json failed: " + json, e);
+        }
+        return writer.toString();
+    }
+
+    public static void mergePatch(InputStream inputStream, JsonNode patch, OutputStream outputStream) {
+        mergePatch(inputStream, patch, outputStream, JacksonUtils.getObjectMapper());
+    }
+
+    /**
+     * 流式应用 Merge Patch, 只需读取一遍输入流. 写出完成后不会关闭输出流
+     */
+    public static void mergePatch(InputStream inputStream, JsonNode patch, OutputStream outputStream, final ObjectMapper objectMapper) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream);
+             JsonGenerator generator = createGenerator(outputStream, objectMapper)) {
+            parser.nextToken();
+            merge(parser, patch, generator);
+        } catch (IOException e) {
+            throw new RuntimeException("Apply merge-patch to json-stream failed", e);
+        }
+    }
+
+    /**
+     * 合并当前值(parser 位于值的第一个 token)
+     */
+    private static void merge(JsonParser parser, JsonNode patch, JsonGenerator generator) throws IOException {
+        if (!patch.isObject()) {
+            parser.skipChildren();
+            generator.writeTree(patch);
+            return;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            // 目标不是对象时视为空对象
+            parser.skipChildren();
+            writeMerged(patch, generator);
+            return;
+        }
+
+        generator.writeStartObject();
+        Set<String> patched = new HashSet<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+
+            JsonNode value = patch.get(name);
+            if (value == null) {
+                generator.writeFieldName(name);
+                copy(parser, generator);
+                continue;
+            }
+            patched.add(name);
+            if (value.isNull()) {
+                parser.skipChildren();
+                continue;
+            }
+            generator.writeFieldName(name);
+            merge(parser, value, generator);
+        }
+
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (!patched.contains(field.getKey()) && !field.getValue().isNull()) {
+                generator.writeFieldName(field.getKey());
+                writeMerged(field.getValue(), generator);
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * 将补丁合并到空对象上: 去掉值为 null 的成员
+     */
+    private static void writeMerged(JsonNode patch, JsonGenerator generator) throws IOException {
+        if (!patch.isObject()) {
+            generator.writeTree(patch);
+            return;
+        }
+        generator.writeStartObject();
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (!field.getValue().isNull()) {
+                generator.writeFieldName(field.getKey());
+                writeMerged(field.getValue(), generator);
+            }
+        }
+        generator.writeEndObject();
+    }
+
+
+    // ====================== JSON Patch (RFC 6902) ======================
+
+    public static String jsonPatch(String json, String patch) {
+        return jsonPatch(json, patch, JacksonUtils.getObjectMapper());
+    }
+
+    public static String jsonPatch(String json, String patch, final ObjectMapper objectMapper) {
+        return jsonPatch(json, readPatch(patch, objectMapper), objectMapper);
+    }
+
+    public static String jsonPatch(String json, JsonNode patch) {
+        return jsonPatch(json, patch, JacksonUtils.getObjectMapper());
+    }
+
+    public static String jsonPatch(String json, JsonNode patch, final ObjectMapper objectMapper) {
+        List<Operation> operations = parseOperations(patch);
+        StringWriter writer = new StringWriter(json.length() + 16);
+        try {
+            Object root;
+            try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+                root = readSparse(parser, operations, objectMapper);
+            }
+            root = apply(root, operations);
+            try (JsonParser parser = objectMapper.getFactory().createParser(json);
+                 JsonGenerator generator = createGenerator(writer, objectMapper)) {
+                parser.nextToken();
+                write(parser, root, generator);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Apply json-patch to json failed: " + json, e);
+        }
+        return writer.toString();
+    }
+
+    public static void jsonPatch(byte[] json, JsonNode patch, OutputStream outputStream) {
+        jsonPatch(json, patch, outputStream, JacksonUtils.getObjectMapper());
+    }
+
+    /**
+     * 应用 JSON Patch 并写出到输出流, 写出完成后不会关闭输出流
+     *
+     * <p>
+     * 需要读取两遍原文档(先收集补丁涉及的节点, 再流式输出), 因此只接受 byte[] 而不接受 InputStream
+     */
+    public static void jsonPatch(byte[] json, JsonNode patch, OutputStream outputStream, final ObjectMapper objectMapper) {
+        List<Operation> operations = parseOperations(patch);
+        try {
+            Object root;
+            try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+                root = readSparse(parser, operations, objectMapper);
+            }
+            root = apply(root, operations);
+            try (JsonParser parser = objectMapper.getFactory().createParser(json);
+                 JsonGenerator generator = createGenerator(outputStream, objectMapper)) {
+                parser.nextToken();
+                write(parser, root, generator);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Apply json-patch to json-bytes failed", e);
+        }
+    }
+
+    /**
+     * 第一遍读取: 只为补丁路径构建节点
+     *
+     * <p>
+     * 路径经过的对象用 {@link SparseObject} 表示(只记录涉及的成员); 补丁的目标路径以及路径经过的数组(下标会随增删移动)
+     * 整体读取为 JsonNode
+     */
+    private static Object readSparse(JsonParser parser, List<Operation> operations, ObjectMapper objectMapper) throws IOException {
+        PathTrie trie = new PathTrie();
+        for (Operation operation : operations) {
+            trie.add(operation.path);
+            if (operation.from != null) {
+                trie.add(operation.from);
+            }
+        }
+        ObjectReader reader = treeReader(objectMapper);
+        if (parser.nextToken() == null) {
+            throw new JsonPatchException("Apply json-patch failed: empty document");
+        }
+        return readSparse(parser, trie, reader);
+    }
+
+    private static Object readSparse(JsonParser parser, PathTrie trie, ObjectReader reader) throws IOException {
+        if (trie.terminal || parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            return reader.readTree(parser);
+        }
+        SparseObject object = new SparseObject();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+
+            PathTrie child = trie.children.get(name);
+            if (child == null) {
+                parser.skipChildren();
+            } else {
+                object.members.put(name, readSparse(parser, child, reader));
+            }
+        }
+        return object;
+    }
+
+    /**
+     * 依次应用补丁操作, 返回新的根节点
+     */
+    private static Object apply(Object root, List<Operation> operations) {
+        for (Operation operation : operations) {
+            switch (operation.op) {
+                case "add":
+                    root = add(root, operation, operation.path, operation.value.deepCopy());
+                    break;
+                case "remove":
+                    remove(root, operation, operation.path);
+                    break;
+                case "replace":
+                    root = replace(root, operation, operation.path, operation.value.deepCopy());
+                    break;
+                case "move":
+                    if (isProperPrefix(operation.from, operation.path)) {
+                        throw new JsonPatchException(operation + " failed: cannot move a value into one of its children");
+                    }
+                    if (!operation.from.equals(operation.path)) {
+                        root = add(root, operation, operation.path, remove(root, operation, operation.from));
+                    }
+                    break;
+                case "copy":
+                    root = add(root, operation, operation.path, get(root, operation, operation.from).deepCopy());
+                    break;
+                case "test":
+                    if (!get(root, operation, operation.path).equals(NUMERIC_EQUALITY, operation.value)) {
+                        throw new JsonPatchException(operation + " failed: value not equal");
+                    }
+                    break;
+                default:
+                    throw new JsonPatchException(operation + " failed: unknown op");
+            }
+        }
+        return root;
+    }
+
+    private static Object add(Object root, Operation operation, List<String> path, JsonNode value) {
+        if (path.isEmpty()) {
+            return value;
+        }
+        Object container = container(root, operation, path);
+        String token = path.get(path.size() - 1);
+        if (container instanceof SparseObject) {
+            ((SparseObject) container).members.put(token, value);
+        } else if (container instanceof ObjectNode) {
+            ((ObjectNode) container).set(token, value);
+        } else if (container instanceof ArrayNode) {
+            ArrayNode array = (ArrayNode) container;
+            if ("-".equals(token)) {
+                array.add(value);
+            } else {
+                array.insert(index(token, array.size() + 1, operation), value);
+            }
+        } else {
+            throw new JsonPatchException(operation + " failed: parent is not a container");
+        }
+        return root;
+    }
+
+    private static JsonNode remove(Object root, Operation operation, List<String> path) {
+        if (path.isEmpty()) {
+            throw new JsonPatchException(operation + " failed: cannot remove the document root");
+        }
+        Object container = container(root, operation, path);
+        String token = path.get(path.size() - 1);
+        JsonNode removed = null;
+        if (container instanceof SparseObject) {
+            Map<String, Object> members = ((SparseObject) container).members;
+            Object value = members.get(token);
+            if (value instanceof JsonNode) {
+                members.put(token, REMOVED);
+                removed = (JsonNode) value;
+            }
+        } else if (container instanceof ObjectNode) {
+            removed = ((ObjectNode) container).remove(token);
+        } else if (container instanceof ArrayNode) {
+            ArrayNode array = (ArrayNode) container;
+            removed = array.remove(index(token, array.size(), operation));
+        }
+        if (removed == null) {
+            throw new JsonPatchException(operation + " failed: path not found");
+        }
+        return removed;
+    }
+
+    private static Object replace(Object root, Operation operation, List<String> path, JsonNode value) {
+        if (path.isEmpty()) {
+            return value;
+        }
+        Object container = container(root, operation, path);
+        String token = path.get(path.size() - 1);
+        if (child(container, token) == null) {
+            throw new JsonPatchException(operation + " failed: path not found");
+        }
+        if (container instanceof SparseObject) {
+            ((SparseObject) container).members.put(token, value);
+        } else if (container instanceof ObjectNode) {
+            ((ObjectNode) container).set(token, value);
+        } else {
+            ArrayNode array = (ArrayNode) container;
+            array.set(index(token, array.size(), operation), value);
+        }
+        return root;
+    }
+
+    private static JsonNode get(Object root, Operation operation, List<String> path) {
+        Object value = root;
+        for (String token : path) {
+            value = child(value, token);
+            if (value == null) {
+                throw new JsonPatchException(operation + " failed: path not found");
+            }
+        }
+        if (!(value instanceof JsonNode)) {
+            // 目标路径在第一遍读取时总会整体构建为 JsonNode
+            throw new IllegalStateException(operation + " failed: value is not materialized");
+        }
+        return (JsonNode) value;
+    }
+
+    /**
+     * 定位路径的父容器
+     */
+    private static Object container(Object root, Operation operation, List<String> path) {
+        Object container = root;
+        for (int i = 0, size = path.size() - 1; i < size; i++) {
+            container = child(container, path.get(i));
+            if (container == null) {
+                throw new JsonPatchException(operation + " failed: path not found");
+            }
+        }
+        return container;
+    }
+
+    private static Object child(Object container, String token) {
+        if (container instanceof SparseObject) {
+            Object value = ((SparseObject) container).members.get(token);
+            return value == REMOVED ? null : value;
+        }
+        if (container instanceof ObjectNode) {
+            return ((ObjectNode) container).get(token);
+        }
+        if (container instanceof ArrayNode) {
+            ArrayNode array = (ArrayNode) container;
+            int index = parseIndex(token);
+            return index >= 0 && index < array.size() ? array.get(index) : null;
+        }
+        return null;
+    }
+
+    private static int index(String token, int bound, Operation operation) {
+        int index = parseIndex(token);
+        if (index < 0 || index >= bound) {
+            throw new JsonPatchException(operation + " failed: array index out of bounds");
+        }
+        return index;
+    }
+
+    /**
+     * 解析数组下标, 不允许前导 0, 不合法时返回 -1
+     */
+    private static int parseIndex(String token) {
+        int length = token.length();
+        if (length == 0 || length > 9 || (length > 1 && token.charAt(0) == '0')) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = 0; i < length; i++) {
+            int digit = token.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            index = index * 10 + digit;
+        }
+        return index;
+    }
+
+    private static boolean isProperPrefix(List<String> prefix, List<String> path) {
+        return prefix.size() < path.size() && path.subList(0, prefix.size()).equals(prefix);
+    }
+
+    /**
+     * 第二遍读取: 流式复制原文档, 遇到补丁涉及的成员时输出修改后的值
+     */
+    private static void write(JsonParser parser, Object value, JsonGenerator generator) throws IOException {
+        if (value instanceof JsonNode) {
+            parser.skipChildren();
+            generator.writeTree((JsonNode) value);
+            return;
+        }
+
+        Map<String, Object> members = ((SparseObject) value).members;
+        Set<String> written = new HashSet<>();
+
+        generator.writeStartObject();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+
+            Object member = members.get(name);
+            if (member == null) {
+                generator.writeFieldName(name);
+                copy(parser, generator);
+                continue;
+            }
+            written.add(name);
+            if (member == REMOVED) {
+                parser.skipChildren();
+                continue;
+            }
+            generator.writeFieldName(name);
+            write(parser, member, generator);
+        }
+
+        // 新增的成员
+        for (Map.Entry<String, Object> member : members.entrySet()) {
+            if (member.getValue() != REMOVED && !written.contains(member.getKey())) {
+                generator.writeFieldName(member.getKey());
+                generator.writeTree((JsonNode) member.getValue());
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private static List<Operation> parseOperations(JsonNode patch) {
+        if (patch == null || !patch.isArray()) {
+            throw new JsonPatchException("Invalid json-patch: must be an array");
+        }
+        List<Operation> operations = new ArrayList<>(patch.size());
+        for (JsonNode node : patch) {
+            operations.add(new Operation(node));
+        }
+        return operations;
+    }
+
+    /**
+     * 解析 JSON Pointer (RFC 6901)
+     */
+    private static List<String> parsePointer(String pointer) {
+        if (pointer.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (pointer.charAt(0) != '/') {
+            throw new JsonPatchException("Invalid json-pointer: " + pointer);
+        }
+        List<String> tokens = new ArrayList<>();
+        int start = 1;
+        while (true) {
+            int end = pointer.indexOf('/', start);
+            String token = pointer.substring(start, end < 0 ? pointer.length() : end);
+            if (token.indexOf('~') >= 0) {
+                token = token.replace("~1", "/").replace("~0", "~");
+            }
+            tokens.add(token);
+            if (end < 0) {
+                return tokens;
+            }
+            start = end + 1;
+        }
+    }
+
+
+    // ====================== Support ======================
+
+    /**
+     * 数字按数值比较(RFC 6902 test 操作), 其余按 JsonNode#equals 比较
+     */
+    private static final Comparator<JsonNode> NUMERIC_EQUALITY = (o1, o2) -> {
+        if (o1.isNumber() && o2.isNumber()) {
+            return o1.decimalValue().compareTo(o2.decimalValue());
+        }
+        return o1.equals(o2) ? 0 : 1;
+    };
+
+    private static JsonNode readPatch(String patch, ObjectMapper objectMapper) {
+        try {
+            return treeReader(objectMapper).readTree(patch);
+        } catch (IOException e) {
+            throw new JsonPatchException("Invalid patch: " + patch, e);
+        }
+    }
+
+    /**
+     * 读取树时保留小数的原始精度, 避免修改过的节点输出时丢失精度
+     */
+    private static ObjectReader treeReader(ObjectMapper objectMapper) {
+        return objectMapper.reader(JsonNodeFactory.withExactBigDecimals(true))
+                .with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+    }
+
+    private static JsonGenerator createGenerator(Writer writer, ObjectMapper objectMapper) throws IOException {
+        return configure(objectMapper.getFactory().createGenerator(writer), objectMapper);
+    }
+
+    private static JsonGenerator createGenerator(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+        return configure(objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8), objectMapper);
+    }
+
+    private static JsonGenerator configure(JsonGenerator generator, ObjectMapper objectMapper) {
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        if (objectMapper.isEnabled(SerializationFeature.INDENT_OUTPUT)) {
+            generator.useDefaultPrettyPrinter();
+        }
+        return generator;
+    }
+
+    /**
+     * 复制当前值, 数字按原始文本输出
+     */
+    private static void copy(JsonParser parser, JsonGenerator generator) throws IOException {
+        int depth = 0;
+        do {
+            JsonToken token = parser.getCurrentToken();
+            if (token.isNumeric()) {
+                generator.writeNumber(parser.getText());
+            } else {
+                generator.copyCurrentEvent(parser);
+            }
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+        } while (depth > 0 && parser.nextToken() != null);
+    }
+
+    /**
+     * 只记录补丁涉及成员的对象, 成员值为 SparseObject、JsonNode 或 {@link #REMOVED}
+     */
+    private static final class SparseObject {
+        final Map<String, Object> members = new LinkedHashMap<>();
+    }
+
+    private static final class PathTrie {
+        final Map<String, PathTrie> children = new HashMap<>();
+        boolean terminal;
+
+        void add(List<String> path) {
+            PathTrie node = this;
+            for (String token : path) {
+                node = node.children.computeIfAbsent(token, key -> new PathTrie());
+            }
+            node.terminal = true;
+        }
+    }
+
+    private static final class Operation {
+        final String op;
+        final String rawPath;
+        final List<String> path;
+        final List<String> from;
+        final JsonNode value;
+
+        Operation(JsonNode node) {
+            JsonNode op = node.get("op");
+            JsonNode path = node.get("path");
+            if (op == null || !op.isTextual() || path == null || !path.isTextual()) {
+                throw new JsonPatchException("Invalid json-patch operation: " + node);
+            }
+            this.op = op.asText();
+            this.rawPath = path.asText();
+            this.path = parsePointer(rawPath);
+
+            boolean needFrom = "move".equals(this.op) || "copy".equals(this.op);
+            JsonNode from = node.get("from");
+            if (needFrom && (from == null || !from.isTextual())) {
+                throw new JsonPatchException("Invalid json-patch operation, missing from: " + node);
+            }
+            this.from = needFrom ? parsePointer(from.asText()) : null;
+
+            boolean needValue = "add".equals(this.op) || "replace".equals(this.op) || "test".equals(this.op);
+            if (needValue && !node.has("value")) {
+                throw new JsonPatchException("Invalid json-patch operation, missing value: " + node);
+            }
+            this.value = needValue ? node.get("value") : null;
+        }
+
+        @Override
+        public String toString() {
+            return "json-patch " + op + " [" + rawPath + "]";
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package io.ituknown.utils.jackson;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.*;
@@ -9,15 +12,26 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.type.CollectionType;
 import com.fasterxml.jackson.databind.type.MapType;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedOutputStream;
 import io.ituknown.utils.datetime.DateFormatUtils;
 import io.ituknown.utils.jackson.serializer.BigDecimalAsStringJsonSerializer;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 /**
@@ -32,6 +46,22 @@ public enum JacksonUtils {
     private static final ObjectMapper MAPPER_WITH_FORMAT = createObjectMapper(true);
     private static final ObjectMapper MAPPER_WITHOUT_FORMAT = createObjectMapper(false);
 
+    /**
+     * 默认 ObjectMapper 的编解码器缓存, 自定义 ObjectMapper 不做缓存(避免持有调用方的 ObjectMapper 导致泄漏)
+     */
+    private static final ConcurrentMap<JavaType, JacksonCodec<?>> CODECS_WITH_FORMAT = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<JavaType, JacksonCodec<?>> CODECS_WITHOUT_FORMAT = new ConcurrentHashMap<>();
+
+    /**
+     * 参数化类型缓存, key 为 [原始类型, 参数类型...]
+     */
+    private static final ConcurrentMap<List<Class<?>>, JavaType> PARAMETRIC_TYPES = new ConcurrentHashMap<>();
+
+    /**
+     * 二进制格式 ObjectMapper, 首次使用时创建
+     */
+    private static final ConcurrentMap<BinaryFormat, ObjectMapper> BINARY_MAPPERS = new ConcurrentHashMap<>();
+
     public static ObjectMapper getObjectMapper() {
         return getObjectMapper(false);
     }
@@ -45,13 +75,77 @@ public enum JacksonUtils {
         return format ? MAPPER_WITH_FORMAT : MAPPER_WITHOUT_FORMAT;
     }
 
+    public static ObjectMapper getAcceleratedObjectMapper() {
+        return getAcceleratedObjectMapper(false);
+    }
+
+    /**
+     * 获取字节码加速的 ObjectMapper 实例(需引入 jackson-module-afterburner), 序列化结果与 {@link #getObjectMapper(boolean)} 一致
+     *
+     * <p>
+     * 类路径中不存在加速模块时返回默认实例
+     *
+     * @param format 是否开启JSON格式化
+     * @see JacksonConfig#configureAccelerator(ObjectMapper)
+     */
+    public static ObjectMapper getAcceleratedObjectMapper(boolean format) {
+        if (!JacksonConfig.isAcceleratorAvailable()) {
+            return getObjectMapper(format);
+        }
+        return format ? AcceleratedMapperHolder.MAPPER_WITH_FORMAT : AcceleratedMapperHolder.MAPPER_WITHOUT_FORMAT;
+    }
+
+    /**
+     * 创建 ObjectMapper 对象
+     *
+     * @param format      是否开启JSON格式化
+     * @param accelerated 是否注册字节码加速模块(类路径中不存在时忽略)
+     */
+    public static ObjectMapper createObjectMapper(boolean format, boolean accelerated) {
+        ObjectMapper mapper = createObjectMapper(format);
+        if (accelerated) {
+            JacksonConfig.configureAccelerator(mapper);
+        }
+        return mapper;
+    }
+
+    /**
+     * 获取二进制格式(Smile/CBOR)的 ObjectMapper 实例, 与 JSON 使用相同的模块配置
+     *
+     * <p>
+     * 返回的实例同样可以用于本类中接收 ObjectMapper 参数的方法, 如 {@link #writeTo(Object, OutputStream, ObjectMapper)}
+     *
+     * @throws IllegalStateException 如果类路径中不存在该格式的实现
+     */
+    public static ObjectMapper getBinaryObjectMapper(BinaryFormat binaryFormat) {
+        ObjectMapper mapper = BINARY_MAPPERS.get(binaryFormat);
+        if (mapper == null) {
+            mapper = BINARY_MAPPERS.computeIfAbsent(binaryFormat, key -> createObjectMapper(key.createFactory(), false));
+        }
+        return mapper;
+    }
+
     /**
      * 创建 ObjectMapper 对象
      *
      * @param format 是否开启JSON格式化
      */
     public static ObjectMapper createObjectMapper(boolean format) {
-        ObjectMapper mapper = new ObjectMapper();
+        return configureObjectMapper(new ObjectMapper(), format);
+    }
+
+    /**
+     * 使用指定的 JsonFactory(如 Smile/CBOR)创建 ObjectMapper 对象
+     *
+     * @param factory 数据格式
+     * @param format  是否开启格式化(二进制格式忽略)
+     * @see BinaryFormat#createFactory()
+     */
+    public static ObjectMapper createObjectMapper(JsonFactory factory, boolean format) {
+        return configureObjectMapper(new ObjectMapper(factory), format);
+    }
+
+    private static ObjectMapper configureObjectMapper(ObjectMapper mapper, boolean format) {
 
         // 格式化输出
         // mapper.enable(SerializationFeature.INDENT_OUTPUT);
@@ -71,6 +165,7 @@ public enum JacksonUtils {
 
         // java.util.Date 日期格式 处理
         mapper.setDateFormat(new SimpleDateFormat(DateFormatUtils.DATE_TIME_PATTERN));
+        JacksonConfig.configureDate(mapper);
 
         // java.time.* 日期格式处理
         JacksonConfig.configureObjectMapper4Jsr310(mapper);
@@ -78,6 +173,9 @@ public enum JacksonUtils {
         // Null 值处理
         JacksonConfig.configureNullObject(mapper);
 
+        // Result/PageResult 专用序列化
+        JacksonConfig.configureResult(mapper);
+
         // BigDecimal 自定义序列化
         JacksonConfig.registerModule(mapper, BigDecimal.class, new BigDecimalAsStringJsonSerializer());
 
@@ -145,12 +243,147 @@ public enum JacksonUtils {
 
     public static <T> T toObj(byte[] json, Type type, final ObjectMapper objectMapper) {
         try {
-            return objectMapper.readValue(json, objectMapper.constructType(type));
+            return reader(type, objectMapper).readValue(json);
         } catch (IOException e) {
             throw new RuntimeException("Parse json-bytes to " + type.getTypeName() + " failed", e);
         }
     }
 
+    /**
+     * 序列化到输出流, 不经过中间 String/byte[], 写出完成后不会关闭输出流
+     */
+    public static void writeTo(Object obj, OutputStream outputStream) {
+        writeTo(obj, outputStream, false);
+    }
+
+    public static void writeTo(Object obj, OutputStream outputStream, boolean format) {
+        writeTo(obj, outputStream, getObjectMapper(format));
+    }
+
+    public static void writeTo(Object obj, OutputStream outputStream, final ObjectMapper objectMapper) {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            objectMapper.writeValue(generator, obj);
+        } catch (IOException e) {
+            throw new RuntimeException("Serialize " + obj.getClass().getSimpleName() + " to json-stream failed", e);
+        }
+    }
+
+    /**
+     * 序列化到 ByteBuffer(从 position 开始写入, 写入后 position 后移)
+     *
+     * @return 写入的字节数
+     * @throws java.nio.BufferOverflowException 如果 ByteBuffer 剩余空间不足
+     */
+    public static int writeTo(Object obj, ByteBuffer buffer) {
+        return writeTo(obj, buffer, false);
+    }
+
+    public static int writeTo(Object obj, ByteBuffer buffer, boolean format) {
+        return writeTo(obj, buffer, getObjectMapper(format));
+    }
+
+    public static int writeTo(Object obj, ByteBuffer buffer, final ObjectMapper objectMapper) {
+        int start = buffer.position();
+        writeTo(obj, new ByteBufferBackedOutputStream(buffer), objectMapper);
+        return buffer.position() - start;
+    }
+
+    /**
+     * 使用线程内复用的缓冲区序列化, 避免每次分配 byte[]
+     *
+     * <p>
+     * handler 收到的 ByteBuffer 直接包装复用缓冲区, 只在 handler 执行期间有效, 不能在 handler 之外持有:
+     * <pre>
+     * JacksonUtils.withJsonBuffer(result, buffer -&gt; channel.write(buffer));
+     * </pre>
+     */
+    public static <R> R withJsonBuffer(Object obj, Function<ByteBuffer, R> handler) {
+        return withJsonBuffer(obj, handler, false);
+    }
+
+    public static <R> R withJsonBuffer(Object obj, Function<ByteBuffer, R> handler, boolean format) {
+        return withJsonBuffer(obj, handler, getObjectMapper(format));
+    }
+
+    public static <R> R withJsonBuffer(Object obj, Function<ByteBuffer, R> handler, final ObjectMapper objectMapper) {
+        PooledByteArrayOutputStream outputStream = PooledByteArrayOutputStream.acquire();
+        try {
+            writeTo(obj, outputStream, objectMapper);
+            return handler.apply(outputStream.toByteBuffer());
+        } finally {
+            outputStream.release();
+        }
+    }
+
+    public static <T> T toObj(byte[] json, int offset, int length, Class<T> clazz) {
+        return toObj(json, offset, length, clazz, false);
+    }
+
+    public static <T> T toObj(byte[] json, int offset, int length, Class<T> clazz, boolean format) {
+        return toObj(json, offset, length, clazz, getObjectMapper(format));
+    }
+
+    public static <T> T toObj(byte[] json, int offset, int length, Class<T> clazz, final ObjectMapper objectMapper) {
+        try {
+            return objectMapper.readValue(json, offset, length, clazz);
+        } catch (IOException e) {
+            throw new RuntimeException("Parse json-bytes to " + clazz.getSimpleName() + " failed", e);
+        }
+    }
+
+    public static <T> T toObj(byte[] json, int offset, int length, Type type) {
+        return toObj(json, offset, length, type, false);
+    }
+
+    public static <T> T toObj(byte[] json, int offset, int length, Type type, boolean format) {
+        return toObj(json, offset, length, type, getObjectMapper(format));
+    }
+
+    public static <T> T toObj(byte[] json, int offset, int length, Type type, final ObjectMapper objectMapper) {
+        try {
+            return reader(type, objectMapper).readValue(json, offset, length);
+        } catch (IOException e) {
+            throw new RuntimeException("Parse json-bytes to " + type.getTypeName() + " failed", e);
+        }
+    }
+
+    /**
+     * 从 ByteBuffer 的 [position, limit) 解析, 不会修改 ByteBuffer 的 position
+     *
+     * <p>
+     * 堆内 ByteBuffer 直接解析底层数组, 堆外 ByteBuffer 以流的方式解析, 均不复制数据
+     */
+    public static <T> T toObj(ByteBuffer json, Class<T> clazz) {
+        return toObj(json, clazz, false);
+    }
+
+    public static <T> T toObj(ByteBuffer json, Class<T> clazz, boolean format) {
+        return toObj(json, clazz, getObjectMapper(format));
+    }
+
+    public static <T> T toObj(ByteBuffer json, Class<T> clazz, final ObjectMapper objectMapper) {
+        if (json.hasArray()) {
+            return toObj(json.array(), json.arrayOffset() + json.position(), json.remaining(), clazz, objectMapper);
+        }
+        return toObj(new ByteBufferBackedInputStream(json.duplicate()), clazz, objectMapper);
+    }
+
+    public static <T> T toObj(ByteBuffer json, Type type) {
+        return toObj(json, type, false);
+    }
+
+    public static <T> T toObj(ByteBuffer json, Type type, boolean format) {
+        return toObj(json, type, getObjectMapper(format));
+    }
+
+    public static <T> T toObj(ByteBuffer json, Type type, final ObjectMapper objectMapper) {
+        if (json.hasArray()) {
+            return toObj(json.array(), json.arrayOffset() + json.position(), json.remaining(), type, objectMapper);
+        }
+        return toObj(new ByteBufferBackedInputStream(json.duplicate()), type, objectMapper);
+    }
+
     public static <T> T toObj(InputStream inputStream, Class<T> clazz) {
         return toObj(inputStream, clazz, false);
     }
@@ -209,7 +442,7 @@ public enum JacksonUtils {
 
     public static <T> T toObj(String json, Type type, final ObjectMapper objectMapper) {
         try {
-            return objectMapper.readValue(json, objectMapper.constructType(type));
+            return reader(type, objectMapper).readValue(json);
         } catch (IOException e) {
             throw new RuntimeException("Parse json to " + type.getTypeName() + " failed: " + json, e);
         }
@@ -241,7 +474,7 @@ public enum JacksonUtils {
 
     public static <T> T toObj(InputStream inputStream, Type type, final ObjectMapper objectMapper) {
         try {
-            return objectMapper.readValue(inputStream, objectMapper.constructType(type));
+            return reader(type, objectMapper).readValue(inputStream);
         } catch (IOException e) {
             throw new RuntimeException("Parse inputStream to " + type.getTypeName() + " failed", e);
         }
@@ -268,9 +501,9 @@ public enum JacksonUtils {
     }
 
     public static <T> T toObj(String json, final ObjectMapper objectMapper, Class<T> parametrized, Class<?>... parameterClasses) {
-        JavaType javaType = objectMapper.getTypeFactory().constructParametricType(parametrized, parameterClasses);
+        JavaType javaType = constructParametricType(objectMapper, parametrized, parameterClasses);
         try {
-            return objectMapper.readValue(json, javaType);
+            return reader(javaType, objectMapper).readValue(json);
         } catch (IOException e) {
             throw new RuntimeException("Parse json to " + javaType.getTypeName() + " failed: " + json, e);
         }
@@ -388,6 +621,239 @@ public enum JacksonUtils {
         return toCollectionMap(json, ArrayList.class, HashMap.class, key, value, objectMapper);
     }
 
+    // ====================== Binary ======================
+
+    /**
+     * 序列化为二进制格式(Smile/CBOR)
+     */
+    public static byte[] toBinary(Object obj, BinaryFormat binaryFormat) {
+        try {
+            return getBinaryObjectMapper(binaryFormat).writeValueAsBytes(obj);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Serialize " + obj.getClass().getSimpleName() + " to " + binaryFormat + " failed", e);
+        }
+    }
+
+    public static <T> T fromBinary(byte[] data, Class<T> clazz, BinaryFormat binaryFormat) {
+        try {
+            return getBinaryObjectMapper(binaryFormat).readValue(data, clazz);
+        } catch (IOException e) {
+            throw new RuntimeException("Parse " + binaryFormat + " to " + clazz.getSimpleName() + " failed", e);
+        }
+    }
+
+    public static <T> T fromBinary(byte[] data, TypeReference<T> typeReference, BinaryFormat binaryFormat) {
+        try {
+            return getBinaryObjectMapper(binaryFormat).readValue(data, typeReference);
+        } catch (IOException e) {
+            throw new RuntimeException("Parse " + binaryFormat + " to " + typeReference.getType().getTypeName() + " failed", e);
+        }
+    }
+
+    public static <T> T fromBinary(InputStream inputStream, Class<T> clazz, BinaryFormat binaryFormat) {
+        try {
+            return getBinaryObjectMapper(binaryFormat).readValue(inputStream, clazz);
+        } catch (IOException e) {
+            throw new RuntimeException("Parse " + binaryFormat + " inputStream to " + clazz.getSimpleName() + " failed", e);
+        }
+    }
+
+    // ====================== Codec ======================
+
+    public static <T> JacksonCodec<T> codec(Class<T> clazz) {
+        return codec(clazz, false);
+    }
+
+    public static <T> JacksonCodec<T> codec(Class<T> clazz, boolean format) {
+        return codec(clazz, getObjectMapper(format));
+    }
+
+    public static <T> JacksonCodec<T> codec(Class<T> clazz, final ObjectMapper objectMapper) {
+        return codec(objectMapper.constructType(clazz), objectMapper);
+    }
+
+    public static <T> JacksonCodec<T> codec(TypeReference<T> typeReference) {
+        return codec(typeReference, false);
+    }
+
+    public static <T> JacksonCodec<T> codec(TypeReference<T> typeReference, boolean format) {
+        return codec(typeReference, getObjectMapper(format));
+    }
+
+    public static <T> JacksonCodec<T> codec(TypeReference<T> typeReference, final ObjectMapper objectMapper) {
+        return codec(objectMapper.constructType(typeReference.getType()), objectMapper);
+    }
+
+    public static <T> JacksonCodec<T> codec(Type type) {
+        return codec(type, false);
+    }
+
+    public static <T> JacksonCodec<T> codec(Type type, boolean format) {
+        return codec(type, getObjectMapper(format));
+    }
+
+    public static <T> JacksonCodec<T> codec(Type type, final ObjectMapper objectMapper) {
+        return codec(objectMapper.constructType(type), objectMapper);
+    }
+
+    /**
+     * 获取绑定到指定类型的编解码器
+     *
+     * <p>
+     * 默认 ObjectMapper 的编解码器按 JavaType 缓存, 自定义 ObjectMapper 每次新建(调用方可自行持有复用)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> JacksonCodec<T> codec(JavaType javaType, final ObjectMapper objectMapper) {
+        ConcurrentMap<JavaType, JacksonCodec<?>> codecs = codecs(objectMapper);
+        if (codecs == null) {
+            return new JacksonCodec<>(objectMapper, javaType);
+        }
+        // 先 get 再 computeIfAbsent, 命中时避免 JDK8 computeIfAbsent 的桶锁
+        JacksonCodec<?> codec = codecs.get(javaType);
+        if (codec == null) {
+            codec = codecs.computeIfAbsent(javaType, key -> new JacksonCodec<>(objectMapper, key));
+        }
+        return (JacksonCodec<T>) codec;
+    }
+
+    private static ObjectReader reader(Type type, ObjectMapper objectMapper) {
+        return reader(objectMapper.constructType(type), objectMapper);
+    }
+
+    /**
+     * 读取用的 ObjectReader: 默认 ObjectMapper 复用缓存的编解码器, 自定义 ObjectMapper 直接 readerFor,
+     * 不为一次读取构建 writer
+     */
+    private static ObjectReader reader(JavaType javaType, ObjectMapper objectMapper) {
+        if (codecs(objectMapper) == null) {
+            return objectMapper.readerFor(javaType);
+        }
+        return codec(javaType, objectMapper).reader();
+    }
+
+    private static ConcurrentMap<JavaType, JacksonCodec<?>> codecs(ObjectMapper objectMapper) {
+        if (objectMapper == MAPPER_WITHOUT_FORMAT) {
+            return CODECS_WITHOUT_FORMAT;
+        }
+        if (objectMapper == MAPPER_WITH_FORMAT) {
+            return CODECS_WITH_FORMAT;
+        }
+        if (JacksonConfig.isAcceleratorAvailable()) {
+            if (objectMapper == AcceleratedMapperHolder.MAPPER_WITHOUT_FORMAT) {
+                return AcceleratedMapperHolder.CODECS_WITHOUT_FORMAT;
+            }
+            if (objectMapper == AcceleratedMapperHolder.MAPPER_WITH_FORMAT) {
+                return AcceleratedMapperHolder.CODECS_WITH_FORMAT;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 构造参数化类型, 如 {@code Result<User>}. 默认 ObjectMapper 下结果会被缓存
+     */
+    public static JavaType constructParametricType(final ObjectMapper objectMapper, Class<?> parametrized, Class<?>... parameterClasses) {
+        if (codecs(objectMapper) == null) {
+            return objectMapper.getTypeFactory().constructParametricType(parametrized, parameterClasses);
+        }
+        List<Class<?>> key = new ArrayList<>(parameterClasses.length + 1);
+        key.add(parametrized);
+        Collections.addAll(key, parameterClasses);
+        JavaType javaType = PARAMETRIC_TYPES.get(key);
+        if (javaType == null) {
+            javaType = PARAMETRIC_TYPES.computeIfAbsent(key,
+                    k -> objectMapper.getTypeFactory().constructParametricType(parametrized, parameterClasses));
+        }
+        return javaType;
+    }
+
+    // ====================== Streaming ======================
+
+    /**
+     * 流式读取 JSON 数组
+     *
+     * <p>
+     * 按元素逐个解析, 内存占用与数组大小无关. 返回的 Stream 需要关闭(关闭时同时关闭输入流), 建议使用 try-with-resources:
+     * <pre>
+     * try (Stream&lt;User&gt; users = JacksonUtils.readArray(inputStream, User.class)) {
+     *     users.forEach(this::save);
+     * }
+     * </pre>
+     */
+    public static <E> Stream<E> readArray(InputStream inputStream, Class<E> element) {
+        return readArray(inputStream, element, false);
+    }
+
+    public static <E> Stream<E> readArray(InputStream inputStream, Class<E> element, boolean format) {
+        return readArray(inputStream, element, getObjectMapper(format));
+    }
+
+    public static <E> Stream<E> readArray(InputStream inputStream, Class<E> element, final ObjectMapper objectMapper) {
+        MappingIterator<E> iterator = readArrayIterator(inputStream, element, objectMapper);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    try {
+                        iterator.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /**
+     * 流式读取 JSON 数组, 返回惰性迭代器
+     *
+     * <p>
+     * 根节点为数组时逐个返回数组元素, 迭代结束或调用 {@link MappingIterator#close()} 时关闭输入流
+     */
+    public static <E> MappingIterator<E> readArrayIterator(InputStream inputStream, Class<E> element) {
+        return readArrayIterator(inputStream, element, false);
+    }
+
+    public static <E> MappingIterator<E> readArrayIterator(InputStream inputStream, Class<E> element, boolean format) {
+        return readArrayIterator(inputStream, element, getObjectMapper(format));
+    }
+
+    public static <E> MappingIterator<E> readArrayIterator(InputStream inputStream, Class<E> element, final ObjectMapper objectMapper) {
+        try {
+            return objectMapper.readerFor(element).readValues(inputStream);
+        } catch (IOException e) {
+            throw new RuntimeException("Parse inputStream to Iterator<" + element.getSimpleName() + "> failed", e);
+        }
+    }
+
+    /**
+     * 流式写出 JSON 数组
+     *
+     * <p>
+     * 逐个序列化元素, 不会在内存中构造完整的 JSON. 写出完成后不会关闭输出流
+     *
+     * @return 写出的元素个数
+     */
+    public static long writeArray(OutputStream outputStream, Iterator<?> elements) {
+        return writeArray(outputStream, elements, false);
+    }
+
+    public static long writeArray(OutputStream outputStream, Iterator<?> elements, boolean format) {
+        return writeArray(outputStream, elements, getObjectMapper(format));
+    }
+
+    public static long writeArray(OutputStream outputStream, Iterator<?> elements, final ObjectMapper objectMapper) {
+        ObjectWriter writer = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        long count = 0;
+        try (SequenceWriter sequenceWriter = writer.writeValuesAsArray(outputStream)) {
+            while (elements.hasNext()) {
+                sequenceWriter.write(elements.next());
+                count++;
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Serialize Iterator to json-stream failed", e);
+        }
+        return count;
+    }
+
     public static void registerSubtype(Class<?> clazz, String type) {
         registerSubtype(clazz, type, false);
     }
@@ -398,6 +864,11 @@ public enum JacksonUtils {
 
     public static void registerSubtype(Class<?> clazz, String type, final ObjectMapper objectMapper) {
         objectMapper.registerSubtypes(new NamedType(clazz, type));
+        // 已缓存的编解码器持有注册前构建的多态反序列化器, 需要重新构建
+        ConcurrentMap<JavaType, JacksonCodec<?>> codecs = codecs(objectMapper);
+        if (codecs != null) {
+            codecs.clear();
+        }
     }
 
     public static ObjectNode createEmptyJsonNode() {
@@ -447,4 +918,68 @@ public enum JacksonUtils {
     public static JavaType constructJavaType(Type type, final ObjectMapper objectMapper) {
         return objectMapper.constructType(type);
     }
+
+    /**
+     * 字节码加速的 ObjectMapper, 首次使用时才创建
+     */
+    private static final class AcceleratedMapperHolder {
+
+        static final ObjectMapper MAPPER_WITH_FORMAT = createObjectMapper(true, true);
+        static final ObjectMapper MAPPER_WITHOUT_FORMAT = createObjectMapper(false, true);
+
+        static final ConcurrentMap<JavaType, JacksonCodec<?>> CODECS_WITH_FORMAT = new ConcurrentHashMap<>();
+        static final ConcurrentMap<JavaType, JacksonCodec<?>> CODECS_WITHOUT_FORMAT = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * 线程内复用的字节缓冲区
+     *
+     * <p>
+     * 超过 {@link #MAX_RETAINED_SIZE} 的缓冲区用完即丢弃, 避免线程长期持有大数组. 同一线程嵌套使用时(handler 内再次序列化)
+     * 临时分配新的缓冲区
+     */
+    private static final class PooledByteArrayOutputStream extends ByteArrayOutputStream {
+
+        private static final int INITIAL_SIZE = 8 * 1024;
+        private static final int MAX_RETAINED_SIZE = 1024 * 1024;
+
+        private static final ThreadLocal<PooledByteArrayOutputStream> POOL = ThreadLocal.withInitial(PooledByteArrayOutputStream::new);
+
+        private final boolean pooled;
+        private boolean inUse;
+
+        private PooledByteArrayOutputStream() {
+            this(true);
+        }
+
+        private PooledByteArrayOutputStream(boolean pooled) {
+            super(INITIAL_SIZE);
+            this.pooled = pooled;
+        }
+
+        static PooledByteArrayOutputStream acquire() {
+            PooledByteArrayOutputStream outputStream = POOL.get();
+            if (outputStream.inUse) {
+                return new PooledByteArrayOutputStream(false);
+            }
+            outputStream.inUse = true;
+            return outputStream;
+        }
+
+        ByteBuffer toByteBuffer() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+
+        void release() {
+            if (!pooled) {
+                return;
+            }
+            if (buf.length > MAX_RETAINED_SIZE) {
+                POOL.remove();
+                return;
+            }
+            reset();
+            inUse = false;
+        }
+    }
 }
\ No newline at end of file
@@ -92,6 +92,7 @@ public enum JacksonXmlUtils {
 
         // java.util.Date 日期格式 处理
         mapper.setDateFormat(new SimpleDateFormat(DateFormatUtils.DATE_TIME_PATTERN));
+        JacksonConfig.configureDate(mapper);
 
         // java.time.* 日期格式处理
         JacksonConfig.configureObjectMapper4Jsr310(mapper);
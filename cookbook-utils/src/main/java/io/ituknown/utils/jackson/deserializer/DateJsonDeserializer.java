@@ -0,0 +1,75 @@
+package io.ituknown.utils.jackson.deserializer;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.DateDeserializers;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import io.ituknown.utils.datetime.DateFormatUtils;
+import io.ituknown.utils.datetime.DateTimeChars;
+
+import java.io.IOException;
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * java.util.Date 反序列化, 直接从解析器的字符缓冲区解析 {@link DateFormatUtils#DATE_TIME_PATTERN}
+ *
+ * <p>
+ * 线程安全. 仅当 ObjectMapper 的日期格式为 {@link DateFormatUtils#DATE_TIME_PATTERN} 的 SimpleDateFormat 时才使用快速路径(在
+ * {@link #createContextual} 中确定), 其他日期格式、格式不匹配的输入(数字时间戳、宽松格式、非法日期等)、夏令时切换时刻、1583 年之前(儒略历)的日期以及
+ * 属性上通过 {@code @JsonFormat} 自定义格式时交给 Jackson 默认的 Date 反序列化器处理, 结果保持不变
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 16:50
+ */
+public class DateJsonDeserializer extends StdScalarDeserializer<Date> implements ContextualDeserializer {
+
+    public static final DateJsonDeserializer INSTANCE = new DateJsonDeserializer();
+
+    /**
+     * 日期格式的时区, 为 null 时(未经 {@link #createContextual} 确认日期格式)不走快速路径
+     */
+    private final TimeZone timeZone;
+
+    public DateJsonDeserializer() {
+        this(null);
+    }
+
+    protected DateJsonDeserializer(TimeZone timeZone) {
+        super(Date.class);
+        this.timeZone = timeZone;
+    }
+
+    @Override
+    public Date deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (timeZone != null && p.hasToken(JsonToken.VALUE_STRING)) {
+            Date date = DateTimeChars.parseDate(p.getTextCharacters(), p.getTextOffset(), p.getTextLength(), timeZone);
+            if (date != null) {
+                return date;
+            }
+        }
+        return DateDeserializers.DateDeserializer.instance.deserialize(p, ctxt);
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException {
+        JsonFormat.Value format = findFormatOverrides(ctxt, property, handledType());
+        if (format != null && (format.hasShape() || format.hasPattern() || format.hasLocale() || format.hasTimeZone())) {
+            return DateDeserializers.DateDeserializer.instance.createContextual(ctxt, property);
+        }
+        DateFormat dateFormat = ctxt.getConfig().getDateFormat();
+        if (!(dateFormat instanceof SimpleDateFormat) || !DateFormatUtils.DATE_TIME_PATTERN.equals(((SimpleDateFormat) dateFormat).toPattern())) {
+            return DateDeserializers.DateDeserializer.instance.createContextual(ctxt, property);
+        }
+        TimeZone zone = dateFormat.getTimeZone();
+        return zone.equals(timeZone) ? this : new DateJsonDeserializer(zone);
+    }
+}
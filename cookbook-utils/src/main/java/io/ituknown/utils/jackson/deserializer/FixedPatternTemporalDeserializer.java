@@ -0,0 +1,109 @@
+package io.ituknown.utils.jackson.deserializer;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalTimeDeserializer;
+import io.ituknown.utils.datetime.DateFormatUtils;
+import io.ituknown.utils.datetime.DateTimeChars;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 固定格式的 java.time 反序列化, 直接读取解析器的字符缓冲区而不经过 DateTimeFormatter
+ *
+ * <p>
+ * 只有最终生效的格式与 {@link DateFormatUtils} 中的固定格式一致时才走快速路径. 格式不匹配的输入(含前后空白、
+ * 非法日期、数字时间戳等)交给 JavaTimeModule 的反序列化器处理, 结果与异常信息保持不变
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 16:20
+ */
+public class FixedPatternTemporalDeserializer<T> extends StdDeserializer<T> implements ContextualDeserializer {
+
+    @FunctionalInterface
+    public interface CharsParser<T> {
+
+        /**
+         * @return 格式不匹配时返回 null
+         */
+        T parse(char[] buffer, int offset, int length);
+    }
+
+    public static FixedPatternTemporalDeserializer<LocalDate> localDate() {
+        return new FixedPatternTemporalDeserializer<>(LocalDate.class, DateFormatUtils.ISO_LOCAL_DATE_PATTERN,
+                DateTimeChars::parseLocalDate, LocalDateDeserializer.INSTANCE);
+    }
+
+    public static FixedPatternTemporalDeserializer<LocalTime> localTime() {
+        return new FixedPatternTemporalDeserializer<>(LocalTime.class, DateFormatUtils.ISO_TIME_PATTERN,
+                DateTimeChars::parseLocalTime, LocalTimeDeserializer.INSTANCE);
+    }
+
+    public static FixedPatternTemporalDeserializer<LocalDateTime> localDateTime() {
+        return new FixedPatternTemporalDeserializer<>(LocalDateTime.class, DateFormatUtils.DATE_TIME_PATTERN,
+                DateTimeChars::parseLocalDateTime, LocalDateTimeDeserializer.INSTANCE);
+    }
+
+    private final String pattern;
+    private final CharsParser<T> parser;
+
+    /**
+     * 快速路径不支持时的回退反序列化器
+     */
+    private final JsonDeserializer<T> delegate;
+
+    protected FixedPatternTemporalDeserializer(Class<T> type, String pattern, CharsParser<T> parser, JsonDeserializer<T> delegate) {
+        super(type);
+        this.pattern = pattern;
+        this.parser = parser;
+        this.delegate = delegate;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected FixedPatternTemporalDeserializer(FixedPatternTemporalDeserializer<T> base, JsonDeserializer<T> delegate) {
+        this((Class<T>) base.handledType(), base.pattern, base.parser, delegate);
+    }
+
+    @Override
+    public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            T value = parser.parse(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+            if (value != null) {
+                return value;
+            }
+        }
+        return delegate.deserialize(p, ctxt);
+    }
+
+    @Override
+    public Object deserializeWithType(JsonParser p, DeserializationContext ctxt, TypeDeserializer typeDeserializer) throws IOException {
+        return delegate.deserializeWithType(p, ctxt, typeDeserializer);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException {
+        JsonDeserializer<T> contextual = delegate;
+        if (delegate instanceof ContextualDeserializer) {
+            contextual = (JsonDeserializer<T>) ((ContextualDeserializer) delegate).createContextual(ctxt, property);
+        }
+        JsonFormat.Value format = findFormatOverrides(ctxt, property, handledType());
+        if (format != null && pattern.equals(format.getPattern())) {
+            return new FixedPatternTemporalDeserializer<>(this, contextual);
+        }
+        return contextual;
+    }
+}
@@ -1,9 +1,11 @@
 package io.ituknown.utils.jackson.deserializer;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import io.ituknown.utils.datetime.DateFormatUtils;
+import io.ituknown.utils.datetime.DateTimeChars;
 
 import java.io.IOException;
 import java.time.LocalDate;
@@ -17,6 +19,12 @@ import java.time.LocalDate;
 public class LocalDateJsonDeserializer extends JsonDeserializer<LocalDate> {
     @Override
     public LocalDate deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.hasToken(JsonToken.VALUE_STRING)) {
+            LocalDate value = DateTimeChars.parseLocalDate(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+            if (value != null) {
+                return value;
+            }
+        }
         return LocalDate.parse(parser.getText(), DateFormatUtils.ISO_LOCAL_DATE);
     }
 }
\ No newline at end of file
@@ -1,9 +1,11 @@
 package io.ituknown.utils.jackson.deserializer;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import io.ituknown.utils.datetime.DateFormatUtils;
+import io.ituknown.utils.datetime.DateTimeChars;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
@@ -18,6 +20,12 @@ public class LocalDateTimeJsonDeserializer extends JsonDeserializer<LocalDateTim
 
     @Override
     public LocalDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.hasToken(JsonToken.VALUE_STRING)) {
+            LocalDateTime value = DateTimeChars.parseLocalDateTime(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+            if (value != null) {
+                return value;
+            }
+        }
         return LocalDateTime.parse(parser.getText(), DateFormatUtils.DATE_TIME);
     }
 }
\ No newline at end of file
@@ -1,9 +1,11 @@
 package io.ituknown.utils.jackson.deserializer;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import io.ituknown.utils.datetime.DateFormatUtils;
+import io.ituknown.utils.datetime.DateTimeChars;
 
 import java.io.IOException;
 import java.time.LocalTime;
@@ -18,6 +20,12 @@ public class LocalTimeJsonDeserializer extends JsonDeserializer<LocalTime> {
 
     @Override
     public LocalTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.hasToken(JsonToken.VALUE_STRING)) {
+            LocalTime value = DateTimeChars.parseLocalTime(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+            if (value != null) {
+                return value;
+            }
+        }
         return LocalTime.parse(parser.getText(), DateFormatUtils.ISO_LOCAL_TIME);
     }
 }
\ No newline at end of file
@@ -0,0 +1,255 @@
+package io.ituknown.utils.jackson.deserializer;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+import io.ituknown.utils.result.PageResult;
+import io.ituknown.utils.result.Result;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * {@link Result}/{@link PageResult} 专用反序列化器, 按字段名直接分派并通过构造器创建对象, 不再逐个属性反射赋值
+ *
+ * <p>
+ * 包装 Jackson 为该类型构建的 BeanDeserializer: {@code data} 以及非常规 token(null、字符串数字等)的其他字段仍交给原有的属性
+ * 反序列化器, 保留泛型参数、类型信息和 null 值处理, 结果与反射路径一致. 非对象输入、启用 JsonView 或按已有对象更新时直接使用原
+ * BeanDeserializer
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 18:10
+ */
+public class ResultJsonDeserializer extends StdDeserializer<Result<?>> implements ResolvableDeserializer, ContextualDeserializer {
+
+    private static final Set<String> RESULT_PROPERTIES = new HashSet<>(Arrays.asList("code", "message", "data"));
+
+    private static final Set<String> PAGE_RESULT_PROPERTIES = new HashSet<>(Arrays.asList("code", "message", "data", "page", "pageSize", "totalRecords"));
+
+    private final BeanDeserializerBase defaultDeserializer;
+
+    private final boolean pageResult;
+
+    /*
+     * BeanDeserializer 在 resolve 时会替换属性实例, 因此在 resolve 之后获取
+     */
+
+    private SettableBeanProperty codeProperty;
+    private SettableBeanProperty messageProperty;
+    private SettableBeanProperty dataProperty;
+    private SettableBeanProperty pageProperty;
+    private SettableBeanProperty pageSizeProperty;
+    private SettableBeanProperty totalRecordsProperty;
+
+    private ResultJsonDeserializer(BeanDeserializerBase defaultDeserializer, boolean pageResult) {
+        super(defaultDeserializer.getValueType());
+        this.defaultDeserializer = defaultDeserializer;
+        this.pageResult = pageResult;
+        findProperties();
+    }
+
+    private void findProperties() {
+        codeProperty = defaultDeserializer.findProperty("code");
+        messageProperty = defaultDeserializer.findProperty("message");
+        dataProperty = defaultDeserializer.findProperty("data");
+        if (pageResult) {
+            pageProperty = defaultDeserializer.findProperty("page");
+            pageSizeProperty = defaultDeserializer.findProperty("pageSize");
+            totalRecordsProperty = defaultDeserializer.findProperty("totalRecords");
+        }
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Result<?> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken t = p.getCurrentToken();
+        if (t == JsonToken.START_OBJECT) {
+            t = p.nextToken();
+        } else if (t != JsonToken.FIELD_NAME && t != JsonToken.END_OBJECT) {
+            return (Result<?>) defaultDeserializer.deserialize(p, ctxt);
+        }
+        if (ctxt.getActiveView() != null) {
+            return (Result<?>) defaultDeserializer.deserialize(p, ctxt);
+        }
+
+        int code = 0;
+        String message = null;
+        Object data = null;
+        boolean hasData = false;
+        int page = 0;
+        int pageSize = 0;
+        int totalRecords = 0;
+
+        for (; t == JsonToken.FIELD_NAME; t = p.nextToken()) {
+            String name = p.getCurrentName();
+            JsonToken valueToken = p.nextToken();
+            switch (name) {
+                case "code":
+                    code = readInt(p, ctxt, valueToken, codeProperty, code);
+                    break;
+                case "message":
+                    message = valueToken == JsonToken.VALUE_STRING ? p.getText() : (String) readValue(p, ctxt, messageProperty);
+                    break;
+                case "data":
+                    data = readValue(p, ctxt, dataProperty);
+                    hasData = true;
+                    break;
+                case "page":
+                    if (pageResult) {
+                        page = readInt(p, ctxt, valueToken, pageProperty, page);
+                    } else {
+                        handleUnknownProperty(p, ctxt, handledType(), name);
+                    }
+                    break;
+                case "pageSize":
+                    if (pageResult) {
+                        pageSize = readInt(p, ctxt, valueToken, pageSizeProperty, pageSize);
+                    } else {
+                        handleUnknownProperty(p, ctxt, handledType(), name);
+                    }
+                    break;
+                case "totalRecords":
+                    if (pageResult) {
+                        totalRecords = readInt(p, ctxt, valueToken, totalRecordsProperty, totalRecords);
+                    } else {
+                        handleUnknownProperty(p, ctxt, handledType(), name);
+                    }
+                    break;
+                default:
+                    handleUnknownProperty(p, ctxt, handledType(), name);
+            }
+        }
+
+        Result result;
+        if (pageResult) {
+            // 与反射路径一致: 未出现 data 字段时保留无参构造器中的空集合
+            PageResult pageResultValue = hasData ? new PageResult((Collection) data) : new PageResult();
+            pageResultValue.setPage(page);
+            pageResultValue.setPageSize(pageSize);
+            pageResultValue.setTotalRecords(totalRecords);
+            result = pageResultValue;
+        } else {
+            result = new Result(data);
+        }
+        result.setCode(code);
+        result.setMessage(message);
+        return result;
+    }
+
+    private int readInt(JsonParser p, DeserializationContext ctxt, JsonToken valueToken, SettableBeanProperty property, int current) throws IOException {
+        if (valueToken == JsonToken.VALUE_NUMBER_INT && p.getNumberType() == JsonParser.NumberType.INT) {
+            return p.getIntValue();
+        }
+        // null 值(Nulls.SKIP)时保留当前值
+        Object value = readValue(p, ctxt, property);
+        return value == null ? current : (Integer) value;
+    }
+
+    private Object readValue(JsonParser p, DeserializationContext ctxt, SettableBeanProperty property) throws IOException {
+        try {
+            return property.deserialize(p, ctxt);
+        } catch (Exception e) {
+            // 与反射路径相同的异常包装, 附带属性路径
+            defaultDeserializer.wrapAndThrow(e, handledType(), property.getName(), ctxt);
+            return null;
+        }
+    }
+
+    @Override
+    public Result<?> deserialize(JsonParser p, DeserializationContext ctxt, Result<?> intoValue) throws IOException {
+        return (Result<?>) defaultDeserializer.deserialize(p, ctxt, intoValue);
+    }
+
+    @Override
+    public Object deserializeWithType(JsonParser p, DeserializationContext ctxt, TypeDeserializer typeDeserializer) throws IOException {
+        return defaultDeserializer.deserializeWithType(p, ctxt, typeDeserializer);
+    }
+
+    @Override
+    public JsonDeserializer<Result<?>> unwrappingDeserializer(NameTransformer unwrapper) {
+        @SuppressWarnings("unchecked")
+        JsonDeserializer<Result<?>> unwrapping = (JsonDeserializer<Result<?>>) (JsonDeserializer<?>) defaultDeserializer.unwrappingDeserializer(unwrapper);
+        return unwrapping;
+    }
+
+    @Override
+    public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+        defaultDeserializer.resolve(ctxt);
+        findProperties();
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException {
+        JsonDeserializer<?> contextual = defaultDeserializer.createContextual(ctxt, property);
+        return contextual == defaultDeserializer ? this : contextual;
+    }
+
+    @Override
+    public boolean isCachable() {
+        return defaultDeserializer.isCachable();
+    }
+
+    @Override
+    public Boolean supportsUpdate(DeserializationConfig config) {
+        return defaultDeserializer.supportsUpdate(config);
+    }
+
+    @Override
+    public Collection<Object> getKnownPropertyNames() {
+        return defaultDeserializer.getKnownPropertyNames();
+    }
+
+    /**
+     * 将 Jackson 为 {@link Result}/{@link PageResult} 构建的 BeanDeserializer 替换为 {@link ResultJsonDeserializer},
+     * 子类、属性结构被改变(MixIn、命名策略等)或忽略属性名大小写时保持原样
+     */
+    public static class Modifier extends BeanDeserializerModifier {
+
+        @Override
+        public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription beanDesc, JsonDeserializer<?> deserializer) {
+            Class<?> beanClass = beanDesc.getBeanClass();
+            if ((beanClass != Result.class && beanClass != PageResult.class) || !(deserializer instanceof BeanDeserializerBase)) {
+                return deserializer;
+            }
+            BeanDeserializerBase beanDeserializer = (BeanDeserializerBase) deserializer;
+            if (config.isEnabled(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES) || beanDeserializer.getObjectIdReader() != null
+                    || beanDesc.findAnySetterAccessor() != null) {
+                return deserializer;
+            }
+            JsonIgnoreProperties.Value ignorals = config.getDefaultPropertyIgnorals(beanClass, beanDesc.getClassInfo());
+            if (ignorals != null && (ignorals.getIgnoreUnknown() || !ignorals.getIgnored().isEmpty())) {
+                return deserializer;
+            }
+
+            Set<String> names = new HashSet<>();
+            for (Iterator<SettableBeanProperty> it = beanDeserializer.properties(); it.hasNext(); ) {
+                names.add(it.next().getName());
+            }
+
+            boolean pageResult = beanClass == PageResult.class;
+            if (!names.equals(pageResult ? PAGE_RESULT_PROPERTIES : RESULT_PROPERTIES)) {
+                return deserializer;
+            }
+            return new ResultJsonDeserializer(beanDeserializer, pageResult);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package io.ituknown.utils.jackson.serializer;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.DateSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import io.ituknown.utils.datetime.DateFormatUtils;
+import io.ituknown.utils.datetime.DateTimeChars;
+
+import java.io.IOException;
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * java.util.Date 序列化, 按 {@link DateFormatUtils#DATE_TIME_PATTERN} 直接写入数字字符
+ *
+ * <p>
+ * 线程安全, 不会像 {@code ObjectMapper#setDateFormat} 那样在每次序列化时克隆 SimpleDateFormat.
+ * 仅当 ObjectMapper 的日期格式为 {@link DateFormatUtils#DATE_TIME_PATTERN} 的 SimpleDateFormat 时才使用快速路径(在
+ * {@link #createContextual} 中确定), 其他日期格式、写为时间戳、属性上通过 {@code @JsonFormat} 自定义格式或 1583 年之前(儒略历)
+ * 的日期交给 Jackson 默认的 {@link DateSerializer} 处理
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 16:50
+ */
+public class DateJsonSerializer extends StdScalarSerializer<Date> implements ContextualSerializer {
+
+    public static final DateJsonSerializer INSTANCE = new DateJsonSerializer();
+
+    /**
+     * 日期格式的时区, 为 null 时(未经 {@link #createContextual} 确认日期格式)不走快速路径
+     */
+    private final TimeZone timeZone;
+
+    public DateJsonSerializer() {
+        this(null);
+    }
+
+    protected DateJsonSerializer(TimeZone timeZone) {
+        super(Date.class);
+        this.timeZone = timeZone;
+    }
+
+    @Override
+    public void serialize(Date date, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (timeZone != null && !provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            char[] buffer = new char[DateTimeChars.DATE_TIME_LENGTH];
+            int length = DateTimeChars.writeDate(date, timeZone, buffer, 0);
+            if (length > 0) {
+                gen.writeString(buffer, 0, length);
+                return;
+            }
+        }
+        DateSerializer.instance.serialize(date, gen, provider);
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+        JsonFormat.Value format = findFormatOverrides(provider, property, handledType());
+        if (format.hasShape() || format.hasPattern() || format.hasLocale() || format.hasTimeZone()) {
+            return DateSerializer.instance.createContextual(provider, property);
+        }
+        DateFormat dateFormat = provider.getConfig().getDateFormat();
+        if (!(dateFormat instanceof SimpleDateFormat) || !DateFormatUtils.DATE_TIME_PATTERN.equals(((SimpleDateFormat) dateFormat).toPattern())) {
+            return DateSerializer.instance.createContextual(provider, property);
+        }
+        TimeZone zone = dateFormat.getTimeZone();
+        return zone.equals(timeZone) ? this : new DateJsonSerializer(zone);
+    }
+}
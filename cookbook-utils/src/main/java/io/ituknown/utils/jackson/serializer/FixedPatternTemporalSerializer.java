@@ -0,0 +1,109 @@
+package io.ituknown.utils.jackson.serializer;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalTimeSerializer;
+import io.ituknown.utils.datetime.DateFormatUtils;
+import io.ituknown.utils.datetime.DateTimeChars;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 固定格式的 java.time 序列化, 直接写入数字字符而不经过 DateTimeFormatter
+ *
+ * <p>
+ * 只有属性(或 configOverride)最终生效的格式与 {@link DateFormatUtils} 中的固定格式一致时才走快速路径,
+ * 其余情况(如属性上 {@code @JsonFormat} 指定了其他格式、写为时间戳)交给 JavaTimeModule 的序列化器处理
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 16:20
+ */
+public class FixedPatternTemporalSerializer<T> extends StdSerializer<T> implements ContextualSerializer {
+
+    @FunctionalInterface
+    public interface CharsWriter<T> {
+
+        /**
+         * @return 写入的字符数, 不支持时返回 -1
+         */
+        int write(T value, char[] buffer, int offset);
+    }
+
+    public static FixedPatternTemporalSerializer<LocalDate> localDate() {
+        return new FixedPatternTemporalSerializer<>(LocalDate.class, DateFormatUtils.ISO_LOCAL_DATE_PATTERN,
+                DateTimeChars.DATE_LENGTH, DateTimeChars::writeLocalDate, LocalDateSerializer.INSTANCE);
+    }
+
+    public static FixedPatternTemporalSerializer<LocalTime> localTime() {
+        return new FixedPatternTemporalSerializer<>(LocalTime.class, DateFormatUtils.ISO_TIME_PATTERN,
+                DateTimeChars.TIME_LENGTH, DateTimeChars::writeLocalTime, LocalTimeSerializer.INSTANCE);
+    }
+
+    public static FixedPatternTemporalSerializer<LocalDateTime> localDateTime() {
+        return new FixedPatternTemporalSerializer<>(LocalDateTime.class, DateFormatUtils.DATE_TIME_PATTERN,
+                DateTimeChars.DATE_TIME_LENGTH, DateTimeChars::writeLocalDateTime, LocalDateTimeSerializer.INSTANCE);
+    }
+
+    private final String pattern;
+    private final int length;
+    private final CharsWriter<T> writer;
+
+    /**
+     * 快速路径不支持时的回退序列化器
+     */
+    private final JsonSerializer<T> delegate;
+
+    protected FixedPatternTemporalSerializer(Class<T> type, String pattern, int length, CharsWriter<T> writer, JsonSerializer<T> delegate) {
+        super(type);
+        this.pattern = pattern;
+        this.length = length;
+        this.writer = writer;
+        this.delegate = delegate;
+    }
+
+    protected FixedPatternTemporalSerializer(FixedPatternTemporalSerializer<T> base, JsonSerializer<T> delegate) {
+        this(base.handledType(), base.pattern, base.length, base.writer, delegate);
+    }
+
+    @Override
+    public void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        char[] buffer = new char[length];
+        int written = writer.write(value, buffer, 0);
+        if (written < 0) {
+            delegate.serialize(value, gen, provider);
+            return;
+        }
+        gen.writeString(buffer, 0, written);
+    }
+
+    @Override
+    public void serializeWithType(T value, JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer) throws IOException {
+        delegate.serializeWithType(value, gen, provider, typeSer);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+        JsonSerializer<T> contextual = delegate;
+        if (delegate instanceof ContextualSerializer) {
+            contextual = (JsonSerializer<T>) ((ContextualSerializer) delegate).createContextual(provider, property);
+        }
+        JsonFormat.Value format = findFormatOverrides(provider, property, handledType());
+        if (format.getShape() == JsonFormat.Shape.STRING && pattern.equals(format.getPattern())) {
+            return new FixedPatternTemporalSerializer<>(this, contextual);
+        }
+        return contextual;
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import io.ituknown.utils.datetime.DateFormatUtils;
+import io.ituknown.utils.datetime.DateTimeChars;
 
 import java.io.IOException;
 import java.time.LocalDate;
@@ -18,6 +19,12 @@ public class LocalDateJsonSerializer extends JsonSerializer<LocalDate> {
     
     @Override
     public void serialize(LocalDate date, JsonGenerator gen, SerializerProvider serializers) throws IOException {
-        gen.writeString(date.format(DateFormatUtils.ISO_LOCAL_DATE));
+        char[] buffer = new char[DateTimeChars.DATE_LENGTH];
+        int length = DateTimeChars.writeLocalDate(date, buffer, 0);
+        if (length < 0) {
+            gen.writeString(date.format(DateFormatUtils.ISO_LOCAL_DATE));
+            return;
+        }
+        gen.writeString(buffer, 0, length);
     }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import io.ituknown.utils.datetime.DateFormatUtils;
+import io.ituknown.utils.datetime.DateTimeChars;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
@@ -17,6 +18,12 @@ import java.time.LocalDateTime;
 public class LocalDateTimeJsonSerializer extends JsonSerializer<LocalDateTime> {
     @Override
     public void serialize(LocalDateTime dateTime, JsonGenerator gen, SerializerProvider serializers) throws IOException {
-        gen.writeString(dateTime.format(DateFormatUtils.DATE_TIME));
+        char[] buffer = new char[DateTimeChars.DATE_TIME_LENGTH];
+        int length = DateTimeChars.writeLocalDateTime(dateTime, buffer, 0);
+        if (length < 0) {
+            gen.writeString(dateTime.format(DateFormatUtils.DATE_TIME));
+            return;
+        }
+        gen.writeString(buffer, 0, length);
     }
 }
\ No newline at end of file
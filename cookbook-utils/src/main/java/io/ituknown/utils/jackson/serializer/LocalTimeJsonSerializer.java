@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import io.ituknown.utils.datetime.DateFormatUtils;
+import io.ituknown.utils.datetime.DateTimeChars;
 
 import java.io.IOException;
 import java.time.LocalTime;
@@ -18,6 +19,12 @@ public class LocalTimeJsonSerializer extends JsonSerializer<LocalTime> {
 
     @Override
     public void serialize(LocalTime time, JsonGenerator generator, SerializerProvider serializers) throws IOException {
-        generator.writeString(time.format(DateFormatUtils.ISO_LOCAL_TIME));
+        char[] buffer = new char[DateTimeChars.TIME_LENGTH];
+        int length = DateTimeChars.writeLocalTime(time, buffer, 0);
+        if (length < 0) {
+            generator.writeString(time.format(DateFormatUtils.ISO_LOCAL_TIME));
+            return;
+        }
+        generator.writeString(buffer, 0, length);
     }
 }
\ No newline at end of file
@@ -0,0 +1,195 @@
+package io.ituknown.utils.jackson.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+import io.ituknown.utils.result.PageResult;
+import io.ituknown.utils.result.Result;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * {@link Result}/{@link PageResult} 专用序列化器, 按固定字段顺序直接调用 getter 写出, 不再逐个属性反射
+ *
+ * <p>
+ * 包装 Jackson 为该类型构建的 BeanSerializer: {@code data} 以及值为 null 的 {@code message} 仍交给原有的属性写出器,
+ * 保留动态类型查找和 Null 值序列化器, 输出与反射路径一致. 启用 JsonView、写入类型信息或被 {@code @JsonUnwrapped}
+ * 引用时直接使用原 BeanSerializer
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 18:10
+ */
+public class ResultJsonSerializer extends StdSerializer<Result<?>> implements ResolvableSerializer, ContextualSerializer {
+
+    private static final List<String> RESULT_PROPERTIES = Arrays.asList("code", "message", "data");
+
+    private static final List<String> PAGE_RESULT_PROPERTIES = Arrays.asList("code", "message", "data", "page", "pageSize", "totalRecords");
+
+    private static final SerializedString CODE = new SerializedString("code");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString PAGE = new SerializedString("page");
+    private static final SerializedString PAGE_SIZE = new SerializedString("pageSize");
+    private static final SerializedString TOTAL_RECORDS = new SerializedString("totalRecords");
+
+    private final BeanSerializerBase defaultSerializer;
+
+    private final boolean pageResult;
+
+    private final BeanPropertyWriter messageWriter;
+
+    private final BeanPropertyWriter dataWriter;
+
+    private ResultJsonSerializer(BeanSerializerBase defaultSerializer, boolean pageResult, BeanPropertyWriter messageWriter, BeanPropertyWriter dataWriter) {
+        super(defaultSerializer.handledType(), false);
+        this.defaultSerializer = defaultSerializer;
+        this.pageResult = pageResult;
+        this.messageWriter = messageWriter;
+        this.dataWriter = dataWriter;
+    }
+
+    @Override
+    public void serialize(Result<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (provider.getActiveView() != null) {
+            defaultSerializer.serialize(value, gen, provider);
+            return;
+        }
+
+        gen.writeStartObject(value);
+
+        gen.writeFieldName(CODE);
+        gen.writeNumber(value.getCode());
+
+        String message = value.getMessage();
+        if (message != null) {
+            gen.writeFieldName(MESSAGE);
+            gen.writeString(message);
+        } else {
+            writeProperty(messageWriter, value, gen, provider);
+        }
+
+        writeProperty(dataWriter, value, gen, provider);
+
+        if (pageResult) {
+            PageResult<?> page = (PageResult<?>) value;
+            gen.writeFieldName(PAGE);
+            gen.writeNumber(page.getPage());
+            gen.writeFieldName(PAGE_SIZE);
+            gen.writeNumber(page.getPageSize());
+            gen.writeFieldName(TOTAL_RECORDS);
+            gen.writeNumber(page.getTotalRecords());
+        }
+
+        gen.writeEndObject();
+    }
+
+    private void writeProperty(BeanPropertyWriter writer, Result<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        try {
+            writer.serializeAsField(value, gen, provider);
+        } catch (Exception e) {
+            wrapAndThrow(provider, e, value, writer.getName());
+        } catch (StackOverflowError e) {
+            JsonMappingException mappingException = new JsonMappingException(gen, "Infinite recursion (StackOverflowError)", e);
+            mappingException.prependPath(new JsonMappingException.Reference(value, writer.getName()));
+            throw mappingException;
+        }
+    }
+
+    @Override
+    public void serializeWithType(Result<?> value, JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer) throws IOException {
+        defaultSerializer.serializeWithType(value, gen, provider, typeSer);
+    }
+
+    @Override
+    public JsonSerializer<Result<?>> unwrappingSerializer(NameTransformer unwrapper) {
+        @SuppressWarnings("unchecked")
+        JsonSerializer<Result<?>> unwrapping = (JsonSerializer<Result<?>>) (JsonSerializer<?>) defaultSerializer.unwrappingSerializer(unwrapper);
+        return unwrapping;
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        defaultSerializer.resolve(provider);
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+        JsonSerializer<?> contextual = defaultSerializer.createContextual(provider, property);
+        return contextual == defaultSerializer ? this : contextual;
+    }
+
+    @Override
+    public boolean usesObjectId() {
+        return defaultSerializer.usesObjectId();
+    }
+
+    @Override
+    public Iterator<PropertyWriter> properties() {
+        return defaultSerializer.properties();
+    }
+
+    @Override
+    public void acceptJsonFormatVisitor(JsonFormatVisitorWrapper visitor, JavaType typeHint) throws JsonMappingException {
+        defaultSerializer.acceptJsonFormatVisitor(visitor, typeHint);
+    }
+
+    /**
+     * 将 Jackson 为 {@link Result}/{@link PageResult} 构建的 BeanSerializer 替换为 {@link ResultJsonSerializer},
+     * 子类或属性结构被改变(MixIn、命名策略、过滤器等)时保持原样
+     */
+    public static class Modifier extends BeanSerializerModifier {
+
+        @Override
+        public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc, JsonSerializer<?> serializer) {
+            Class<?> beanClass = beanDesc.getBeanClass();
+            if ((beanClass != Result.class && beanClass != PageResult.class) || !(serializer instanceof BeanSerializerBase)) {
+                return serializer;
+            }
+            BeanSerializerBase beanSerializer = (BeanSerializerBase) serializer;
+            if (beanSerializer.usesObjectId() || config.getAnnotationIntrospector().findFilterId(beanDesc.getClassInfo()) != null || beanDesc.findAnyGetter() != null) {
+                return serializer;
+            }
+
+            List<String> names = new ArrayList<>();
+            BeanPropertyWriter messageWriter = null;
+            BeanPropertyWriter dataWriter = null;
+            for (Iterator<PropertyWriter> it = beanSerializer.properties(); it.hasNext(); ) {
+                PropertyWriter writer = it.next();
+                if (!(writer instanceof BeanPropertyWriter)) {
+                    return serializer;
+                }
+                names.add(writer.getName());
+                if ("message".equals(writer.getName())) {
+                    messageWriter = (BeanPropertyWriter) writer;
+                } else if ("data".equals(writer.getName())) {
+                    dataWriter = (BeanPropertyWriter) writer;
+                }
+            }
+
+            boolean pageResult = beanClass == PageResult.class;
+            if (!names.equals(pageResult ? PAGE_RESULT_PROPERTIES : RESULT_PROPERTIES)) {
+                return serializer;
+            }
+            return new ResultJsonSerializer(beanSerializer, pageResult, messageWriter, dataWriter);
+        }
+    }
+}
@@ -1,15 +1,22 @@
 package io.ituknown.utils.spring;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ituknown.utils.jackson.BinaryFormat;
 import io.ituknown.utils.jackson.JacksonConfig;
+import io.ituknown.utils.jackson.JacksonUtils;
 import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * 自定义 Jackson Http 消息转换器
@@ -33,6 +40,18 @@ public class MessageConvertConfiguration {
         jacksonConverter.setDefaultCharset(StandardCharsets.UTF_8);
         jacksonConverter.setSupportedMediaTypes(Collections.singletonList(MediaType.APPLICATION_JSON_UTF8));
 
-        return new HttpMessageConverters(jacksonConverter);
+        List<HttpMessageConverter<?>> converters = new ArrayList<>();
+        converters.add(jacksonConverter);
+
+        // 二进制格式: 类路径中存在 jackson-dataformat-smile/cbor 时启用, 按请求的 Content-Type/Accept 自动选择.
+        // 使用独立的 ObjectMapper, 不把 JacksonUtils 共享的实例交给 Spring
+        if (BinaryFormat.SMILE.isAvailable()) {
+            converters.add(new MappingJackson2SmileHttpMessageConverter(JacksonUtils.createObjectMapper(BinaryFormat.SMILE.createFactory(), false)));
+        }
+        if (BinaryFormat.CBOR.isAvailable()) {
+            converters.add(new MappingJackson2CborHttpMessageConverter(JacksonUtils.createObjectMapper(BinaryFormat.CBOR.createFactory(), false)));
+        }
+
+        return new HttpMessageConverters(converters);
     }
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+package io.ituknown.utils.datetime;
+
+import org.junit.Test;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+/**
+ * {@link DateTimeChars} 读写 java.util.Date 的结果必须与 SimpleDateFormat 一致
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 20:50
+ */
+public class DateTimeCharsTest {
+
+    /**
+     * 包含地方平时(LMT)、非整小时夏令时和非整小时偏移的时区
+     */
+    private static final String[] ZONES = {
+            "Asia/Shanghai", "Australia/Lord_Howe", "Europe/Amsterdam", "America/New_York", "Europe/London",
+            "Asia/Kolkata", "America/St_Johns", "Pacific/Chatham", "Asia/Kathmandu", "UTC"
+    };
+
+    private static final long MIN_MILLIS = -12219292800000L; // 1582-10-15T00:00:00Z
+
+    private static final long MAX_MILLIS = 253402300799000L; // 9999-12-31T23:59:59Z
+
+    @Test
+    public void matchesSimpleDateFormatAroundLocalMeanTime() throws ParseException {
+        // 上海 1901 年之前为 LMT +08:05:43, Lord Howe 的夏令时只有 30 分钟
+        assertMatches(TimeZone.getTimeZone("Asia/Shanghai"), new SimpleDateFormat(DateFormatUtils.DATE_TIME_PATTERN).parse("1900-06-01 12:00:00").getTime());
+        for (String zone : ZONES) {
+            TimeZone timeZone = TimeZone.getTimeZone(zone);
+            for (int year = 1582; year <= 2040; year++) {
+                for (int month = 0; month < 12; month++) {
+                    assertMatches(timeZone, utc(year, month));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void rejectsUnsupportedInput() {
+        TimeZone timeZone = TimeZone.getTimeZone("America/New_York");
+        assertNull(parse("2020-03-08 02:30:00", timeZone));
+        assertNull(parse("2020-11-01 01:30:00", timeZone));
+        assertNull(parse("1582-10-20 00:00:00", timeZone));
+        assertNull(parse("2020-02-30 00:00:00", timeZone));
+        assertNull(parse("2020-1-01 00:00:00", timeZone));
+        assertEquals(-1, DateTimeChars.writeDate(new Date(MIN_MILLIS), timeZone, new char[DateTimeChars.DATE_TIME_LENGTH], 0));
+    }
+
+    @Test
+    public void concurrentReadWriteMatchesSimpleDateFormat() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                final long seed = i;
+                futures.add(executor.submit((Callable<Integer>) () -> {
+                    Random random = new Random(seed);
+                    int checked = 0;
+                    for (int n = 0; n < 20000; n++) {
+                        TimeZone timeZone = TimeZone.getTimeZone(ZONES[random.nextInt(ZONES.length)]);
+                        long millis = MIN_MILLIS + (long) (random.nextDouble() * (MAX_MILLIS - MIN_MILLIS));
+                        checked += assertMatches(timeZone, millis);
+                    }
+                    return checked;
+                }));
+            }
+            int checked = 0;
+            for (Future<Integer> future : futures) {
+                checked += future.get();
+            }
+            assertTrue(checked > 0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return 快速路径支持该时刻时返回 1, 否则返回 0
+     */
+    private static int assertMatches(TimeZone timeZone, long millis) throws ParseException {
+        SimpleDateFormat format = new SimpleDateFormat(DateFormatUtils.DATE_TIME_PATTERN);
+        format.setTimeZone(timeZone);
+        Date date = new Date(millis);
+
+        char[] buffer = new char[DateTimeChars.DATE_TIME_LENGTH];
+        int length = DateTimeChars.writeDate(date, timeZone, buffer, 0);
+        String expected = format.format(date);
+        if (length < 0) {
+            return 0;
+        }
+        String actual = new String(buffer, 0, length);
+        assertEquals(timeZone.getID() + " " + millis, expected, actual);
+
+        Date parsed = DateTimeChars.parseDate(buffer, 0, length, timeZone);
+        if (parsed != null) {
+            assertEquals(timeZone.getID() + " " + actual, format.parse(actual), parsed);
+        }
+        return 1;
+    }
+
+    private static Date parse(String text, TimeZone timeZone) {
+        char[] chars = text.toCharArray();
+        return DateTimeChars.parseDate(chars, 0, chars.length, timeZone);
+    }
+
+    private static long utc(int year, int month) {
+        java.util.Calendar calendar = java.util.Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        calendar.clear();
+        calendar.set(year, month, 1 + month * 2, month, month * 5, month);
+        return calendar.getTimeInMillis();
+    }
+}
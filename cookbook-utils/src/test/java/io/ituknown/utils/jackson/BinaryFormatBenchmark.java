@@ -0,0 +1,83 @@
+package io.ituknown.utils.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.ituknown.utils.result.PageResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON 与 Smile/CBOR 的编解码速度基准, {@link #main(String[])} 运行前先打印各格式的编码大小
+ *
+ * <p>
+ * 不随单元测试执行, 通过 IDE 运行 {@link #main(String[])}
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 21:30
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryFormatBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"JSON", "SMILE", "CBOR"})
+    public String format;
+
+    private ObjectMapper objectMapper;
+
+    private ObjectReader reader;
+
+    private PageResult<BinaryFormatTest.Item> page;
+
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = mapper(format);
+        reader = objectMapper.readerFor(new TypeReference<PageResult<BinaryFormatTest.Item>>() {
+        });
+        page = BinaryFormatTest.page(PAGE_SIZE);
+        encoded = objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public Object deserialize() throws Exception {
+        return reader.readValue(encoded);
+    }
+
+    private static ObjectMapper mapper(String format) {
+        return "JSON".equals(format) ? JacksonUtils.getObjectMapper() : JacksonUtils.getBinaryObjectMapper(BinaryFormat.valueOf(format));
+    }
+
+    public static void main(String[] args) throws Exception {
+        PageResult<BinaryFormatTest.Item> page = BinaryFormatTest.page(PAGE_SIZE);
+        for (String format : new String[]{"JSON", "SMILE", "CBOR"}) {
+            System.out.printf("%-5s %d bytes%n", format, mapper(format).writeValueAsBytes(page).length);
+        }
+        new Runner(new OptionsBuilder().include(BinaryFormatBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,97 @@
+package io.ituknown.utils.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.ituknown.utils.result.PageResult;
+import lombok.Data;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Smile/CBOR 与 JSON 使用相同的配置, 读写结果一致
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 21:30
+ */
+public class BinaryFormatTest {
+
+    private static final TypeReference<PageResult<Item>> PAGE_TYPE = new TypeReference<PageResult<Item>>() {
+    };
+
+    @Test
+    public void factoriesAreAvailable() {
+        assertTrue(BinaryFormat.SMILE.isAvailable());
+        assertTrue(BinaryFormat.CBOR.isAvailable());
+        assertTrue(JacksonUtils.getBinaryObjectMapper(BinaryFormat.SMILE).getFactory() instanceof SmileFactory);
+        assertTrue(JacksonUtils.getBinaryObjectMapper(BinaryFormat.CBOR).getFactory() instanceof CBORFactory);
+    }
+
+    @Test
+    public void binaryRoundTripMatchesJson() throws Exception {
+        ObjectMapper json = JacksonUtils.getObjectMapper();
+        PageResult<Item> page = page(50);
+        String expected = json.writeValueAsString(json.readValue(json.writeValueAsBytes(page), PAGE_TYPE));
+
+        for (BinaryFormat format : BinaryFormat.values()) {
+            ObjectMapper binary = JacksonUtils.getBinaryObjectMapper(format);
+            byte[] bytes = binary.writeValueAsBytes(page);
+            PageResult<Item> decoded = binary.readValue(bytes, PAGE_TYPE);
+
+            assertEquals(format.name(), expected, json.writeValueAsString(decoded));
+            // 二进制格式与 JSON 的 Null 值处理一致: 缺省字段按 Null 值序列化器写出
+            assertEquals(format.name(), "", new ArrayList<>(decoded.getData()).get(1).getName());
+        }
+    }
+
+    @Test
+    public void binaryIsSmallerForRepeatedStructures() throws Exception {
+        PageResult<Item> page = page(200);
+        int json = JacksonUtils.getObjectMapper().writeValueAsBytes(page).length;
+        assertTrue(JacksonUtils.getBinaryObjectMapper(BinaryFormat.SMILE).writeValueAsBytes(page).length < json);
+        assertTrue(JacksonUtils.getBinaryObjectMapper(BinaryFormat.CBOR).writeValueAsBytes(page).length < json);
+    }
+
+    static PageResult<Item> page(int size) {
+        List<Item> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Item item = new Item();
+            item.setId(10000L + i);
+            item.setName(i % 2 == 0 ? "item-" + i : null);
+            item.setPrice(new BigDecimal(i).movePointLeft(2));
+            item.setEnabled(i % 3 == 0);
+            item.setCreateTime(new Date(1760000000000L + i * 1000L));
+            item.setUpdateTime(LocalDateTime.of(2026, 10, 19, 21, 30).plusMinutes(i));
+            items.add(item);
+        }
+        PageResult<Item> page = new PageResult<>(items);
+        page.setPage(1);
+        page.setPageSize(size);
+        page.setTotalRecords(size * 10);
+        return page;
+    }
+
+    @Data
+    public static class Item {
+
+        private Long id;
+
+        private String name;
+
+        private BigDecimal price;
+
+        private Boolean enabled;
+
+        private Date createTime;
+
+        private LocalDateTime updateTime;
+    }
+}
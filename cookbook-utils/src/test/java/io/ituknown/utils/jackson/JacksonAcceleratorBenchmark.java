@@ -0,0 +1,90 @@
+package io.ituknown.utils.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 字节码加速(Afterburner)的 ObjectMapper 与默认 ObjectMapper 读写基准
+ *
+ * <p>
+ * 不随单元测试执行, 通过 IDE 运行 {@link #main(String[])}
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 23:15
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonAcceleratorBenchmark {
+
+    private final ObjectMapper objectMapper = JacksonUtils.getObjectMapper();
+
+    private final ObjectMapper acceleratedMapper = JacksonUtils.getAcceleratedObjectMapper();
+
+    private final List<JacksonAcceleratorTest.Payload> payloads = new ArrayList<>();
+
+    private final String json;
+
+    public JacksonAcceleratorBenchmark() {
+        for (int i = 0; i < 20; i++) {
+            JacksonAcceleratorTest.Payload payload = new JacksonAcceleratorTest.Payload();
+            payload.setName("payload-" + i);
+            payload.setCount(i);
+            payload.setTotal(i * 1000L);
+            payload.setEnabled(i % 2 == 0);
+            payload.setAmount(new BigDecimal("12.34"));
+            payload.setScore(i / 3.0);
+            payload.setCreateTime(new Date(1760000000000L + i));
+            payload.setTags(Arrays.asList("a", "b"));
+            payload.setAttributes(Collections.singletonMap("k", i));
+            payloads.add(payload);
+        }
+        json = JacksonUtils.toJson(payloads);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(payloads);
+    }
+
+    @Benchmark
+    public byte[] serializeAccelerated() throws Exception {
+        return acceleratedMapper.writeValueAsBytes(payloads);
+    }
+
+    @Benchmark
+    public Object deserialize() throws Exception {
+        return objectMapper.readValue(json, JacksonAcceleratorTest.Payload[].class);
+    }
+
+    @Benchmark
+    public Object deserializeAccelerated() throws Exception {
+        return acceleratedMapper.readValue(json, JacksonAcceleratorTest.Payload[].class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JacksonAcceleratorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
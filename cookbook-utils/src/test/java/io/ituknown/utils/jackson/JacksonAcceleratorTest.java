@@ -0,0 +1,95 @@
+package io.ituknown.utils.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.ituknown.utils.jackson.serializer.BigDecimalAsStringJsonSerializer;
+import lombok.Data;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * 字节码加速(Afterburner)的 ObjectMapper 与默认 ObjectMapper 的输出必须逐字节一致
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 20:35
+ */
+public class JacksonAcceleratorTest {
+
+    @Test
+    public void acceleratorIsRegistered() {
+        assertTrue(JacksonConfig.isAcceleratorAvailable());
+        assertNotSame(JacksonUtils.getObjectMapper(), JacksonUtils.getAcceleratedObjectMapper());
+        assertTrue(JacksonUtils.getAcceleratedObjectMapper().getRegisteredModuleIds().contains("com.fasterxml.jackson.module.afterburner.AfterburnerModule"));
+    }
+
+    @Test
+    public void nullHeavyOutputIsIdentical() throws Exception {
+        assertIdentical(new Payload());
+        assertIdentical(Arrays.asList(new Payload(), null, new Payload()));
+    }
+
+    @Test
+    public void bigDecimalOutputIsIdentical() throws Exception {
+        Payload payload = new Payload();
+        payload.setAmount(new BigDecimal("1.10"));
+        payload.setPrice(new BigDecimal("1E+3"));
+        payload.setRatio(new BigDecimal("0.000001"));
+        payload.setCount(7);
+        payload.setName("afterburner");
+        payload.setEnabled(Boolean.TRUE);
+        payload.setTags(Collections.singletonList("a"));
+        payload.setAttributes(Collections.singletonMap("k", "v"));
+        payload.setCreateTime(new Date(1760000000000L));
+        assertIdentical(payload);
+
+        String json = JacksonUtils.getAcceleratedObjectMapper().writeValueAsString(payload);
+        assertTrue(json, json.contains("\"price\":\"1000\""));
+    }
+
+    private static void assertIdentical(Object value) throws Exception {
+        for (boolean format : new boolean[]{false, true}) {
+            ObjectMapper plain = JacksonUtils.getObjectMapper(format);
+            ObjectMapper accelerated = JacksonUtils.getAcceleratedObjectMapper(format);
+            assertArrayEquals(plain.writeValueAsString(value), plain.writeValueAsBytes(value), accelerated.writeValueAsBytes(value));
+        }
+    }
+
+    @Data
+    public static class Payload {
+
+        private String name;
+
+        private Integer count;
+
+        private Long total;
+
+        private Boolean enabled;
+
+        private BigDecimal amount;
+
+        @JsonSerialize(using = BigDecimalAsStringJsonSerializer.class)
+        private BigDecimal price;
+
+        private BigDecimal ratio;
+
+        private Double score;
+
+        private Date createTime;
+
+        private List<String> tags;
+
+        private String[] codes;
+
+        private Map<String, Object> attributes;
+
+        private Payload child;
+    }
+}
@@ -0,0 +1,171 @@
+package io.ituknown.utils.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Type;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * {@link JacksonUtils#writeTo}/{@link JacksonUtils#withJsonBuffer} 以及 byte[]/ByteBuffer 解析测试
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 23:05
+ */
+public class JacksonBufferTest {
+
+    private static final Type USERS_TYPE = new TypeReference<List<JacksonCodecTest.User>>() {
+    }.getType();
+
+    private final JacksonCodecTest.User user = JacksonCodecTest.user();
+
+    private final String json = JacksonUtils.toJson(user);
+
+    private final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void writeToOutputStreamDoesNotClose() {
+        ClosingAwareOutputStream outputStream = new ClosingAwareOutputStream();
+        JacksonUtils.writeTo(user, outputStream);
+        JacksonUtils.writeTo(user, outputStream);
+        assertFalse(outputStream.closed);
+        assertEquals(json + json, new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void writeToHeapBuffer() {
+        writeToBuffer(ByteBuffer.allocate(256));
+    }
+
+    @Test
+    public void writeToDirectBuffer() {
+        writeToBuffer(ByteBuffer.allocateDirect(256));
+    }
+
+    private void writeToBuffer(ByteBuffer buffer) {
+        buffer.position(3);
+        int written = JacksonUtils.writeTo(user, buffer);
+        assertEquals(bytes.length, written);
+        assertEquals(3 + bytes.length, buffer.position());
+
+        buffer.flip();
+        buffer.position(3);
+        byte[] actual = new byte[buffer.remaining()];
+        buffer.get(actual);
+        assertArrayEquals(bytes, actual);
+    }
+
+    @Test(expected = BufferOverflowException.class)
+    public void writeToBufferOverflow() {
+        JacksonUtils.writeTo(user, ByteBuffer.allocate(bytes.length - 1));
+    }
+
+    @Test
+    public void toObjFromByteRange() {
+        byte[] padded = new byte[bytes.length + 4];
+        padded[0] = padded[1] = ' ';
+        padded[padded.length - 2] = padded[padded.length - 1] = 'x';
+        System.arraycopy(bytes, 0, padded, 2, bytes.length);
+
+        assertEquals(user, JacksonUtils.toObj(padded, 2, bytes.length, JacksonCodecTest.User.class));
+        assertEquals(user, JacksonUtils.toObj(padded, 2, bytes.length, (Type) JacksonCodecTest.User.class));
+    }
+
+    @Test
+    public void toObjFromHeapBuffer() {
+        // 非零 arrayOffset 的切片
+        ByteBuffer backing = ByteBuffer.allocate(bytes.length + 8);
+        backing.position(5);
+        ByteBuffer slice = backing.slice();
+        slice.put(bytes).flip();
+        assertTrue(slice.arrayOffset() > 0);
+        toObjFromBuffer(slice);
+    }
+
+    @Test
+    public void toObjFromDirectBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        assertFalse(buffer.hasArray());
+        toObjFromBuffer(buffer);
+    }
+
+    private void toObjFromBuffer(ByteBuffer buffer) {
+        int position = buffer.position();
+        int limit = buffer.limit();
+        assertEquals(user, JacksonUtils.toObj(buffer, JacksonCodecTest.User.class));
+        assertEquals(position, buffer.position());
+        assertEquals(user, JacksonUtils.toObj(buffer, (Type) JacksonCodecTest.User.class));
+        assertEquals(position, buffer.position());
+        assertEquals(limit, buffer.limit());
+    }
+
+    @Test
+    public void toObjFromBufferWithType() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(256);
+        JacksonUtils.writeTo(Arrays.asList(user, user), buffer);
+        buffer.flip();
+        List<JacksonCodecTest.User> users = JacksonUtils.toObj(buffer, USERS_TYPE);
+        assertEquals(Arrays.asList(user, user), users);
+    }
+
+    @Test
+    public void withJsonBufferReusesBuffer() {
+        byte[] first = JacksonUtils.withJsonBuffer(user, buffer -> {
+            assertEquals(json, StandardCharsets.UTF_8.decode(buffer.duplicate()).toString());
+            return buffer.array();
+        });
+        byte[] second = JacksonUtils.withJsonBuffer(user, ByteBuffer::array);
+        assertSame(first, second);
+    }
+
+    @Test
+    public void nestedWithJsonBufferUsesFreshBuffer() {
+        JacksonUtils.withJsonBuffer(user, outer -> {
+            byte[] inner = JacksonUtils.withJsonBuffer(Arrays.asList(1, 2, 3), buffer -> {
+                assertNotSame(outer.array(), buffer.array());
+                assertEquals("[1,2,3]", StandardCharsets.UTF_8.decode(buffer.duplicate()).toString());
+                return buffer.array();
+            });
+            assertNotSame(outer.array(), inner);
+            // 内层序列化不能覆盖外层缓冲区
+            assertEquals(json, StandardCharsets.UTF_8.decode(outer.duplicate()).toString());
+            return null;
+        });
+        // 外层结束后线程缓冲区可以继续复用
+        byte[] first = JacksonUtils.withJsonBuffer(user, ByteBuffer::array);
+        assertSame(first, JacksonUtils.withJsonBuffer(user, ByteBuffer::array));
+    }
+
+    @Test
+    public void largeBufferIsNotRetained() {
+        char[] chars = new char[2 * 1024 * 1024];
+        Arrays.fill(chars, 'a');
+        String large = new String(chars);
+
+        byte[] largeArray = JacksonUtils.withJsonBuffer(large, buffer -> {
+            assertEquals(large.length() + 2, buffer.remaining());
+            return buffer.array();
+        });
+        byte[] next = JacksonUtils.withJsonBuffer(user, ByteBuffer::array);
+        assertNotSame(largeArray, next);
+        assertTrue(next.length < largeArray.length);
+    }
+
+    private static final class ClosingAwareOutputStream extends ByteArrayOutputStream {
+
+        private boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
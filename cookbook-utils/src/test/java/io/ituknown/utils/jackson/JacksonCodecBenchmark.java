@@ -0,0 +1,112 @@
+package io.ituknown.utils.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JacksonCodec} 基准: 每次调用查找根序列化器/反序列化器的 {@code ObjectMapper} 与预绑定的 codec 以及
+ * {@link JacksonUtils#toObj(String, Type)}、参数化类型读取等入口对比
+ *
+ * <p>
+ * 不随单元测试执行, 通过 IDE 运行 {@link #main(String[])}
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 20:20
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonCodecBenchmark {
+
+    private final ObjectMapper objectMapper = JacksonUtils.getObjectMapper();
+
+    private final ObjectWriter dynamicWriter = objectMapper.writer();
+
+    private final JacksonCodec<JacksonCodecTest.User> codec = JacksonUtils.codec(JacksonCodecTest.User.class);
+
+    private final JacksonCodecTest.User user = JacksonCodecTest.user();
+
+    private final ObjectMapper customMapper = JacksonUtils.createObjectMapper(false);
+
+    private final String userJson = JacksonUtils.toJson(user);
+
+    private final String usersJson = JacksonUtils.toJson(Arrays.asList(user, user, user));
+
+    private final Type usersType = new TypeReference<List<JacksonCodecTest.User>>() {
+    }.getType();
+
+    @Benchmark
+    public String objectMapper() throws Exception {
+        return objectMapper.writeValueAsString(user);
+    }
+
+    @Benchmark
+    public String dynamicWriter() throws Exception {
+        return dynamicWriter.writeValueAsString(user);
+    }
+
+    @Benchmark
+    public String codec() {
+        return codec.toJson(user);
+    }
+
+    @Benchmark
+    public Object readObjectMapper() throws Exception {
+        return objectMapper.readValue(userJson, JacksonCodecTest.User.class);
+    }
+
+    @Benchmark
+    public Object readCodec() {
+        return codec.toObj(userJson);
+    }
+
+    @Benchmark
+    public Object readType() {
+        return JacksonUtils.toObj(userJson, (Type) JacksonCodecTest.User.class);
+    }
+
+    @Benchmark
+    public Object readTypeCustomMapper() {
+        return JacksonUtils.toObj(userJson, (Type) JacksonCodecTest.User.class, customMapper);
+    }
+
+    @Benchmark
+    public Object readGenericObjectMapper() throws Exception {
+        return objectMapper.readValue(usersJson, objectMapper.constructType(usersType));
+    }
+
+    @Benchmark
+    public Object readGenericType() {
+        return JacksonUtils.toObj(usersJson, usersType);
+    }
+
+    @Benchmark
+    public Object readParametric() {
+        return JacksonUtils.toObj(usersJson, List.class, JacksonCodecTest.User.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JacksonCodecBenchmark.class.getSimpleName()).build()).run();
+    }
+}
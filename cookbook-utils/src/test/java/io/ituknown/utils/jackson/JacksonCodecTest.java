@@ -0,0 +1,82 @@
+package io.ituknown.utils.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * {@link JacksonCodec} 测试: 预绑定 writer 的输出必须与 ObjectMapper 按运行时类型序列化一致
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 20:20
+ */
+public class JacksonCodecTest {
+
+    private final ObjectMapper objectMapper = JacksonUtils.getObjectMapper();
+
+    @Test
+    public void exactTypeMatchesObjectMapper() throws Exception {
+        JacksonCodec<User> codec = JacksonUtils.codec(User.class);
+        User user = user();
+        assertEquals(objectMapper.writeValueAsString(user), codec.toJson(user));
+        assertArrayEquals(objectMapper.writeValueAsBytes(user), codec.toJsonBytes(user));
+        assertEquals(user, codec.toObj(codec.toJson(user)));
+    }
+
+    @Test
+    public void subclassKeepsOwnProperties() throws Exception {
+        JacksonCodec<User> codec = JacksonUtils.codec(User.class);
+        Admin admin = new Admin();
+        admin.setId(1L);
+        admin.setName("root");
+        admin.setRole("super");
+
+        String json = codec.toJson(admin);
+        assertEquals(objectMapper.writeValueAsString(admin), json);
+        assertTrue(json, json.contains("\"role\":\"super\""));
+        assertEquals(objectMapper.writeValueAsString(admin), new String(codec.toJsonBytes(admin), "UTF-8"));
+    }
+
+    @Test
+    public void nullAndContainerTypes() throws Exception {
+        assertEquals("null", JacksonUtils.codec(User.class).toJson(null));
+
+        JacksonCodec<List<User>> codec = JacksonUtils.codec(new TypeReference<List<User>>() {
+        });
+        List<User> users = Arrays.asList(user(), user());
+        assertEquals(objectMapper.writeValueAsString(users), codec.toJson(users));
+        assertEquals(users, codec.toObj(codec.toJsonBytes(users)));
+    }
+
+    static User user() {
+        User user = new User();
+        user.setId(42L);
+        user.setName("magician");
+        user.setAge(18);
+        return user;
+    }
+
+    @Data
+    public static class User {
+
+        private Long id;
+
+        private String name;
+
+        private Integer age;
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class Admin extends User {
+
+        private String role;
+    }
+}
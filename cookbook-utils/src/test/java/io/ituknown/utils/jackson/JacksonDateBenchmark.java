@@ -0,0 +1,75 @@
+package io.ituknown.utils.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * java.util.Date 读写基准: 直接读写数字字符的 DateJsonSerializer/DateJsonDeserializer 与每次克隆 SimpleDateFormat 对比
+ *
+ * <p>
+ * 不随单元测试执行, 通过 IDE 运行 {@link #main(String[])}
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 20:50
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class JacksonDateBenchmark {
+
+    private final ObjectMapper objectMapper = JacksonUtils.getObjectMapper();
+
+    private final ObjectMapper simpleDateFormatMapper = JacksonDateTest.simpleDateFormatMapper();
+
+    private final JacksonDateTest.Holder holder = new JacksonDateTest.Holder();
+
+    private final String json;
+
+    public JacksonDateBenchmark() {
+        holder.setDate(new Date());
+        json = JacksonUtils.toJson(holder);
+    }
+
+    @Benchmark
+    public String serialize() throws Exception {
+        return objectMapper.writeValueAsString(holder);
+    }
+
+    @Benchmark
+    public String serializeSimpleDateFormat() throws Exception {
+        return simpleDateFormatMapper.writeValueAsString(holder);
+    }
+
+    @Benchmark
+    public Object deserialize() throws Exception {
+        return objectMapper.readValue(json, JacksonDateTest.Holder.class);
+    }
+
+    @Benchmark
+    public Object deserializeSimpleDateFormat() throws Exception {
+        return simpleDateFormatMapper.readValue(json, JacksonDateTest.Holder.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JacksonDateBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,119 @@
+package io.ituknown.utils.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import io.ituknown.utils.datetime.DateFormatUtils;
+import lombok.Data;
+import org.junit.Test;
+
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+/**
+ * java.util.Date 及其 java.sql 子类的序列化结果必须与仅设置 SimpleDateFormat 的 ObjectMapper 一致
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 20:50
+ */
+public class JacksonDateTest {
+
+    private final ObjectMapper objectMapper = JacksonUtils.getObjectMapper();
+
+    /**
+     * 未注册快速路径的对照实例, 每次读写时克隆 SimpleDateFormat
+     */
+    static ObjectMapper simpleDateFormatMapper() {
+        SerializationConfig config = JacksonUtils.getObjectMapper().getSerializationConfig();
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.setTimeZone(config.getTimeZone());
+        mapper.setDefaultPropertyInclusion(config.getDefaultPropertyInclusion());
+        mapper.setDateFormat(new SimpleDateFormat(DateFormatUtils.DATE_TIME_PATTERN));
+        return mapper;
+    }
+
+    @Test
+    public void sqlSubclassesKeepDefaultFormat() throws Exception {
+        Holder holder = new Holder();
+        holder.setTime(Time.valueOf("05:00:00"));
+        holder.setSqlDate(java.sql.Date.valueOf("2026-10-19"));
+        holder.setTimestamp(Timestamp.valueOf("2026-10-19 20:50:30.123"));
+        holder.setDate(holder.getTimestamp());
+
+        String json = objectMapper.writeValueAsString(holder);
+        assertTrue(json, json.contains("\"time\":\"05:00:00\""));
+        assertTrue(json, json.contains("\"sqlDate\":\"2026-10-19\""));
+        assertTrue(json, json.contains("\"timestamp\":\"2026-10-19 20:50:30\""));
+        assertTrue(json, json.contains("\"date\":\"2026-10-19 20:50:30\""));
+        assertEquals(simpleDateFormatMapper().writeValueAsString(holder), json);
+    }
+
+    @Test
+    public void otherDateFormatUsesDefaultSerializer() throws Exception {
+        ObjectMapper mapper = JacksonUtils.createObjectMapper(false).setDateFormat(new SimpleDateFormat("yyyy/MM/dd"));
+        // 默认时区的 1970-01-01 12:00:00
+        Date date = new Date(-TimeZone.getDefault().getOffset(0) + 12 * 60 * 60 * 1000L);
+
+        Holder holder = new Holder();
+        holder.setDate(date);
+        String json = mapper.writeValueAsString(holder);
+        assertTrue(json, json.contains("\"date\":\"1970/01/01\""));
+        assertEquals("\"1970/01/01\"", mapper.writeValueAsString(date));
+
+        assertEquals(new SimpleDateFormat("yyyy/MM/dd").parse("1970/01/01"), mapper.readValue(json, Holder.class).getDate());
+        assertEquals(date, mapper.readValue("{\"date\":" + date.getTime() + "}", Holder.class).getDate());
+    }
+
+    @Test
+    public void concurrentReadWriteMatchesSimpleDateFormat() throws Exception {
+        ObjectMapper expectedMapper = simpleDateFormatMapper();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                final long seed = i;
+                futures.add(executor.submit((Callable<Void>) () -> {
+                    Random random = new Random(seed);
+                    for (int n = 0; n < 5000; n++) {
+                        // 1000 ~ 3000 年, 覆盖快速路径不支持的儒略历日期
+                        Holder holder = new Holder();
+                        holder.setDate(new Date(-30610224000000L + (long) (random.nextDouble() * 63113904000000L)));
+
+                        String json = objectMapper.writeValueAsString(holder);
+                        assertEquals(expectedMapper.writeValueAsString(holder), json);
+                        assertEquals(expectedMapper.readValue(json, Holder.class).getDate(), objectMapper.readValue(json, Holder.class).getDate());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Data
+    public static class Holder {
+
+        private Date date;
+
+        private Time time;
+
+        private java.sql.Date sqlDate;
+
+        private Timestamp timestamp;
+    }
+}
@@ -0,0 +1,105 @@
+package io.ituknown.utils.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import lombok.Data;
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * {@link JacksonBeanNullValueSerializerModifier} 直接写入的 {@code {}}/{@code []} 必须与逐个写入结构的结果一致
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 23:25
+ */
+public class JacksonNullValueTest {
+
+    @Test
+    public void compactRawMatchesStructural() throws Exception {
+        ObjectMapper objectMapper = JacksonUtils.getObjectMapper(false);
+        String raw = objectMapper.writeValueAsString(holder());
+        assertEquals(structural(objectMapper, holder()), raw);
+        assertTrue(raw, raw.contains("\"attributes\":{},\"tags\":[],\"codes\":[]"));
+    }
+
+    @Test
+    public void prettyPrintedMatchesStructural() throws Exception {
+        ObjectMapper objectMapper = JacksonUtils.getObjectMapper(true);
+        String pretty = objectMapper.writeValueAsString(holder());
+        assertEquals(structural(objectMapper, holder()), pretty);
+        // 格式化输出走常规写法, 空结构由 PrettyPrinter 输出
+        assertTrue(pretty, pretty.contains("\"attributes\" : { }"));
+        assertTrue(pretty, pretty.contains("\"tags\" : [ ]"));
+        assertEquals(objectMapper.readTree(structural(JacksonUtils.getObjectMapper(false), holder())), objectMapper.readTree(pretty));
+    }
+
+    @Test
+    public void xmlNeverWritesRaw() {
+        String xml = JacksonXmlUtils.toXml(holder(), false);
+        // XML 生成器走常规写法, 不能混入 JSON 片段
+        assertFalse(xml, xml.contains("{}"));
+        assertFalse(xml, xml.contains("[]"));
+        assertTrue(xml, xml.contains("<attributes/>"));
+
+        NullHolder parsed = JacksonXmlUtils.toObj(xml.getBytes(StandardCharsets.UTF_8), NullHolder.class);
+        assertEquals(2, parsed.getChildren().size());
+        assertEquals("child", parsed.getChildren().get(0).getName());
+    }
+
+    @Test
+    public void tokenBufferMatchesStructural() throws Exception {
+        ObjectMapper objectMapper = JacksonUtils.getObjectMapper(false);
+        TokenBuffer buffer = new TokenBuffer(objectMapper, false);
+        objectMapper.writeValue(buffer, holder());
+        JsonNode tree = objectMapper.readTree(buffer.asParser());
+        assertEquals(objectMapper.readTree(structural(objectMapper, holder())), tree);
+        assertTrue(tree.get("attributes").isObject());
+        assertTrue(tree.get("tags").isArray());
+        assertTrue(tree.get("children").get(0).get("codes").isArray());
+
+        assertEquals(tree, objectMapper.valueToTree(holder()));
+    }
+
+    /**
+     * 通过包装生成器关闭直接写入, 得到逐个写入结构的输出
+     */
+    private static String structural(ObjectMapper objectMapper, Object value) throws Exception {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = new JsonGeneratorDelegate(objectMapper.getFactory().createGenerator(writer))) {
+            objectMapper.writeValue(generator, value);
+        }
+        return writer.toString();
+    }
+
+    private static NullHolder holder() {
+        NullHolder child = new NullHolder();
+        child.setName("child");
+        NullHolder holder = new NullHolder();
+        holder.setChildren(Arrays.asList(child, new NullHolder()));
+        return holder;
+    }
+
+    @Data
+    public static class NullHolder {
+
+        private String name;
+
+        private Map<String, Object> attributes;
+
+        private List<String> tags;
+
+        private String[] codes;
+
+        private List<NullHolder> children;
+    }
+}
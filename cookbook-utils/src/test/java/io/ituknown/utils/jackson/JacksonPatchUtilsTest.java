@@ -0,0 +1,191 @@
+package io.ituknown.utils.jackson;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ituknown.utils.exception.JsonPatchException;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.*;
+
+/**
+ * {@link JacksonPatchUtils} 测试, 用例取自 RFC 7386 附录 A 与 RFC 6902 附录 A
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 21:10
+ */
+public class JacksonPatchUtilsTest {
+
+    private final ObjectMapper objectMapper = JacksonUtils.getObjectMapper();
+
+    // ========== RFC 7386 ==========
+
+    @Test
+    public void mergePatchAppendixA() throws Exception {
+        assertMerge("{\"a\":\"b\"}", "{\"a\":\"c\"}", "{\"a\":\"c\"}");
+        assertMerge("{\"a\":\"b\"}", "{\"b\":\"c\"}", "{\"a\":\"b\",\"b\":\"c\"}");
+        assertMerge("{\"a\":\"b\"}", "{\"a\":null}", "{}");
+        assertMerge("{\"a\":\"b\",\"b\":\"c\"}", "{\"a\":null}", "{\"b\":\"c\"}");
+        assertMerge("{\"a\":[\"b\"]}", "{\"a\":\"c\"}", "{\"a\":\"c\"}");
+        assertMerge("{\"a\":\"c\"}", "{\"a\":[\"b\"]}", "{\"a\":[\"b\"]}");
+        assertMerge("{\"a\":{\"b\":\"c\"}}", "{\"a\":{\"b\":\"d\",\"c\":null}}", "{\"a\":{\"b\":\"d\"}}");
+        assertMerge("{\"a\":[{\"b\":\"c\"}]}", "{\"a\":[1]}", "{\"a\":[1]}");
+        assertMerge("[\"a\",\"b\"]", "[\"c\",\"d\"]", "[\"c\",\"d\"]");
+        assertMerge("{\"a\":\"b\"}", "[\"c\"]", "[\"c\"]");
+        assertMerge("{\"a\":\"foo\"}", "null", "null");
+        assertMerge("{\"a\":\"foo\"}", "\"bar\"", "\"bar\"");
+        assertMerge("{\"e\":null}", "{\"a\":1}", "{\"e\":null,\"a\":1}");
+        assertMerge("[1,2]", "{\"a\":\"b\",\"c\":null}", "{\"a\":\"b\"}");
+        assertMerge("{}", "{\"a\":{\"bb\":{\"ccc\":null}}}", "{\"a\":{\"bb\":{}}}");
+    }
+
+    @Test
+    public void mergePatchKeepsUntouchedNumbersVerbatim() {
+        String json = JacksonPatchUtils.mergePatch("{\"price\":1.10,\"big\":12345678901234567890.000,\"status\":1}", "{\"status\":2}");
+        assertEquals("{\"price\":1.10,\"big\":12345678901234567890.000,\"status\":2}", json);
+    }
+
+    @Test
+    public void mergePatchStream() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JacksonPatchUtils.mergePatch(new ByteArrayInputStream("{\"a\":{\"b\":1},\"c\":2}".getBytes(StandardCharsets.UTF_8)),
+                objectMapper.readTree("{\"a\":{\"b\":null,\"d\":3}}"), out);
+        assertEquals(tree("{\"a\":{\"d\":3},\"c\":2}"), tree(new String(out.toByteArray(), StandardCharsets.UTF_8)));
+    }
+
+    // ========== RFC 6902 ==========
+
+    @Test
+    public void add() throws Exception {
+        assertPatch("{\"foo\":\"bar\"}", "[{\"op\":\"add\",\"path\":\"/baz\",\"value\":\"qux\"}]", "{\"baz\":\"qux\",\"foo\":\"bar\"}");
+        assertPatch("{\"foo\":[\"bar\",\"baz\"]}", "[{\"op\":\"add\",\"path\":\"/foo/1\",\"value\":\"qux\"}]", "{\"foo\":[\"bar\",\"qux\",\"baz\"]}");
+        assertPatch("{\"foo\":\"bar\"}", "[{\"op\":\"add\",\"path\":\"/child\",\"value\":{\"grandchild\":{}}}]", "{\"foo\":\"bar\",\"child\":{\"grandchild\":{}}}");
+        assertPatch("{\"foo\":[\"bar\"]}", "[{\"op\":\"add\",\"path\":\"/foo/-\",\"value\":[\"abc\",\"def\"]}]", "{\"foo\":[\"bar\",[\"abc\",\"def\"]]}");
+        // 目标已存在时替换
+        assertPatch("{\"foo\":\"bar\"}", "[{\"op\":\"add\",\"path\":\"/foo\",\"value\":1}]", "{\"foo\":1}");
+        // 替换整个文档
+        assertPatch("{\"foo\":\"bar\"}", "[{\"op\":\"add\",\"path\":\"\",\"value\":[1]}]", "[1]");
+        // 父节点不存在
+        assertPatchFails("{\"foo\":\"bar\"}", "[{\"op\":\"add\",\"path\":\"/baz/bat\",\"value\":\"qux\"}]");
+    }
+
+    @Test
+    public void remove() throws Exception {
+        assertPatch("{\"baz\":\"qux\",\"foo\":\"bar\"}", "[{\"op\":\"remove\",\"path\":\"/baz\"}]", "{\"foo\":\"bar\"}");
+        assertPatch("{\"foo\":[\"bar\",\"qux\",\"baz\"]}", "[{\"op\":\"remove\",\"path\":\"/foo/1\"}]", "{\"foo\":[\"bar\",\"baz\"]}");
+        assertPatchFails("{\"foo\":\"bar\"}", "[{\"op\":\"remove\",\"path\":\"/baz\"}]");
+        assertPatchFails("{\"foo\":\"bar\"}", "[{\"op\":\"remove\",\"path\":\"\"}]");
+    }
+
+    @Test
+    public void replace() throws Exception {
+        assertPatch("{\"baz\":\"qux\",\"foo\":\"bar\"}", "[{\"op\":\"replace\",\"path\":\"/baz\",\"value\":\"boo\"}]", "{\"baz\":\"boo\",\"foo\":\"bar\"}");
+        assertPatch("{\"foo\":[1,2]}", "[{\"op\":\"replace\",\"path\":\"/foo/0\",\"value\":3}]", "{\"foo\":[3,2]}");
+        assertPatchFails("{\"foo\":\"bar\"}", "[{\"op\":\"replace\",\"path\":\"/baz\",\"value\":\"boo\"}]");
+    }
+
+    @Test
+    public void move() throws Exception {
+        assertPatch("{\"foo\":{\"bar\":\"baz\",\"waldo\":\"fred\"},\"qux\":{\"corge\":\"grault\"}}",
+                "[{\"op\":\"move\",\"from\":\"/foo/waldo\",\"path\":\"/qux/thud\"}]",
+                "{\"foo\":{\"bar\":\"baz\"},\"qux\":{\"corge\":\"grault\",\"thud\":\"fred\"}}");
+        assertPatch("{\"foo\":[\"all\",\"grass\",\"cows\",\"eat\"]}",
+                "[{\"op\":\"move\",\"from\":\"/foo/1\",\"path\":\"/foo/3\"}]",
+                "{\"foo\":[\"all\",\"cows\",\"eat\",\"grass\"]}");
+        assertPatch("{\"foo\":1}", "[{\"op\":\"move\",\"from\":\"/foo\",\"path\":\"/foo\"}]", "{\"foo\":1}");
+        assertPatchFails("{\"foo\":{\"bar\":1}}", "[{\"op\":\"move\",\"from\":\"/foo\",\"path\":\"/foo/bar/baz\"}]");
+        assertPatchFails("{\"foo\":1}", "[{\"op\":\"move\",\"from\":\"/bar\",\"path\":\"/baz\"}]");
+    }
+
+    @Test
+    public void copy() throws Exception {
+        assertPatch("{\"foo\":{\"bar\":[1]}}", "[{\"op\":\"copy\",\"from\":\"/foo/bar\",\"path\":\"/baz\"},{\"op\":\"add\",\"path\":\"/baz/-\",\"value\":2}]",
+                "{\"foo\":{\"bar\":[1]},\"baz\":[1,2]}");
+        assertPatchFails("{\"foo\":1}", "[{\"op\":\"copy\",\"from\":\"/bar\",\"path\":\"/baz\"}]");
+    }
+
+    @Test
+    public void test() throws Exception {
+        assertPatch("{\"baz\":\"qux\",\"foo\":[\"a\",2,\"c\"]}",
+                "[{\"op\":\"test\",\"path\":\"/baz\",\"value\":\"qux\"},{\"op\":\"test\",\"path\":\"/foo/1\",\"value\":2}]",
+                "{\"baz\":\"qux\",\"foo\":[\"a\",2,\"c\"]}");
+        assertPatchFails("{\"baz\":\"qux\"}", "[{\"op\":\"test\",\"path\":\"/baz\",\"value\":\"bar\"}]");
+        assertPatchFails("{\"baz\":\"qux\"}", "[{\"op\":\"test\",\"path\":\"/bar\",\"value\":null}]");
+        assertPatch("{\"baz\":null}", "[{\"op\":\"test\",\"path\":\"/baz\",\"value\":null}]", "{\"baz\":null}");
+    }
+
+    @Test
+    public void testComparesNumbersByValue() throws Exception {
+        String json = "{\"n\":1,\"d\":1.10,\"e\":100,\"a\":[1,{\"x\":2.0}]}";
+        assertPatch(json, "[{\"op\":\"test\",\"path\":\"/n\",\"value\":1.0}]", json);
+        assertPatch(json, "[{\"op\":\"test\",\"path\":\"/d\",\"value\":1.1}]", json);
+        assertPatch(json, "[{\"op\":\"test\",\"path\":\"/e\",\"value\":1e2}]", json);
+        assertPatch(json, "[{\"op\":\"test\",\"path\":\"/a\",\"value\":[1.0,{\"x\":2}]}]", json);
+        assertPatchFails(json, "[{\"op\":\"test\",\"path\":\"/n\",\"value\":1.5}]");
+        assertPatchFails(json, "[{\"op\":\"test\",\"path\":\"/n\",\"value\":\"1\"}]");
+    }
+
+    @Test
+    public void pointerEscapes() throws Exception {
+        String json = "{\"a/b\":1,\"m~n\":2,\"~1\":3}";
+        assertPatch(json, "[{\"op\":\"replace\",\"path\":\"/a~1b\",\"value\":10}]", "{\"a/b\":10,\"m~n\":2,\"~1\":3}");
+        assertPatch(json, "[{\"op\":\"replace\",\"path\":\"/m~0n\",\"value\":20}]", "{\"a/b\":1,\"m~n\":20,\"~1\":3}");
+        // ~01 解码为 ~1 而不是 /
+        assertPatch(json, "[{\"op\":\"remove\",\"path\":\"/~01\"}]", "{\"a/b\":1,\"m~n\":2}");
+        assertPatch("{\"\":{\" \":1}}", "[{\"op\":\"add\",\"path\":\"/ \",\"value\":0},{\"op\":\"test\",\"path\":\"/\",\"value\":{\" \":1}}]",
+                "{\"\":{\" \":1},\" \":0}");
+        assertPatchFails(json, "[{\"op\":\"remove\",\"path\":\"a~1b\"}]");
+        assertPatchFails(json, "[{\"op\":\"remove\",\"path\":\"/m~2n\"}]");
+    }
+
+    @Test
+    public void arrayBounds() throws Exception {
+        String json = "{\"foo\":[\"a\",\"b\"]}";
+        assertPatch(json, "[{\"op\":\"add\",\"path\":\"/foo/2\",\"value\":\"c\"}]", "{\"foo\":[\"a\",\"b\",\"c\"]}");
+        assertPatchFails(json, "[{\"op\":\"add\",\"path\":\"/foo/3\",\"value\":\"c\"}]");
+        assertPatchFails(json, "[{\"op\":\"remove\",\"path\":\"/foo/2\"}]");
+        assertPatchFails(json, "[{\"op\":\"replace\",\"path\":\"/foo/-\",\"value\":\"c\"}]");
+        assertPatchFails(json, "[{\"op\":\"remove\",\"path\":\"/foo/01\"}]");
+        assertPatchFails(json, "[{\"op\":\"remove\",\"path\":\"/foo/-1\"}]");
+        assertPatchFails(json, "[{\"op\":\"test\",\"path\":\"/foo/2\",\"value\":\"c\"}]");
+    }
+
+    @Test
+    public void invalidPatch() {
+        assertPatchFails("{}", "{\"op\":\"add\",\"path\":\"/a\",\"value\":1}");
+        assertPatchFails("{}", "[{\"op\":\"unknown\",\"path\":\"/a\"}]");
+        assertPatchFails("{}", "[{\"op\":\"add\",\"path\":\"/a\"}]");
+        assertPatchFails("{}", "[{\"op\":\"move\",\"path\":\"/a\"}]");
+    }
+
+    @Test
+    public void jsonPatchBytes() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JacksonPatchUtils.jsonPatch("{\"foo\":[1,2],\"bar\":1.50}".getBytes(StandardCharsets.UTF_8),
+                objectMapper.readTree("[{\"op\":\"remove\",\"path\":\"/foo/0\"}]"), out);
+        assertEquals("{\"foo\":[2],\"bar\":1.50}", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    private void assertMerge(String json, String patch, String expected) throws Exception {
+        assertEquals(json + " + " + patch, tree(expected), tree(JacksonPatchUtils.mergePatch(json, patch)));
+    }
+
+    private void assertPatch(String json, String patch, String expected) throws Exception {
+        assertEquals(json + " + " + patch, tree(expected), tree(JacksonPatchUtils.jsonPatch(json, patch)));
+    }
+
+    private static void assertPatchFails(String json, String patch) {
+        try {
+            fail(JacksonPatchUtils.jsonPatch(json, patch));
+        } catch (JsonPatchException expected) {
+            // expected
+        }
+    }
+
+    private JsonNode tree(String json) throws Exception {
+        return objectMapper.readTree(json);
+    }
+}
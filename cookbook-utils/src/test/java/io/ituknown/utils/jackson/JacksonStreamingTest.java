@@ -0,0 +1,155 @@
+package io.ituknown.utils.jackson;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+/**
+ * {@link JacksonUtils#readArray}/{@link JacksonUtils#readArrayIterator}/{@link JacksonUtils#writeArray} 流式读写测试
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 22:40
+ */
+public class JacksonStreamingTest {
+
+    @Test
+    public void readArrayUnwrapsRootArray() {
+        TrackingInputStream input = input("[{\"id\":1,\"name\":\"a\"},{\"id\":2},{\"id\":3,\"unknown\":true}]");
+        try (Stream<JacksonCodecTest.User> users = JacksonUtils.readArray(input, JacksonCodecTest.User.class)) {
+            List<Long> ids = users.map(JacksonCodecTest.User::getId).collect(Collectors.toList());
+            assertEquals(Arrays.asList(1L, 2L, 3L), ids);
+        }
+        assertTrue(input.closed);
+    }
+
+    @Test
+    public void readArrayIteratorIsLazy() throws IOException {
+        TrackingInputStream input = input("[1,2,\"x\",4]");
+        MappingIterator<Integer> iterator = JacksonUtils.readArrayIterator(input, Integer.class);
+        assertEquals(Integer.valueOf(1), iterator.next());
+        assertEquals(Integer.valueOf(2), iterator.next());
+        // 只有读到第三个元素时才会报错, 前面的元素已正常返回
+        try {
+            iterator.nextValue();
+            fail("invalid element should fail");
+        } catch (IOException expected) {
+            // expected
+        }
+        iterator.close();
+        assertTrue(input.closed);
+    }
+
+    @Test
+    public void emptyArrayAndEmptyInput() {
+        try (Stream<Integer> values = JacksonUtils.readArray(input("[]"), Integer.class)) {
+            assertEquals(0, values.count());
+        }
+        try (Stream<Integer> values = JacksonUtils.readArray(input(""), Integer.class)) {
+            assertEquals(0, values.count());
+        }
+    }
+
+    @Test
+    public void nonArrayRootIsReadAsValueSequence() {
+        // 根节点不是数组时按根级别的值序列读取: 单个对象得到一个元素, 以空白分隔的多个对象逐个返回
+        try (Stream<JacksonCodecTest.User> users = JacksonUtils.readArray(input("{\"id\":1}"), JacksonCodecTest.User.class)) {
+            assertEquals(Collections.singletonList(1L), users.map(JacksonCodecTest.User::getId).collect(Collectors.toList()));
+        }
+        try (Stream<JacksonCodecTest.User> users = JacksonUtils.readArray(input("{\"id\":1} {\"id\":2}"), JacksonCodecTest.User.class)) {
+            assertEquals(Arrays.asList(1L, 2L), users.map(JacksonCodecTest.User::getId).collect(Collectors.toList()));
+        }
+        // 根节点为标量而元素类型为对象时在读取时失败
+        try (Stream<JacksonCodecTest.User> users = JacksonUtils.readArray(input("1"), JacksonCodecTest.User.class)) {
+            users.count();
+            fail("scalar root should fail");
+        } catch (RuntimeException expected) {
+            // expected
+        }
+    }
+
+    @Test
+    public void closingStreamClosesParserAndInput() {
+        TrackingInputStream input = input("[1,2,3,4,5]");
+        Stream<Integer> values = JacksonUtils.readArray(input, Integer.class);
+        Iterator<Integer> iterator = values.iterator();
+        assertEquals(Integer.valueOf(1), iterator.next());
+        assertFalse(input.closed);
+
+        values.close();
+        assertTrue(input.closed);
+        // 解析器已关闭, 不再返回剩余元素
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void writeArrayLeavesStreamOpenAndCountsElements() throws IOException {
+        TrackingOutputStream output = new TrackingOutputStream();
+        List<JacksonCodecTest.User> users = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            users.add(JacksonCodecTest.user());
+        }
+        assertEquals(3L, JacksonUtils.writeArray(output, users.iterator()));
+        assertFalse(output.closed);
+        assertEquals(JacksonUtils.toJson(users), new String(output.toByteArray(), StandardCharsets.UTF_8));
+
+        // 调用方可以继续写入
+        output.write('\n');
+        assertEquals(0L, JacksonUtils.writeArray(output, Collections.emptyIterator()));
+        assertTrue(new String(output.toByteArray(), StandardCharsets.UTF_8).endsWith("\n[]"));
+        assertFalse(output.closed);
+    }
+
+    @Test
+    public void writeThenReadLargeArray() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long count = JacksonUtils.writeArray(output, IntStream.range(0, 10000).iterator());
+        assertEquals(10000L, count);
+        try (Stream<Integer> values = JacksonUtils.readArray(new ByteArrayInputStream(output.toByteArray()), Integer.class)) {
+            assertEquals(49995000L, values.mapToLong(Integer::longValue).sum());
+        }
+    }
+
+    private static TrackingInputStream input(String json) {
+        return new TrackingInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class TrackingInputStream extends ByteArrayInputStream {
+
+        private boolean closed;
+
+        TrackingInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+
+    private static final class TrackingOutputStream extends ByteArrayOutputStream {
+
+        private boolean closed;
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+}
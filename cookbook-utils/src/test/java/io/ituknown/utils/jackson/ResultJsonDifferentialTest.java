@@ -0,0 +1,345 @@
+package io.ituknown.utils.jackson;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import io.ituknown.utils.datetime.DateFormatUtils;
+import io.ituknown.utils.jackson.deserializer.ResultJsonDeserializer;
+import io.ituknown.utils.jackson.serializer.BigDecimalAsStringJsonSerializer;
+import io.ituknown.utils.jackson.serializer.ResultJsonSerializer;
+import io.ituknown.utils.result.PageResult;
+import io.ituknown.utils.result.Result;
+import lombok.Data;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+
+import static org.junit.Assert.*;
+
+/**
+ * {@link ResultJsonSerializer}/{@link ResultJsonDeserializer} 差分测试: 与未注册专用序列化器的默认 Bean 路径逐字节对比
+ *
+ * @author magicianlib@gmail.com
+ * @since 2026/10/19 21:50
+ */
+public class ResultJsonDifferentialTest {
+
+    private static final TypeReference<Result<Item>> ITEM_RESULT = new TypeReference<Result<Item>>() {
+    };
+
+    private static final TypeReference<PageResult<Item>> ITEM_PAGE = new TypeReference<PageResult<Item>>() {
+    };
+
+    private static final TypeReference<Result<Object>> OBJECT_RESULT = new TypeReference<Result<Object>>() {
+    };
+
+    private final ObjectMapper mapper = JacksonUtils.getObjectMapper();
+
+    private final ObjectMapper baseline = baselineMapper(false);
+
+    /**
+     * 与 JacksonUtils 相同的配置, 但不调用 {@link JacksonConfig#configureResult(ObjectMapper)}
+     */
+    private static ObjectMapper baselineMapper(boolean format) {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.configure(SerializationFeature.INDENT_OUTPUT, format);
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        mapper.setTimeZone(TimeZone.getDefault());
+        mapper.configure(MapperFeature.PROPAGATE_TRANSIENT_MARKER, true);
+        mapper.setDateFormat(new SimpleDateFormat(DateFormatUtils.DATE_TIME_PATTERN));
+        JacksonConfig.configureDate(mapper);
+        JacksonConfig.configureObjectMapper4Jsr310(mapper);
+        JacksonConfig.configureNullObject(mapper);
+        JacksonConfig.registerModule(mapper, BigDecimal.class, new BigDecimalAsStringJsonSerializer());
+        return mapper;
+    }
+
+    @Test
+    public void fastPathIsRegistered() throws Exception {
+        assertTrue(serializer(mapper, Result.class) instanceof ResultJsonSerializer);
+        assertTrue(serializer(mapper, PageResult.class) instanceof ResultJsonSerializer);
+        assertFalse(serializer(baseline, Result.class) instanceof ResultJsonSerializer);
+        assertTrue(deserializer(mapper, ITEM_RESULT) instanceof ResultJsonDeserializer);
+        assertTrue(deserializer(mapper, ITEM_PAGE) instanceof ResultJsonDeserializer);
+        assertFalse(deserializer(baseline, ITEM_RESULT) instanceof ResultJsonDeserializer);
+    }
+
+    private static Object serializer(ObjectMapper objectMapper, Class<?> type) throws Exception {
+        return objectMapper.getSerializerProviderInstance().findValueSerializer(type);
+    }
+
+    private static Object deserializer(ObjectMapper objectMapper, TypeReference<?> type) throws Exception {
+        DefaultDeserializationContext context = ((DefaultDeserializationContext) objectMapper.getDeserializationContext())
+                .createInstance(objectMapper.getDeserializationConfig(), null, null);
+        return context.findRootValueDeserializer(objectMapper.getTypeFactory().constructType(type));
+    }
+
+    // ========== 序列化 ==========
+
+    @Test
+    public void serializeResult() throws Exception {
+        assertSameJson(new Result<>());
+        assertSameJson(result(200, "ok", "text"));
+        assertSameJson(result(-1, null, null));
+        assertSameJson(result(Integer.MIN_VALUE, "", 42));
+        assertSameJson(result(0, "\"quoted\" \\ 中文 \u0001 😀 </script>", new BigDecimal("1.10")));
+        assertSameJson(result(0, "date", new Date(1760000000000L)));
+        assertSameJson(result(0, "time", LocalDateTime.of(2026, 10, 19, 21, 50, 1)));
+        assertSameJson(result(0, "bean", item(1)));
+        assertSameJson(result(0, "empty bean", new Item()));
+        assertSameJson(result(0, "list", Arrays.asList(item(1), null, new Item())));
+        assertSameJson(result(0, "map", map("a", item(2), "b", null)));
+        assertSameJson(result(0, "array", new int[]{1, 2, 3}));
+        assertSameJson(result(0, "nested", result(1, null, page(3))));
+        // 声明类型为 Object, 运行时为子类
+        assertSameJson(result(0, "subclass", new SpecialItem()));
+    }
+
+    @Test
+    public void serializePageResult() throws Exception {
+        assertSameJson(new PageResult<Item>());
+        assertSameJson(page(0));
+        assertSameJson(page(5));
+        PageResult<Item> nullData = new PageResult<>(null);
+        nullData.setMessage(null);
+        assertSameJson(nullData);
+    }
+
+    @Test
+    public void serializeResultInsideContainers() throws Exception {
+        Wrapper wrapper = new Wrapper();
+        wrapper.setResult(result(1, "inner", item(3)));
+        wrapper.setPage(page(2));
+        wrapper.setResults(Arrays.asList(result(2, null, null), page(1)));
+        assertSameJson(wrapper);
+        assertSameJson(new Wrapper());
+        assertSameJson(Collections.singletonMap("result", result(3, "map", null)));
+    }
+
+    @Test
+    public void serializeResultSubclassAndView() throws Exception {
+        CustomResult custom = new CustomResult(item(4));
+        custom.setTraceId("trace");
+        assertSameJson(custom);
+
+        Result<Item> result = result(5, "view", item(5));
+        assertEquals(baseline.writerWithView(Views.Public.class).writeValueAsString(result), mapper.writerWithView(Views.Public.class).writeValueAsString(result));
+    }
+
+    @Test
+    public void serializeFormattedAndAccelerated() throws Exception {
+        ObjectMapper formattedBaseline = baselineMapper(true);
+        ObjectMapper acceleratedBaseline = baselineMapper(false);
+        JacksonConfig.configureAccelerator(acceleratedBaseline);
+        for (Object value : new Object[]{result(0, null, item(1)), page(3), new Result<>()}) {
+            assertArrayEquals(formattedBaseline.writeValueAsBytes(value), JacksonUtils.getObjectMapper(true).writeValueAsBytes(value));
+            assertArrayEquals(acceleratedBaseline.writeValueAsBytes(value), JacksonUtils.getAcceleratedObjectMapper().writeValueAsBytes(value));
+        }
+    }
+
+    // ========== 反序列化 ==========
+
+    @Test
+    public void deserializeResult() throws Exception {
+        assertSameValue("{}", ITEM_RESULT);
+        assertSameValue("{\"code\":200,\"message\":\"ok\",\"data\":{\"id\":1,\"name\":\"a\",\"price\":\"1.10\"}}", ITEM_RESULT);
+        assertSameValue("{\"data\":{\"id\":1},\"message\":\"reordered\",\"code\":-5}", ITEM_RESULT);
+        assertSameValue("{\"code\":null,\"message\":null,\"data\":null}", ITEM_RESULT);
+        assertSameValue("{\"code\":\"201\",\"message\":7}", ITEM_RESULT);
+        assertSameValue("{\"code\":1.0}", ITEM_RESULT);
+        assertSameValue("{\"code\":1,\"unknown\":{\"x\":[1,2]},\"page\":3}", ITEM_RESULT);
+        assertSameValue("{\"code\":1,\"code\":2}", ITEM_RESULT);
+        assertSameValue("null", ITEM_RESULT);
+        assertSameValue("{\"data\":[1,\"a\",{\"b\":null}]}", OBJECT_RESULT);
+        assertSameValue("{\"data\":{\"code\":3,\"data\":{\"id\":9}}}", new TypeReference<Result<Result<Item>>>() {
+        });
+    }
+
+    @Test
+    public void deserializePageResult() throws Exception {
+        assertSameValue("{}", ITEM_PAGE);
+        assertSameValue("{\"code\":0,\"data\":[{\"id\":1},null,{}],\"page\":2,\"pageSize\":10,\"totalRecords\":11}", ITEM_PAGE);
+        assertSameValue("{\"totalRecords\":\"5\",\"data\":null,\"page\":null}", ITEM_PAGE);
+        assertSameValue("{\"data\":[],\"extra\":true}", ITEM_PAGE);
+    }
+
+    @Test
+    public void deserializeInvalidInputFailsTheSameWay() throws Exception {
+        assertSameFailure("[]", ITEM_RESULT);
+        assertSameFailure("\"text\"", ITEM_RESULT);
+        assertSameFailure("{\"code\":\"abc\"}", ITEM_RESULT);
+        assertSameFailure("{\"code\":12345678901}", ITEM_RESULT);
+        assertSameFailure("{\"code\":{}}", ITEM_RESULT);
+        assertSameFailure("{\"data\":{\"id\":\"x\"}}", ITEM_RESULT);
+        assertSameFailure("{\"page\":[1]}", ITEM_PAGE);
+        assertSameFailure("{\"data\":{}}", ITEM_PAGE);
+
+        ObjectMapper strict = JacksonUtils.createObjectMapper(false).enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        ObjectMapper strictBaseline = baselineMapper(false).enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        assertSameFailure("{\"code\":1,\"unknown\":1}", ITEM_RESULT, strict, strictBaseline);
+        assertSameFailure("{\"page\":1}", ITEM_RESULT, strict, strictBaseline);
+    }
+
+    @Test
+    public void roundTrip() throws Exception {
+        PageResult<Item> page = page(4);
+        String json = mapper.writeValueAsString(page);
+        assertEquals(baseline.writeValueAsString(baseline.readValue(json, ITEM_PAGE)), baseline.writeValueAsString(mapper.readValue(json, ITEM_PAGE)));
+    }
+
+    private void assertSameJson(Object value) throws Exception {
+        assertEquals(baseline.writeValueAsString(value), mapper.writeValueAsString(value));
+        assertArrayEquals(baseline.writeValueAsBytes(value), mapper.writeValueAsBytes(value));
+    }
+
+    private void assertSameValue(String json, TypeReference<?> type) throws Exception {
+        JavaType javaType = mapper.getTypeFactory().constructType(type);
+        Object expected = baseline.readValue(json, javaType);
+        Object actual = mapper.readValue(json, javaType);
+        if (expected == null) {
+            assertNull(json, actual);
+            return;
+        }
+        assertSame(json, expected.getClass(), actual.getClass());
+        Object expectedData = ((Result<?>) expected).getData();
+        Object actualData = ((Result<?>) actual).getData();
+        assertEquals(json, expectedData == null ? null : expectedData.getClass(), actualData == null ? null : actualData.getClass());
+        // 以默认 Bean 路径写出对比全部字段
+        assertEquals(json, baseline.writeValueAsString(expected), baseline.writeValueAsString(actual));
+    }
+
+    private void assertSameFailure(String json, TypeReference<?> type) {
+        assertSameFailure(json, type, mapper, baseline);
+    }
+
+    private static void assertSameFailure(String json, TypeReference<?> type, ObjectMapper mapper, ObjectMapper baseline) {
+        Exception expected = failure(json, type, baseline);
+        Exception actual = failure(json, type, mapper);
+        assertNotNull(json, expected);
+        assertNotNull(json, actual);
+        assertEquals(json, expected.getClass(), actual.getClass());
+        assertEquals(json, expected.getMessage(), actual.getMessage());
+    }
+
+    private static Exception failure(String json, TypeReference<?> type, ObjectMapper mapper) {
+        try {
+            mapper.readValue(json, type);
+            return null;
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    private static <T> Result<T> result(int code, String message, T data) {
+        Result<T> result = new Result<>(data);
+        result.setCode(code);
+        result.setMessage(message);
+        return result;
+    }
+
+    private static PageResult<Item> page(int size) {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            items.add(i % 2 == 0 ? item(i) : new Item());
+        }
+        PageResult<Item> page = new PageResult<>(items);
+        page.setCode(200);
+        page.setMessage(size == 0 ? null : "page");
+        page.setPage(1);
+        page.setPageSize(size);
+        page.setTotalRecords(size * 3);
+        return page;
+    }
+
+    private static Item item(int id) {
+        Item item = new Item();
+        item.setId((long) id);
+        item.setName("item-" + id);
+        item.setPrice(new BigDecimal(id).movePointLeft(2));
+        item.setTags(Arrays.asList("a", "b"));
+        return item;
+    }
+
+    private static Map<String, Object> map(Object... keyValues) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            map.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return map;
+    }
+
+    interface Views {
+
+        interface Public {
+        }
+    }
+
+    @Data
+    public static class Item {
+
+        @JsonView(Views.Public.class)
+        private Long id;
+
+        private String name;
+
+        private BigDecimal price;
+
+        private Boolean enabled;
+
+        private List<String> tags;
+
+        private Map<String, Object> attributes;
+    }
+
+    @Data
+    public static class SpecialItem {
+
+        private String special = "yes";
+
+        private Integer level;
+    }
+
+    @Data
+    public static class Wrapper {
+
+        private Result<Item> result;
+
+        private PageResult<Item> page;
+
+        private List<Result<?>> results;
+    }
+
+    public static class CustomResult extends Result<Item> {
+
+        private String traceId;
+
+        public CustomResult(Item data) {
+            super(data);
+        }
+
+        public String getTraceId() {
+            return traceId;
+        }
+
+        public void setTraceId(String traceId) {
+            this.traceId = traceId;
+        }
+    }
+}